@@ -1,7 +1,6 @@
 package api.buyer.login;
 
 import api.seller.login.APISellerLogin;
-import utility.APIUtils;
 
 /**
  * Handles the login process for buyers by extending the seller login functionality.
@@ -10,14 +9,13 @@ public class APIBuyerLogin extends APISellerLogin {
 
     /**
      * Retrieves the login information for a buyer.
+     * The login is cached in the shared token store under the buyer account type.
      *
      * @param credentials the buyer's login credentials
      * @return the buyer's LoginInformation object
      */
     public LoginInformation getBuyerInformation(Credentials credentials) {
-        // Perform buyer login using the API and return the login information
-        return new APIUtils().post("/api/authenticate/mobile", null, credentials)
-                .then().statusCode(200)
-                .extract().as(LoginInformation.class);
+        // Perform buyer login using the API (or reuse the cached login) and return the login information
+        return getLoginInformation(credentials, AccountType.BUYER);
     }
 }
@@ -7,14 +7,22 @@ import lombok.Data;
 import org.apache.logging.log4j.LogManager;
 import utility.APIUtils;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles retrieval of discount campaign information for a product.
  */
 public class APIGetCampaignInformation {
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
+
+    // Campaign checks already sent by this instance, empty when the pair has no campaign
+    private final Map<CacheKey, Optional<CampaignInformation>> cachedCampaigns = new ConcurrentHashMap<>();
 
     /**
      * Constructs an APIGetDiscountCampaignInformation instance.
@@ -22,6 +30,7 @@ public class APIGetCampaignInformation {
      * @param credentials the seller's API credentials
      */
     public APIGetCampaignInformation(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
     /**
@@ -62,14 +71,30 @@ public class APIGetCampaignInformation {
     }
 
     /**
-     * Creates a payload for the discount campaign check.
+     * Identifies a product in a branch.
      *
      * @param itemId   the item ID
      * @param branchId the branch ID
+     */
+    public record ItemBranch(int itemId, int branchId) {
+    }
+
+    /**
+     * Identifies a cached campaign check.
+     */
+    private record CacheKey(int customerId, ItemBranch itemBranch) {
+    }
+
+    /**
+     * Creates a payload for the discount campaign check.
+     *
+     * @param itemBranches the items and branches to check
      * @return a CheckPayload containing the item and branch IDs
      */
-    private CheckPayload getPayload(int itemId, int branchId) {
-        return new CheckPayload(List.of(new CheckPayload.Item(itemId, branchId)));
+    private CheckPayload getPayload(Collection<ItemBranch> itemBranches) {
+        return new CheckPayload(itemBranches.stream()
+                .map(itemBranch -> new CheckPayload.Item(itemBranch.itemId(), itemBranch.branchId()))
+                .toList());
     }
 
     /**
@@ -81,13 +106,54 @@ public class APIGetCampaignInformation {
      * @return CampaignInformation if available, otherwise null
      */
     public CampaignInformation getDiscountCampaignInformation(int itemId, int branchId, int customerId) {
+        ItemBranch itemBranch = new ItemBranch(itemId, branchId);
+        return getDiscountCampaignInformation(List.of(itemBranch), customerId).get(itemBranch);
+    }
+
+    /**
+     * Retrieves discount campaign information for several items and branches at once.
+     * <p>
+     * Results are cached by this instance, so only the pairs not checked yet for the customer
+     * are sent, in a single request. Callers keep one instance per test and pass all branches
+     * of a product on the first call, so later branch and variation checks do not send any request.
+     *
+     * @param itemBranches the items and branches to check
+     * @param customerId   the customer ID
+     * @return the campaign information keyed by item and branch; pairs without a campaign are absent
+     */
+    public Map<ItemBranch, CampaignInformation> getDiscountCampaignInformation(Collection<ItemBranch> itemBranches, int customerId) {
+        // Only request the pairs that are not cached yet
+        List<ItemBranch> missingItemBranches = itemBranches.stream()
+                .distinct()
+                .filter(itemBranch -> !cachedCampaigns.containsKey(new CacheKey(customerId, itemBranch)))
+                .toList();
+        if (!missingItemBranches.isEmpty()) {
+            Map<ItemBranch, CampaignInformation> campaigns = fetchDiscountCampaignInformation(missingItemBranches, customerId);
+            missingItemBranches.forEach(itemBranch ->
+                    cachedCampaigns.put(new CacheKey(customerId, itemBranch), Optional.ofNullable(campaigns.get(itemBranch))));
+        }
+
+        Map<ItemBranch, CampaignInformation> result = new HashMap<>();
+        itemBranches.forEach(itemBranch -> cachedCampaigns.get(new CacheKey(customerId, itemBranch))
+                .ifPresent(campaign -> result.put(itemBranch, campaign)));
+        return result;
+    }
+
+    /**
+     * Sends a single discount campaign check for the given items and branches.
+     *
+     * @param itemBranches the items and branches to check
+     * @param customerId   the customer ID
+     * @return the campaign information keyed by item and branch
+     */
+    private Map<ItemBranch, CampaignInformation> fetchDiscountCampaignInformation(List<ItemBranch> itemBranches, int customerId) {
         // Logger
-        LogManager.getLogger().info("Get discount campaign information, itemId: {}, branchId: {}, customerId: {}", itemId, branchId, customerId);
+        LogManager.getLogger().info("Get discount campaign information, items: {}, customerId: {}", itemBranches, customerId);
 
         List<CampaignInformation> campaignInformationList = new APIUtils().post(
                         "/orderservices2/api/check-product-branch-wholesale/%d/%d".formatted(loginInfo.getStore().getId(), customerId),
-                        loginInfo.getAccessToken(),
-                        getPayload(itemId, branchId),
+                        new APISellerLogin().getAccessToken(credentials),
+                        getPayload(itemBranches),
                         Map.of("platform", "ANDROID")
                 )
                 .then()
@@ -96,6 +162,10 @@ public class APIGetCampaignInformation {
                 .jsonPath()
                 .getList(".", CampaignInformation.class);
 
-        return campaignInformationList.isEmpty() ? null : campaignInformationList.getFirst();
+        // Keep the first campaign returned for each pair
+        Map<ItemBranch, CampaignInformation> campaigns = new HashMap<>();
+        campaignInformationList.forEach(campaign ->
+                campaigns.putIfAbsent(new ItemBranch(campaign.getProductId(), campaign.getBranchId()), campaign));
+        return campaigns;
     }
 }
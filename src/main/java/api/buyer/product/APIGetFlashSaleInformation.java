@@ -13,7 +13,7 @@ import java.util.List;
  * Handles retrieval of flash sale information for products.
  */
 public class APIGetFlashSaleInformation {
-    private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an APIGetFlashSaleInformation instance.
@@ -21,7 +21,7 @@ public class APIGetFlashSaleInformation {
      * @param credentials the seller's API credentials
      */
     public APIGetFlashSaleInformation(APISellerLogin.Credentials credentials) {
-        this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
+        this.credentials = credentials;
     }
 
     /**
@@ -64,7 +64,7 @@ public class APIGetFlashSaleInformation {
         String apiPath = "/itemservice/api/campaigns/product/%d?modelId=%s".formatted(itemId, modelId != null ? modelId : "");
 
         // Get response
-        Response response = new APIUtils().get(apiPath, loginInfo.getAccessToken())
+        Response response = new APIUtils().get(apiPath, new APISellerLogin().getAccessToken(credentials))
                 .then()
                 .statusCode(200)
                 .extract()
@@ -17,6 +17,7 @@ import java.util.List;
  */
 public class APIGetWholesaleInformation {
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an APIGetWholesaleProductInformation instance.
@@ -24,6 +25,7 @@ public class APIGetWholesaleInformation {
      * @param credentials the seller's API credentials
      */
     public APIGetWholesaleInformation(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -58,7 +60,7 @@ public class APIGetWholesaleInformation {
                 .formatted(loginInfo.getStore().getId(), itemId, customerId, modelId != null ? modelId : "");
 
         // Get response string
-        String responseString = new APIUtils().get(apiPath, loginInfo.getAccessToken())
+        String responseString = new APIUtils().get(apiPath, new APISellerLogin().getAccessToken(credentials))
                 .then()
                 .statusCode(200)
                 .extract()
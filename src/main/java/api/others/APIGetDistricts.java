@@ -11,7 +11,7 @@ import java.util.List;
 import static org.apache.commons.lang.math.RandomUtils.nextInt;
 
 public class APIGetDistricts {
-    private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an APIGetCities object with the provided credentials to retrieve city data.
@@ -19,7 +19,7 @@ public class APIGetDistricts {
      * @param credentials The credentials for the seller account to be used for API authentication.
      */
     public APIGetDistricts(APISellerLogin.Credentials credentials) {
-        loginInfo = new APISellerLogin().getSellerInformation(credentials);
+        this.credentials = credentials;
     }
 
     @Data
@@ -36,7 +36,7 @@ public class APIGetDistricts {
     public List<District> getDistricts(String provinceCode) {
         if (provinceCode.isEmpty()) return List.of();
         String path = "/catalogservices/api/city/%s/districts".formatted(provinceCode);
-        return new APIUtils().get(path, loginInfo.getAccessToken())
+        return new APIUtils().get(path, new APISellerLogin().getAccessToken(credentials))
                 .then().statusCode(200)
                 .extract().jsonPath()
                 .getList(".", District.class);
@@ -11,7 +11,7 @@ import java.util.List;
 import static org.apache.commons.lang.math.RandomUtils.nextInt;
 
 public class APIGetProvinces {
-    private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an APIGetCities object with the provided credentials to retrieve city data.
@@ -19,7 +19,7 @@ public class APIGetProvinces {
      * @param credentials The credentials for the seller account to be used for API authentication.
      */
     public APIGetProvinces(APISellerLogin.Credentials credentials) {
-        loginInfo = new APISellerLogin().getSellerInformation(credentials);
+        this.credentials = credentials;
     }
 
     @Data
@@ -39,7 +39,7 @@ public class APIGetProvinces {
      */
     public List<Province> getProvinces(String countryCode) {
         String path = "/catalogservices/api/country/%s/cities".formatted(countryCode);
-        return new APIUtils().get(path, loginInfo.getAccessToken())
+        return new APIUtils().get(path, new APISellerLogin().getAccessToken(credentials))
                 .then().statusCode(200)
                 .extract().jsonPath()
                 .getList(".", Province.class);
@@ -11,7 +11,7 @@ import java.util.List;
 import static org.apache.commons.lang.math.RandomUtils.nextInt;
 
 public class APIGetWards {
-    private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an APIGetCities object with the provided credentials to retrieve city data.
@@ -19,7 +19,7 @@ public class APIGetWards {
      * @param credentials The credentials for the seller account to be used for API authentication.
      */
     public APIGetWards(APISellerLogin.Credentials credentials) {
-        loginInfo = new APISellerLogin().getSellerInformation(credentials);
+        this.credentials = credentials;
     }
 
     @Data
@@ -36,7 +36,7 @@ public class APIGetWards {
     public List<Ward> getWards(String districtCode) {
         if (districtCode.isEmpty()) return List.of();
         String path = "/catalogservices/api/district/%s/wards".formatted(districtCode);
-        return new APIUtils().get(path, loginInfo.getAccessToken())
+        return new APIUtils().get(path, new APISellerLogin().getAccessToken(credentials))
                 .then().statusCode(200)
                 .extract().jsonPath()
                 .getList(".", Ward.class);
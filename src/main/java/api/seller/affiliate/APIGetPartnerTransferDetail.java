@@ -14,6 +14,7 @@ import java.util.List;
 public class APIGetPartnerTransferDetail {
 
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructor to initialize the APIGetPartnerTransferDetail with credentials.
@@ -21,6 +22,7 @@ public class APIGetPartnerTransferDetail {
      * @param credentials The seller's credentials to authenticate the request.
      */
     public APIGetPartnerTransferDetail(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -81,7 +83,7 @@ public class APIGetPartnerTransferDetail {
      * @return PartnerTransferInformation The detailed information of the partner transfer.
      */
     public PartnerTransferInformation getPartnerTransferInformation(int transferId) {
-        return new APIUtils().get("/itemservice/api/transfers/detail/%s/%s".formatted(loginInfo.getStore().getId(), transferId), loginInfo.getAccessToken())
+        return new APIUtils().get("/itemservice/api/transfers/detail/%s/%s".formatted(loginInfo.getStore().getId(), transferId), new APISellerLogin().getAccessToken(credentials))
                 .then()
                 .statusCode(200)
                 .extract()
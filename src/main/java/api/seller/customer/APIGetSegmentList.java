@@ -15,6 +15,7 @@ import java.util.stream.IntStream;
  */
 public class APIGetSegmentList {
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructor to initialize the API with seller credentials.
@@ -22,6 +23,7 @@ public class APIGetSegmentList {
      * @param credentials the seller's credentials.
      */
     public APIGetSegmentList(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -46,7 +48,7 @@ public class APIGetSegmentList {
     private Response getSegmentListResponse(int pageIndex) {
         String path = String.format("/beehiveservices/api/segments/store/%d?page=%d&size=50&name.contains=&sort=id,desc",
                 loginInfo.getStore().getId(), pageIndex);
-        return new APIUtils().get(path, loginInfo.getAccessToken())
+        return new APIUtils().get(path, new APISellerLogin().getAccessToken(credentials))
                 .then().statusCode(200).extract().response();
     }
 
@@ -1,23 +1,114 @@
 package api.seller.login;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import utility.APIUtils;
-import utility.PropertiesUtils;
 
-import java.util.Objects;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * This class handles the login functionality for the dashboard API.
  * It provides methods to authenticate and retrieve seller information.
+ * <p>
+ * Logged-in accounts are kept in a concurrent token store keyed by credentials and account type.
+ * Reads are lock-free, concurrent logins for the same account are collapsed into a single request,
+ * and access tokens are refreshed in the background shortly before they expire.
+ * <p>
+ * API objects live longer than an access token, so they read it with {@link #getAccessToken(Credentials)}
+ * on every request instead of keeping the {@link LoginInformation} they got when created.
  */
 public class APISellerLogin {
 
-    private static Credentials cachedCredentials;
-    private static LoginInformation cachedSellerInfo;
+    private static final Logger logger = LogManager.getLogger();
+
+    private static final String REFRESH_TOKEN_PATH = "/api/refresh";
+    private static final Duration REFRESH_WINDOW = Duration.ofMinutes(5); // Refresh tokens expiring within this window
+
+    private static final Map<TokenKey, CompletableFuture<CachedLogin>> tokenStore = new ConcurrentHashMap<>();
+
+    /**
+     * The type of account to authenticate, with its login endpoint.
+     */
+    protected enum AccountType {
+        SELLER("/api/authenticate/store/email/gosell"),
+        BUYER("/api/authenticate/mobile");
+
+        private final String loginPath;
+
+        AccountType(String loginPath) {
+            this.loginPath = loginPath;
+        }
+    }
+
+    /**
+     * Key of the token store. Credentials are copied so later changes to the caller's object do not affect the key.
+     */
+    private record TokenKey(String username, String password, AccountType accountType) {
+    }
+
+    /**
+     * A logged-in account with the expiry of its access token.
+     * An entry is never modified: a refresh publishes a new entry in the token store, so readers always see
+     * a matching access and refresh token pair. {@link LoginInformation} instances handed out earlier keep
+     * their token, so callers that outlive it read the token again, see {@link #getAccessToken(Credentials)}.
+     */
+    private static class CachedLogin {
+        private final TokenKey key;
+        private final LoginInformation loginInfo;
+        private final Instant expiresAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        CachedLogin(TokenKey key, LoginInformation loginInfo) {
+            this.key = key;
+            this.loginInfo = loginInfo;
+            this.expiresAt = decodeExpiry(loginInfo.getAccessToken());
+        }
+
+        boolean isExpired() {
+            return !Instant.now().isBefore(expiresAt);
+        }
+
+        boolean isExpiringSoon() {
+            return !Instant.now().isBefore(expiresAt.minus(REFRESH_WINDOW));
+        }
+
+        /**
+         * Starts a background refresh when the token is about to expire, then replaces this entry in the token store.
+         * Only one refresh runs per entry.
+         *
+         * @param entry The token store entry holding this login.
+         */
+        void refreshIfExpiringSoon(CompletableFuture<CachedLogin> entry) {
+            if (!isExpiringSoon() || !refreshing.compareAndSet(false, true)) return;
+
+            APIUtils.getAsyncExecutor().execute(() -> {
+                try {
+                    CachedLogin refreshed = new CachedLogin(key, refreshToken(key, loginInfo));
+                    if (tokenStore.replace(key, entry, CompletableFuture.completedFuture(refreshed))) {
+                        logger.info("Refreshed access token of '{}', expires at {}", key.username(), refreshed.expiresAt);
+                    }
+                } catch (RuntimeException | AssertionError e) {
+                    // Allow another attempt on the next read
+                    refreshing.set(false);
+                    logger.warn("Failed to refresh access token of '{}'", key.username(), e);
+                }
+            });
+        }
+    }
 
     /**
      * Represents the credentials used for logging into the dashboard.
@@ -70,49 +161,137 @@ public class APISellerLogin {
      * @throws IllegalArgumentException if credentials are null.
      */
     public LoginInformation getSellerInformation(Credentials credentials) {
+        return getLoginInformation(credentials, AccountType.SELLER);
+    }
+
+    /**
+     * Retrieves the current access token of a seller account, for API objects that send requests over a long time.
+     * The token is read from the token store on every call, so it follows the background refresh.
+     *
+     * @param credentials The {@link Credentials} used to authenticate the seller.
+     * @return The access token of the seller.
+     * @throws IllegalArgumentException if credentials are null.
+     */
+    public String getAccessToken(Credentials credentials) {
+        return getSellerInformation(credentials).getAccessToken();
+    }
+
+    /**
+     * Retrieves the login information of an account from the token store, logging in when needed.
+     * <p>
+     * A valid cached entry is returned without locking. When the entry is missing or expired,
+     * only one thread logs in for that account while the others wait for its result.
+     *
+     * @param credentials The credentials of the account.
+     * @param accountType The type of account to authenticate.
+     * @return A {@link LoginInformation} object containing details about the authenticated account.
+     * @throws IllegalArgumentException if credentials are null.
+     */
+    protected LoginInformation getLoginInformation(Credentials credentials, AccountType accountType) {
         if (credentials == null) {
             throw new IllegalArgumentException("Credentials cannot be null.");
         }
 
-        // Check if cached credentials match and return cached information
-        if (Objects.equals(credentials, cachedCredentials) && cachedSellerInfo != null) {
-            return cachedSellerInfo;
-        }
+        TokenKey key = new TokenKey(credentials.getUsername(), credentials.getPassword(), accountType);
 
-        synchronized (this) {
-            // Double-check in case another thread updated the cache
-            if (Objects.equals(credentials, cachedCredentials) && cachedSellerInfo != null) {
-                return cachedSellerInfo;
-            }
+        // Lock-free read of the cached login
+        CompletableFuture<CachedLogin> entry = tokenStore.get(key);
+        if (entry == null || isExpired(entry)) {
+            // Single-flight login: only the thread that installs the new future authenticates
+            CompletableFuture<CachedLogin> login = new CompletableFuture<>();
+            entry = tokenStore.compute(key, (_, current) -> current == null || isExpired(current) ? login : current);
 
-            // Authenticate and update cache
-            cachedSellerInfo = authenticateSeller(credentials);
-            if (cachedSellerInfo == null) {
-                throw new RuntimeException("Authentication failed. Seller information is null.");
+            if (entry == login) {
+                try {
+                    login.complete(new CachedLogin(key, authenticate(key)));
+                } catch (RuntimeException | Error e) {
+                    tokenStore.remove(key, login);
+                    login.completeExceptionally(e);
+                }
             }
-            cachedCredentials = credentials;
         }
 
-        return cachedSellerInfo;
+        CachedLogin cachedLogin = APIUtils.await(entry);
+        cachedLogin.refreshIfExpiringSoon(entry);
+        return cachedLogin.loginInfo;
     }
 
     /**
-     * Authenticates the seller and retrieves seller information by making a login API call.
+     * Checks whether a token store entry holds an expired token. Entries still logging in are not expired.
      *
-     * @param credentials The credentials to authenticate with.
-     * @return A {@link LoginInformation} object with the seller's details.
+     * @param entry The token store entry.
+     * @return {@code true} if the entry is completed and its access token has expired.
      */
-    private LoginInformation authenticateSeller(Credentials credentials) {
-        LogManager.getLogger().info("Fetching logged-in user information");
+    private static boolean isExpired(CompletableFuture<CachedLogin> entry) {
+        return entry.isDone() && !entry.isCompletedExceptionally() && entry.join().isExpired();
+    }
 
-        if (credentials == null) {
-            credentials = PropertiesUtils.getSellerCredentials();
-        }
+    /**
+     * Authenticates the account and retrieves its information by making a login API call.
+     *
+     * @param key The token store key holding the credentials and account type.
+     * @return A {@link LoginInformation} object with the account's details.
+     */
+    private static LoginInformation authenticate(TokenKey key) {
+        logger.info("Fetching logged-in user information");
 
-        return new APIUtils().post("/api/authenticate/store/email/gosell", null, credentials)
+        LoginInformation loginInfo = new APIUtils().post(key.accountType().loginPath, null, new Credentials(key.username(), key.password()))
                 .then()
                 .statusCode(200)
                 .extract()
                 .as(LoginInformation.class);
+
+        if (loginInfo == null) {
+            throw new RuntimeException("Authentication failed. Login information is null.");
+        }
+        return loginInfo;
+    }
+
+    /**
+     * Exchanges the refresh token for a new access token.
+     * Falls back to a full login if the refresh token is missing or rejected.
+     * <p>
+     * The current login information is copied rather than updated, see {@link CachedLogin}.
+     *
+     * @param key     The token store key holding the credentials and account type.
+     * @param current The login information holding the current refresh token.
+     * @return A {@link LoginInformation} object holding the new access and refresh tokens.
+     */
+    private static LoginInformation refreshToken(TokenKey key, LoginInformation current) {
+        if (current.getRefreshToken() != null) {
+            try {
+                Response response = new APIUtils().post(REFRESH_TOKEN_PATH, null, Map.of("refreshToken", current.getRefreshToken()));
+                LoginInformation tokens = response.getStatusCode() == 200 ? response.as(LoginInformation.class) : null;
+                if (tokens != null && tokens.getAccessToken() != null) {
+                    // The response may only hold the tokens, keep the account details of the current login
+                    LoginInformation refreshed = new ObjectMapper().convertValue(current, LoginInformation.class);
+                    refreshed.setAccessToken(tokens.getAccessToken());
+                    if (tokens.getRefreshToken() != null) refreshed.setRefreshToken(tokens.getRefreshToken());
+                    return refreshed;
+                }
+                logger.warn("Refresh token of '{}' rejected with status {}, logging in again", key.username(), response.getStatusCode());
+            } catch (RuntimeException e) {
+                logger.warn("Failed to exchange refresh token of '{}', logging in again", key.username(), e);
+            }
+        }
+
+        // Refresh not possible, log in again
+        return authenticate(key);
+    }
+
+    /**
+     * Decodes the expiry ({@code exp} claim) of a JWT access token.
+     *
+     * @param accessToken The access token.
+     * @return The expiry instant, or {@link Instant#MAX} if the token has no readable expiry.
+     */
+    private static Instant decodeExpiry(String accessToken) {
+        try {
+            String payload = accessToken.split("\\.")[1];
+            JsonNode claims = new ObjectMapper().readTree(Base64.getUrlDecoder().decode(payload));
+            return claims.has("exp") ? Instant.ofEpochSecond(claims.get("exp").asLong()) : Instant.MAX;
+        } catch (IOException | RuntimeException e) {
+            return Instant.MAX;
+        }
     }
-}
\ No newline at end of file
+}
@@ -13,7 +13,7 @@ import java.util.Map;
  */
 public class APIGetOrderDetail {
 
-    private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructor for APIGetOrderDetail.
@@ -22,7 +22,7 @@ public class APIGetOrderDetail {
      * @param credentials API credentials for authentication.
      */
     public APIGetOrderDetail(APISellerLogin.Credentials credentials) {
-        loginInfo = new APISellerLogin().getSellerInformation(credentials);
+        this.credentials = credentials;
     }
 
     /**
@@ -311,7 +311,7 @@ public class APIGetOrderDetail {
      * @return OrderInformation containing all relevant details about the order.
      */
     public OrderInformation getOrderInformation(long orderId) {
-        return new APIUtils().get("/orderservice3/api/gs/order-details/ids/%s?getLoyaltyEarningPoint=true".formatted(orderId), loginInfo.getAccessToken(), Map.of("langkey", "vi"))
+        return new APIUtils().get("/orderservice3/api/gs/order-details/ids/%s?getLoyaltyEarningPoint=true".formatted(orderId), new APISellerLogin().getAccessToken(credentials), Map.of("langkey", "vi"))
                 .then()
                 .statusCode(200)
                 .extract()
@@ -2,16 +2,12 @@ package api.seller.order;
 
 import api.seller.login.APISellerLogin;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.restassured.response.Response;
 import lombok.Data;
 import utility.APIUtils;
+import utility.PagedQuery;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Handles retrieval of all return orders for a seller.
@@ -19,6 +15,7 @@ import java.util.stream.IntStream;
 public class APIGetReturnOrderList {
 
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an APIGetAllReturnOrder instance.
@@ -26,6 +23,7 @@ public class APIGetReturnOrderList {
      * @param credentials the seller's API credentials
      */
     public APIGetReturnOrderList(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -57,21 +55,28 @@ public class APIGetReturnOrderList {
     }
 
     /**
-     * Retrieves the response containing all return orders for a specific page.
+     * Creates a paged query over the return orders matching the search criteria.
      *
-     * @param pageIndex    the index of the page to retrieve
-     * @param branchIds    the IDs of the branches to filter by
+     * @param branchIds     the IDs of the branches to filter by
      * @param searchKeyword the keyword to search for
-     * @return the response containing return orders
+     * @return a {@link PagedQuery} of return orders
      */
-    private Response getAllReturnOrderResponse(int pageIndex, String branchIds, String searchKeyword) {
+    private PagedQuery<ReturnOrder> getReturnOrderQuery(String branchIds, String searchKeyword) {
         String endpoint = "/orderservices2/api/return-order/%s?page=%s&size=100&searchKeyword=%s&searchType=ORDER_ID&branchId=%s&restock=&status=&refundStatus=&staffName=";
-        return new APIUtils()
-                .get(endpoint.formatted(loginInfo.getStore().getId(), pageIndex, searchKeyword, branchIds), loginInfo.getAccessToken())
-                .then()
-                .statusCode(200)
-                .extract()
-                .response();
+        return new PagedQuery<>(100, ReturnOrder.class, pageIndex -> new APIUtils()
+                .getAsync(endpoint.formatted(loginInfo.getStore().getId(), pageIndex, searchKeyword, branchIds), new APISellerLogin().getAccessToken(credentials)));
+    }
+
+    /**
+     * Streams the return orders based on the specified branch IDs and search keyword.
+     * Pages are fetched lazily, so stopping the stream early skips the remaining pages.
+     *
+     * @param branchIds     the IDs of the branches to filter by
+     * @param searchKeyword the keyword to search for
+     * @return a lazy stream of return orders
+     */
+    public Stream<ReturnOrder> streamReturnOrdersInformation(String branchIds, String searchKeyword) {
+        return getReturnOrderQuery(branchIds, searchKeyword).stream();
     }
 
     /**
@@ -82,28 +87,6 @@ public class APIGetReturnOrderList {
      * @return a list of return orders
      */
     public List<ReturnOrder> getAllReturnOrdersInformation(String branchIds, String searchKeyword) {
-        List<ReturnOrder> returnOrderList = new ArrayList<>();
-
-        // Get initial response to determine the total number of return orders
-        Response response = getAllReturnOrderResponse(0, branchIds, searchKeyword);
-        int totalOfReturnOrders = Integer.parseInt(response.getHeader("X-Total-Count"));
-        int numberOfPages = (totalOfReturnOrders + 99) / 100; // Calculate number of pages
-
-        // Retrieve return orders in parallel for each page
-        List<String> responseStrings = IntStream.range(0, numberOfPages)
-                .parallel()
-                .mapToObj(pageIndex -> getAllReturnOrderResponse(pageIndex, branchIds, searchKeyword).asPrettyString())
-                .toList();
-
-        // Parse JSON responses into return order objects
-        for (String responseString : responseStrings) {
-            try {
-                returnOrderList.addAll(new ObjectMapper().readValue(responseString, new TypeReference<List<ReturnOrder>>() {}));
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException("Error parsing JSON response", e);
-            }
-        }
-
-        return returnOrderList;
+        return getReturnOrderQuery(branchIds, searchKeyword).toList();
     }
 }
@@ -16,6 +16,7 @@ import java.util.List;
  */
 public class APIAddWholesaleProduct {
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
     private APIGetProductDetail.ProductInformation productInfo;
 
     /**
@@ -24,6 +25,7 @@ public class APIAddWholesaleProduct {
      * @param credentials API credentials for the seller
      */
     public APIAddWholesaleProduct(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -117,7 +119,7 @@ public class APIAddWholesaleProduct {
         LogManager.getLogger().info("Add wholesale product configuration for id: {}", productInfo.getId());
 
         // Makes a POST request to add the wholesale pricing for the product
-        new APIUtils().post("/itemservice/api/item/wholesale-pricing", loginInfo.getAccessToken(), generateWholesalePricingPayload())
+        new APIUtils().post("/itemservice/api/item/wholesale-pricing", new APISellerLogin().getAccessToken(credentials), generateWholesalePricingPayload())
                 .then().statusCode(200); // Verifies that the response status is 200 OK
     }
 }
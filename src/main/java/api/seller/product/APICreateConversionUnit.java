@@ -11,6 +11,7 @@ import java.time.Instant;
 public class APICreateConversionUnit {
 
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an instance of APICreateConversionUnit with the provided login credentials.
@@ -18,6 +19,7 @@ public class APICreateConversionUnit {
      * @param loginInformation The login credentials for accessing the API.
      */
     public APICreateConversionUnit(APISellerLogin.Credentials loginInformation) {
+        this.credentials = loginInformation;
         this.loginInfo = new APISellerLogin().getSellerInformation(loginInformation);
     }
 
@@ -38,7 +40,7 @@ public class APICreateConversionUnit {
                 }""", name);
 
         // Send a POST request to create the conversion unit
-        new APIUtils().post("/itemservice/api/item/conversion-units", loginInfo.getAccessToken(), body)
+        new APIUtils().post("/itemservice/api/item/conversion-units", new APISellerLogin().getAccessToken(credentials), body)
                 .then()
                 .statusCode(200); // Verify the creation was successful with a 200 status code
 
@@ -2,9 +2,8 @@ package api.seller.product;
 
 import api.seller.login.APISellerLogin;
 import api.seller.setting.APIGetBranchList;
-import api.seller.setting.APIGetStoreDefaultLanguage;
 import api.seller.setting.APIGetVATList;
-import api.seller.user_feature.APIGetUserFeature;
+import api.seller.setting.StoreContext;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -31,7 +30,6 @@ public class APICreateProduct {
     private static final String CREATE_PRODUCT_PATH = "/itemservice/api/items?fromSource=DASHBOARD";
 
     private final APISellerLogin.Credentials credentials;
-    private APISellerLogin.LoginInformation loginInfo;
 
     private String defaultLanguage;
     private List<Integer> vatIds;
@@ -49,16 +47,16 @@ public class APICreateProduct {
     }
 
     /**
-     * Fetches necessary information from various APIs.
-     * Initializes login information, VAT list, branch list, and language information.
+     * Fetches necessary information from the shared {@link StoreContext}.
+     * Initializes VAT list, branch list, and language information.
      * Also sets up default language, VAT IDs, branch IDs, branch names, and branch types.
      */
     private void fetchInformation() {
-        loginInfo = new APISellerLogin().getSellerInformation(credentials);
-        var vatInfoList = new APIGetVATList(credentials).getVATInformation();
-        var branchInfoList = new APIGetBranchList(credentials).getBranchInformation();
+        StoreContext storeContext = StoreContext.of(credentials);
+        var vatInfoList = storeContext.getVatInfos();
+        var branchInfoList = storeContext.getBranchInfos();
 
-        defaultLanguage = new APIGetStoreDefaultLanguage(credentials).getDefaultLanguage();
+        defaultLanguage = storeContext.getDefaultLanguage();
         vatIds = APIGetVATList.getVATIds(vatInfoList);
         branchIds = APIGetBranchList.getBranchIds(branchInfoList);
         branchNames = APIGetBranchList.getBranchNames(branchInfoList);
@@ -199,7 +197,7 @@ public class APICreateProduct {
 
         // Init platform information
         // Get all user packages
-        var userPackages = new APIGetUserFeature(this.credentials).getUserFeature();
+        var userPackages = StoreContext.of(this.credentials).getUserPackages();
 
         // Init platform information
         payload.setOnApp(hasGoAPP(userPackages));
@@ -341,7 +339,7 @@ public class APICreateProduct {
         payload = withVariation ? createPayloadWithVariation(isManagedByIMEI, branchStock) : createPayloadWithoutVariation(isManagedByIMEI, branchStock);
 
         // Send POST request to create the product
-        int productId = new APIUtils().post(CREATE_PRODUCT_PATH, loginInfo.getAccessToken(), payload)
+        int productId = new APIUtils().post(CREATE_PRODUCT_PATH, new APISellerLogin().getAccessToken(credentials), payload)
                 .then().statusCode(201)
                 .extract()
                 .response()
@@ -12,7 +12,7 @@ import java.util.List;
  */
 public class APIGetConversionUnits {
 
-    private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an instance of APIGetConversionUnits with the provided login credentials.
@@ -20,7 +20,7 @@ public class APIGetConversionUnits {
      * @param credentials The login credentials for accessing the API.
      */
     public APIGetConversionUnits(APISellerLogin.Credentials credentials) {
-        this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
+        this.credentials = credentials;
     }
 
     /**
@@ -44,7 +44,7 @@ public class APIGetConversionUnits {
                     "lstItemId": [],
                     "key": null
                 }""";
-        return new APIUtils().post("/itemservice/api/item/conversion-units/search?page=0&size=10", loginInfo.getAccessToken(), body)
+        return new APIUtils().post("/itemservice/api/item/conversion-units/search?page=0&size=10", new APISellerLogin().getAccessToken(credentials), body)
                 .then()
                 .statusCode(200)
                 .extract()
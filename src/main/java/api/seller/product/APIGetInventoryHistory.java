@@ -6,15 +6,21 @@ import api.seller.order.APIGetOrderDetail;
 import api.seller.order.APIGetReturnOrderList;
 import api.seller.supplier.APIGetPurchaseOrderDetail;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import io.restassured.response.Response;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.apache.logging.log4j.LogManager;
 import utility.APIUtils;
+import utility.PagedQuery;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Class responsible for retrieving inventory history data via the API.
@@ -25,6 +31,11 @@ public class APIGetInventoryHistory {
 
     private static final String INVENTORY_HISTORY_PATH = "/itemservice/api/inventory-search/%s?search=%s&branchIds=%s&page=%s&size=100";
 
+    // Dependencies resolved by this instance: true if the document is incomplete and blocks the product
+    private final Map<Dependency, CompletableFuture<Boolean>> resolvedDependencies = new ConcurrentHashMap<>();
+    private final AtomicLong dependencyHits = new AtomicLong();
+    private final AtomicLong dependencyMisses = new AtomicLong();
+
     /**
      * Constructs an instance of APIGetInventoryHistory with the provided credentials.
      *
@@ -54,22 +65,19 @@ public class APIGetInventoryHistory {
     }
 
     /**
-     * Retrieves the inventory history response from the API for a specific page.
+     * Creates a paged query over the inventory history matching the search criteria.
      *
-     * @param pageIndex The index of the page to retrieve.
-     * @param keywords  The search keywords to filter inventory history results.
-     * @param branchId  The ID of the branch to filter inventory history by.
-     * @return The API response containing inventory history data for the specified page.
+     * @param keywords The search keywords to filter inventory history results.
+     * @param branchId The ID of the branch to filter inventory history by.
+     * @return A {@link PagedQuery} of inventory history entries.
      */
-    private Response getInventoryResponse(int pageIndex, String keywords, String branchId) {
-        String url = INVENTORY_HISTORY_PATH.formatted(
-                loginInfo.getStore().getId(), keywords, branchId, pageIndex
-        );
-        return new APIUtils().get(url, loginInfo.getAccessToken(), Map.of("langkey", "vi"))
-                .then()
-                .statusCode(200)
-                .extract()
-                .response();
+    private PagedQuery<InventoryHistory> getInventoryHistoryQuery(String keywords, String branchId) {
+        return new PagedQuery<>(100, InventoryHistory.class, pageIndex -> {
+            String url = INVENTORY_HISTORY_PATH.formatted(
+                    loginInfo.getStore().getId(), keywords, branchId, pageIndex
+            );
+            return new APIUtils().getAsync(url, new APISellerLogin().getAccessToken(credentials), Map.of("langkey", "vi"));
+        });
     }
 
 
@@ -81,42 +89,76 @@ public class APIGetInventoryHistory {
      * @return A list of InventoryHistory objects.
      */
     public List<APIGetInventoryHistory.InventoryHistory> getAllInventoryHistory(String keyword, String branchIds) {
-        int totalCount = Integer.parseInt(getInventoryResponse(0, keyword, branchIds).getHeader("X-Total-Count"));
-        int numberOfPages = totalCount / 100;
+        return getInventoryHistoryQuery(keyword, branchIds).toList();
+    }
+
+    /**
+     * Retrieves all pages of inventory history asynchronously.
+     *
+     * @param keyword   The search keyword for filtering inventory history.
+     * @param branchIds The branch IDs to filter inventory history.
+     * @return A future completed with the list of InventoryHistory objects.
+     */
+    public CompletableFuture<List<InventoryHistory>> getAllInventoryHistoryAsync(String keyword, String branchIds) {
+        return getInventoryHistoryQuery(keyword, branchIds).toListAsync();
+    }
+
+    /**
+     * The kinds of documents an inventory history entry can depend on.
+     */
+    private enum DependencyType {
+        TRANSFER, PARTNER_TRANSFER, PURCHASE_ORDER, ORDER, RETURN_ORDER
+    }
+
+    /**
+     * A document referenced by inventory history entries, identified by its type and ID without prefix.
+     */
+    private record Dependency(DependencyType type, String id) {
+    }
 
-        // Fetch all pages of inventory history
-        return IntStream.rangeClosed(0, numberOfPages)
-                .parallel()
-                .mapToObj(pageIndex -> getInventoryResponse(pageIndex, keyword, branchIds).jsonPath())
-                .flatMap(jsonPath -> jsonPath.getList(".", InventoryHistory.class).stream())
-                .collect(Collectors.toList());
+    /**
+     * Hit and miss counts of the dependency memo.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class DependencyCacheStatistics {
+        private long hits;
+        private long misses;
+    }
+
+    /**
+     * Returns the hit and miss counts of the dependency memo shared by the checks of this instance.
+     *
+     * @return The {@link DependencyCacheStatistics}.
+     */
+    public DependencyCacheStatistics getDependencyCacheStatistics() {
+        return new DependencyCacheStatistics(dependencyHits.get(), dependencyMisses.get());
     }
 
     /**
      * Checks if a product can be deleted based on its inventory history.
      * <p>
-     * This method filters the inventory history of a product to determine if any
-     * transfer orders with a prefix "CH" are incomplete (not "RECEIVED" or "CANCELLED").
+     * This method checks whether any transfer (prefix "CH") is not "RECEIVED" or "CANCELLED",
+     * or any purchase order (prefix "PO") is not "COMPLETED" or "CANCELLED".
+     * Each document is looked up once, concurrently, and the result is memoized for later checks.
      *
      * @param productId The product ID to check.
-     * @return True if the product can be deleted (no incomplete transfers), false otherwise.
+     * @return True if the product can be deleted (no incomplete transfers or purchase orders), false otherwise.
      */
     public boolean checkProductCanBeDeleted(int productId) {
         LogManager.getLogger().info("Checking if product can be deleted, id: {}", productId);
 
         List<InventoryHistory> inventoryHistoryList = getAllInventoryHistory(String.valueOf(productId), "");
 
-        // Check for incomplete transfer-in orders and return early if found
-        boolean hasIncompleteTransferInOrders = inventoryHistoryList.stream()
-                .filter(history -> history.getOrderId() != null && history.getOrderId().contains("CH"))
-                .anyMatch(this::hasTransferInComplete);
-        if (hasIncompleteTransferInOrders) return false; // Cannot delete the product
+        // Only transfers and purchase orders prevent deletion
+        Set<Dependency> dependencies = inventoryHistoryList.stream()
+                .filter(history -> history.getOrderId() != null)
+                .filter(history -> history.getOrderId().contains("CH") || history.getOrderId().contains("PO"))
+                .map(this::toDependency)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        // Check for incomplete purchase orders and return early if found
-        boolean hasIncompletePurchaseOrders = inventoryHistoryList.stream()
-                .filter(history -> history.getOrderId() != null && history.getOrderId().contains("PO"))
-                .anyMatch(this::hasPurchaseOrderInComplete);
-        return !hasIncompletePurchaseOrders;
+        return !hasBlockingDependency(dependencies);
     }
 
     /**
@@ -125,6 +167,7 @@ public class APIGetInventoryHistory {
      * This method checks if the inventory history contains any incomplete orders or transfers,
      * including purchase orders, transfers, orders, return orders, or partner transfer,
      * that would prevent management by lot date.
+     * Each document is looked up once, concurrently, and the result is memoized for later checks.
      *
      * @param productId The product ID to check.
      * @return True if the product can be managed by lot date, false otherwise.
@@ -133,99 +176,173 @@ public class APIGetInventoryHistory {
         var inventoryHistoryList = getAllInventoryHistory(String.valueOf(productId), "");
 
         LogManager.getLogger().info("Check product can be managed by lot-date, id: {} ", productId);
-        return inventoryHistoryList.stream()
+        var ordersHistory = inventoryHistoryList.stream()
                 .filter(history -> history.getOrderId() != null)
-                .allMatch(this::canManageStockByLotDate);
+                .toList();
+
+        // An order in its initial status blocks the product without any lookup
+        if (ordersHistory.stream().anyMatch(this::isLockedOrder)) return false;
+
+        Set<Dependency> dependencies = ordersHistory.stream()
+                .map(this::toDependency)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        return !hasBlockingDependency(dependencies);
     }
 
     /**
-     * Determines if an inventory history item can be managed by lot based on its action type and status.
-     * <p>
-     * This method checks various scenarios such as transfers, purchase orders, sales, and return orders to ensure
-     * that none of them are in an incomplete state before allowing stock management by lot.
-     * </p>
-     * <ul>
-     *   <li>{@code FROM_LOCK}: The order is in an initial state and considered incomplete, so stock cannot be managed.</li>
-     *   <li>{@code FROM_EDIT_ORDER}: The order is being updated ("To Confirm" status), and it is still incomplete.</li>
-     *   <li>{@code FROM_SOLD}: The order has been delivered, but if the return order is incomplete, stock cannot be managed by lot.</li>
-     *   <li>{@code orderId.contains("CH")}: Indicates a transfer or partner transfer; if the transfer is incomplete, stock cannot be managed.</li>
-     *   <li>{@code orderId.contains("PO")}: Indicates a purchase order; if the purchase order is incomplete, stock cannot be managed by lot.</li>
-     * </ul>
-     * <p>
-     * A product can only be managed by lot if it is not part of an incomplete order, transfer, partner transfer,
-     * return order, or purchase order.
-     * </p>
+     * Checks if an inventory history item belongs to an order in its initial ("FROM_LOCK") status.
      *
      * @param history The inventory history item to check.
-     * @return True if the product can be managed by lot, false otherwise.
+     * @return True if the order is locked, false otherwise.
      */
+    private boolean isLockedOrder(InventoryHistory history) {
+        String orderId = history.getOrderId();
+        return !orderId.contains("CH") && !orderId.contains("PO") && "FROM_LOCK".equals(history.getActionType());
+    }
 
-    private boolean canManageStockByLotDate(InventoryHistory history) {
+    /**
+     * Maps an inventory history item to the document whose status decides if the product can be managed by lot.
+     * <ul>
+     *   <li>{@code orderId.contains("CH")}: Indicates a transfer or partner transfer.</li>
+     *   <li>{@code orderId.contains("PO")}: Indicates a purchase order.</li>
+     *   <li>{@code FROM_EDIT_ORDER}: The order is being updated ("To Confirm" status).</li>
+     *   <li>{@code FROM_SOLD}: The order has been delivered, its return orders must be complete.</li>
+     * </ul>
+     *
+     * @param history The inventory history item.
+     * @return The dependency, or an empty {@link Optional} if the item does not depend on another document.
+     */
+    private Optional<Dependency> toDependency(InventoryHistory history) {
         String orderId = history.getOrderId();
-        String actionType = history.getActionType();
 
         if (orderId.contains("CH")) {
             // Transfer or partner transfer
-            return !hasTransferInComplete(history);
+            DependencyType type = "FROM_TRANSFER_AFFILIATE_OUT".equals(history.getActionType())
+                    ? DependencyType.PARTNER_TRANSFER
+                    : DependencyType.TRANSFER;
+            return Optional.of(new Dependency(type, orderId.replaceAll("CH", "")));
         }
 
         if (orderId.contains("PO")) {
             // Purchase order
-            return !hasPurchaseOrderInComplete(history);
+            return Optional.of(new Dependency(DependencyType.PURCHASE_ORDER, orderId.replaceAll("PO", "")));
         }
 
-        return switch (actionType) {
-            case "FROM_LOCK" -> false; // Initial order status, incomplete order
-            case "FROM_EDIT_ORDER" -> !hasOrderInComplete(history); // Updated order, still incomplete
-            case "FROM_SOLD" ->
-                    !hasReturnOrderInComplete(history); // Delivered order, but return order must be complete
-            default -> true; // Can manage by lot if none of the above conditions are met
+        return switch (history.getActionType()) {
+            case "FROM_EDIT_ORDER" -> Optional.of(new Dependency(DependencyType.ORDER, orderId));
+            case "FROM_SOLD" -> Optional.of(new Dependency(DependencyType.RETURN_ORDER, orderId));
+            default -> Optional.empty();
         };
     }
 
+    /**
+     * Resolves the dependencies concurrently and checks if any of them is incomplete.
+     * Returns as soon as the first incomplete document is found; the remaining lookups keep filling the memo.
+     *
+     * @param dependencies The distinct dependencies of a product.
+     * @return True if any dependency is incomplete, false otherwise.
+     */
+    private boolean hasBlockingDependency(Set<Dependency> dependencies) {
+        CompletableFuture<Boolean> anyBlocking = new CompletableFuture<>();
+        List<CompletableFuture<Boolean>> lookups = dependencies.stream()
+                .map(this::resolveDependency)
+                .toList();
+
+        lookups.forEach(lookup -> lookup.whenComplete((blocking, error) -> {
+            if (error != null) anyBlocking.completeExceptionally(error);
+            else if (blocking) anyBlocking.complete(true);
+        }));
+        CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new))
+                .thenRun(() -> anyBlocking.complete(false));
+
+        boolean result = APIUtils.await(anyBlocking);
+        LogManager.getLogger().info("Resolved {} dependencies, memo: {}", dependencies.size(), getDependencyCacheStatistics());
+        return result;
+    }
 
     /**
-     * Checks if a transfer-related history item is not completed or cancelled.
-     * <p>
-     * This method checks the status of the transfer and returns false if the status is "RECEIVED" or "CANCELLED".
+     * Returns the memoized resolution of a dependency, starting the lookup on first use.
+     * A failed lookup is dropped from the memo so that the next check retries it.
      *
-     * @param history The inventory history item.
-     * @return True if the transfer status is not "RECEIVED" or "CANCELLED", false otherwise.
+     * @param dependency The dependency to resolve.
+     * @return A future completed with true if the document is incomplete.
+     */
+    private CompletableFuture<Boolean> resolveDependency(Dependency dependency) {
+        CompletableFuture<Boolean> resolved = resolvedDependencies.get(dependency);
+        if (resolved == null) {
+            CompletableFuture<Boolean> lookup = new CompletableFuture<>();
+            resolved = resolvedDependencies.putIfAbsent(dependency, lookup);
+            if (resolved == null) {
+                dependencyMisses.incrementAndGet();
+                CompletableFuture.supplyAsync(() -> isIncomplete(dependency), APIUtils.getAsyncExecutor())
+                        .whenComplete((incomplete, error) -> {
+                            if (error == null) {
+                                lookup.complete(incomplete);
+                            } else {
+                                resolvedDependencies.remove(dependency, lookup);
+                                lookup.completeExceptionally(error);
+                            }
+                        });
+                return lookup;
+            }
+        }
+
+        dependencyHits.incrementAndGet();
+        return resolved;
+    }
+
+    /**
+     * Looks up the status of a dependency.
+     *
+     * @param dependency The dependency to look up.
+     * @return True if the document is incomplete and blocks the product, false otherwise.
      */
-    private boolean hasTransferInComplete(InventoryHistory history) {
-        String orderIdWithoutPrefix = history.getOrderId().replaceAll("CH", "");
-        String status = history.getActionType().equals("FROM_TRANSFER_AFFILIATE_OUT")
-                ? new APIGetPartnerTransferDetail(credentials).getPartnerTransferInformation(Integer.parseInt(orderIdWithoutPrefix)).getStatus()
-                : new APIGetTransferDetail(credentials).getTransferInformation(Integer.parseInt(orderIdWithoutPrefix)).getStatus();
+    private boolean isIncomplete(Dependency dependency) {
+        return switch (dependency.type()) {
+            case TRANSFER -> hasTransferInComplete(new APIGetTransferDetail(credentials)
+                    .getTransferInformation(Integer.parseInt(dependency.id())).getStatus());
+            case PARTNER_TRANSFER -> hasTransferInComplete(new APIGetPartnerTransferDetail(credentials)
+                    .getPartnerTransferInformation(Integer.parseInt(dependency.id())).getStatus());
+            case PURCHASE_ORDER -> hasPurchaseOrderInComplete(dependency.id());
+            case ORDER -> hasOrderInComplete(dependency.id());
+            case RETURN_ORDER -> hasReturnOrderInComplete(dependency.id());
+        };
+    }
 
+    /**
+     * Checks if a transfer status is not completed or cancelled.
+     *
+     * @param status The transfer or partner transfer status.
+     * @return True if the transfer status is not "RECEIVED" or "CANCELLED", false otherwise.
+     */
+    private boolean hasTransferInComplete(String status) {
         return !status.equals("RECEIVED") && !status.equals("CANCELLED");
     }
 
     /**
-     * Checks if a purchase order-related history item is completed or cancelled.
-     * <p>
-     * This method verifies that the purchase order status is either "COMPLETED" or "CANCELLED".
+     * Checks if a purchase order is not completed or cancelled.
      *
-     * @param history The inventory history item.
-     * @return True if the purchase order status is "COMPLETED" or "CANCELLED", false otherwise.
+     * @param purchaseId The purchase order ID, without the "PO" prefix.
+     * @return True if the purchase order status is not "COMPLETED" or "CANCELLED", false otherwise.
      */
-    private boolean hasPurchaseOrderInComplete(InventoryHistory history) {
-        String orderIdWithoutPrefix = history.getOrderId().replaceAll("PO", "");
-        String status = new APIGetPurchaseOrderDetail(credentials).getPurchaseOrderInformation(Integer.parseInt(orderIdWithoutPrefix)).getStatus();
+    private boolean hasPurchaseOrderInComplete(String purchaseId) {
+        String status = new APIGetPurchaseOrderDetail(credentials).getPurchaseOrderInformation(Integer.parseInt(purchaseId)).getStatus();
 
         return !status.equals("COMPLETED") && !status.equals("CANCELLED");
     }
 
     /**
-     * Checks if an order-related history item is delivered or cancelled.
+     * Checks if an order is not delivered or cancelled.
      * <p>
-     * This method checks that the order status is either "DELIVERED", "CANCELLED", "REJECTED", or "FAILED".
+     * This method checks that the order status is not "DELIVERED", "CANCELLED", "REJECTED", or "FAILED".
      *
-     * @param history The inventory history item.
-     * @return True if the order status is one of the expected values, false otherwise.
+     * @param orderId The order ID.
+     * @return True if the order is still in progress, false otherwise.
      */
-    private boolean hasOrderInComplete(InventoryHistory history) {
-        String status = new APIGetOrderDetail(credentials).getOrderInformation(Integer.parseInt(history.getOrderId()))
+    private boolean hasOrderInComplete(String orderId) {
+        String status = new APIGetOrderDetail(credentials).getOrderInformation(Integer.parseInt(orderId))
                 .getOrderInfo()
                 .getStatus();
 
@@ -233,15 +350,13 @@ public class APIGetInventoryHistory {
     }
 
     /**
-     * Checks if any return orders are in progress for a sold inventory history item.
-     * <p>
-     * This method checks if there are any "IN_PROGRESS" return orders for the given product history.
+     * Checks if any return orders are in progress for a sold order.
      *
-     * @param history The inventory history item.
+     * @param orderId The order ID.
      * @return True if there are return orders in progress, false otherwise.
      */
-    private boolean hasReturnOrderInComplete(InventoryHistory history) {
-        var returnOrders = new APIGetReturnOrderList(credentials).getAllReturnOrdersInformation("", history.getOrderId());
-        return returnOrders.stream().anyMatch(returnOrder -> returnOrder.getStatus().equals("IN_PROGRESS"));
+    private boolean hasReturnOrderInComplete(String orderId) {
+        return new APIGetReturnOrderList(credentials).streamReturnOrdersInformation("", orderId)
+                .anyMatch(returnOrder -> returnOrder.getStatus().equals("IN_PROGRESS"));
     }
 }
@@ -8,10 +8,10 @@ import utility.APIUtils;
 import java.util.List;
 
 public class APIGetProductCollection {
-    private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     public APIGetProductCollection(APISellerLogin.Credentials credentials) {
-        this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
+        this.credentials = credentials;
     }
 
 
@@ -29,7 +29,7 @@ public class APIGetProductCollection {
     }
 
     public List<ProductCollection> getProductCollections(int productId){
-        return new APIUtils().get("/itemservice/api/collections/products/%d".formatted(productId), loginInfo.getAccessToken())
+        return new APIUtils().get("/itemservice/api/collections/products/%d".formatted(productId), new APISellerLogin().getAccessToken(credentials))
                 .then().statusCode(200)
                 .extract().jsonPath()
                 .getList(".", ProductCollection.class);
@@ -16,6 +16,7 @@ import java.util.stream.IntStream;
  */
 public class APIGetProductCollections {
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructor to initialize the API with seller credentials.
@@ -23,6 +24,7 @@ public class APIGetProductCollections {
      * @param credentials the seller's credentials.
      */
     public APIGetProductCollections(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -49,7 +51,7 @@ public class APIGetProductCollections {
     private Response getCollectionListResponse(int pageIndex) {
         String path = String.format("/itemservice/api/collections/list/%d?page=%d&size=50&itemType=BUSINESS_PRODUCT&search=",
                 loginInfo.getStore().getId(), pageIndex);
-        return new APIUtils().get(path, loginInfo.getAccessToken())
+        return new APIUtils().get(path, new APISellerLogin().getAccessToken(credentials))
                 .then().statusCode(200).extract().response();
     }
 
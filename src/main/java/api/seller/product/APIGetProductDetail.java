@@ -10,6 +10,7 @@ import org.apache.logging.log4j.LogManager;
 import utility.APIUtils;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static api.seller.product.APIGetProductDetail.ProductInformation.MainLanguage;
 
@@ -20,7 +21,7 @@ import static api.seller.product.APIGetProductDetail.ProductInformation.MainLang
  */
 public class APIGetProductDetail {
 
-    private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an instance of APIGetProductDetail with the specified credentials.
@@ -28,7 +29,7 @@ public class APIGetProductDetail {
      * @param credentials The credentials used to authenticate with the API.
      */
     public APIGetProductDetail(APISellerLogin.Credentials credentials) {
-        loginInfo = new APISellerLogin().getSellerInformation(credentials);
+        this.credentials = credentials;
     }
 
     /**
@@ -171,9 +172,46 @@ public class APIGetProductDetail {
         LogManager.getLogger().info("Get product information by API, id: {}", productId);
 
         // Make the API call to fetch product information
-        Response response = new APIUtils().get("/itemservice/api/beehive-items/%d".formatted(productId), loginInfo.getAccessToken());
+        Response response = new APIUtils().get(getProductDetailPath(productId), new APISellerLogin().getAccessToken(credentials));
 
         // Process the response
+        return toProductInformation(productId, response);
+    }
+
+    /**
+     * Retrieves product information asynchronously from the API based on the specified product ID.
+     * The request runs on a virtual thread, so many lookups can be overlapped.
+     *
+     * @param productId The ID of the product to retrieve.
+     * @return A future completed with the {@link ProductInformation} of the requested product.
+     */
+    public CompletableFuture<ProductInformation> getProductInformationAsync(int productId) {
+        // Logger
+        LogManager.getLogger().info("Get product information by API (async), id: {}", productId);
+
+        return new APIUtils().getAsync(getProductDetailPath(productId), new APISellerLogin().getAccessToken(credentials))
+                .thenApply(response -> toProductInformation(productId, response));
+    }
+
+    /**
+     * Constructs the API path to retrieve the product detail.
+     *
+     * @param productId The ID of the product.
+     * @return The API path as a string.
+     */
+    private static String getProductDetailPath(int productId) {
+        return "/itemservice/api/beehive-items/%d".formatted(productId);
+    }
+
+    /**
+     * Maps the product detail response to a {@link ProductInformation}.
+     * A 404 response is mapped to a product marked as deleted.
+     *
+     * @param productId The ID of the requested product.
+     * @param response  The product detail response.
+     * @return The {@link ProductInformation} of the product.
+     */
+    private static ProductInformation toProductInformation(int productId, Response response) {
         return switch (response.getStatusCode()) {
             case 200 -> response.as(ProductInformation.class); // If OK, map the response to ProductInformation
             case 404 -> {
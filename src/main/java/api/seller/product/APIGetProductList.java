@@ -5,15 +5,24 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.restassured.response.Response;
 import lombok.Data;
 import org.apache.logging.log4j.LogManager;
 import utility.APIUtils;
+import utility.PagedQuery;
 
-import java.util.ArrayList;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.stream.IntStream;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * API utility class for retrieving and managing product information from a store's API.
@@ -23,6 +32,9 @@ public class APIGetProductList {
     private final APISellerLogin.LoginInformation loginInfo;
     private final APISellerLogin.Credentials credentials;
 
+    // Margin applied to "created after" bounds to absorb clock differences between the test machine and the server
+    private static final Duration CLOCK_SKEW_TOLERANCE = Duration.ofMinutes(1);
+
     /**
      * Constructs an instance of APIGetProductList with seller credentials.
      *
@@ -47,6 +59,7 @@ public class APIGetProductList {
         private int variationNumber;
         private List<ModelInfo> modelInfos;
         private String createdDate;
+        private String lastModifiedDate;
         private Long orgPrice;
         private Long newPrice;
         private Long costPrice;
@@ -126,19 +139,27 @@ public class APIGetProductList {
     }
 
     /**
-     * Sends a request to the API to get all products based on search criteria.
+     * Creates a paged query over the products matching the search criteria.
      *
-     * @param keywords  The keywords to search for.
-     * @param pageIndex The page index for pagination.
+     * @param keyword   The keyword to search for in product names.
      * @param branchIds Optional branch IDs for filtering products by branch.
-     * @return The response from the API request.
+     * @return A {@link PagedQuery} of products.
      */
-    private Response getProductListResponse(String keywords, int pageIndex, int... branchIds) {
-        return new APIUtils().get(getListProductPath(keywords, pageIndex, branchIds), loginInfo.getAccessToken())
-                .then()
-                .statusCode(200)
-                .extract()
-                .response();
+    private PagedQuery<Product> getProductListQuery(String keyword, int... branchIds) {
+        return new PagedQuery<>(100, Product.class,
+                pageIndex -> new APIUtils().getAsync(getListProductPath(keyword, pageIndex, branchIds), new APISellerLogin().getAccessToken(credentials)));
+    }
+
+    /**
+     * Streams product information based on the search keyword and branch IDs.
+     * Pages are fetched lazily, so stopping the stream early skips the remaining pages.
+     *
+     * @param keyword   The keyword to search for in product names.
+     * @param branchIds Optional branch IDs for filtering products by branch.
+     * @return A lazy stream of products matching the search criteria.
+     */
+    public Stream<Product> streamProductInformation(String keyword, int... branchIds) {
+        return getProductListQuery(keyword, branchIds).stream();
     }
 
     /**
@@ -149,33 +170,75 @@ public class APIGetProductList {
      * @return A list of products matching the search criteria.
      */
     public List<Product> getAllProductInformation(String keyword, int... branchIds) {
-        List<Product> products = new ArrayList<>();
-        // Get the total number of products
-        int totalOfProducts = Integer.parseInt(getProductListResponse(keyword, 0, branchIds).getHeader("X-Total-Count"));
-
-        // Calculate the number of pages
-        int numberOfPages = (totalOfProducts + 99) / 100; // Ensure rounding up
-
-        // Fetch product data from all pages
-        List<String> responseStrings = IntStream.range(0, numberOfPages)
-                .parallel()
-                .mapToObj(pageIndex -> getProductListResponse(keyword, pageIndex, branchIds).asPrettyString())
-                .toList();
-
-        responseStrings.forEach(responseString -> {
-            try {
-                products.addAll(new ObjectMapper().readValue(responseString, new TypeReference<List<Product>>() {
-                }));
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException("Error parsing JSON response", e);
+        return getProductListQuery(keyword, branchIds).toList();
+    }
+
+    /**
+     * Retrieves all product information asynchronously based on the search keyword and branch IDs.
+     *
+     * @param keyword   The keyword to search for in product names.
+     * @param branchIds Optional branch IDs for filtering products by branch.
+     * @return A future completed with the list of products matching the search criteria.
+     */
+    public CompletableFuture<List<Product>> getAllProductInformationAsync(String keyword, int... branchIds) {
+        return getProductListQuery(keyword, branchIds).toListAsync();
+    }
+
+    /**
+     * Indexes the Elasticsearch listing of the given products by product ID.
+     * <p>
+     * The store listing is scanned once, sorted by last modified date (newest first), so products touched
+     * by a recent action are found on the first pages. The scan stops as soon as every requested product is found,
+     * or as soon as it reaches products last modified before {@code modifiedAfter}
+     * (minus {@link #CLOCK_SKEW_TOLERANCE} to absorb clock differences with the server).
+     * Products missing from the result were not found within that bound,
+     * see {@link #findProductById(int, String)} to look them up one by one.
+     *
+     * @param productIds    The IDs of the products to look up.
+     * @param modifiedAfter The earliest last modified date of the products to look up.
+     * @return A map of product ID to its Elasticsearch listing, for the products found.
+     */
+    public Map<Integer, Product> indexProductsById(Collection<Integer> productIds, Instant modifiedAfter) {
+        // Logger
+        LogManager.getLogger().info("Index products from Elasticsearch, ids: {}, modified after: {}", productIds, modifiedAfter);
+
+        Instant lowerBound = modifiedAfter.minus(CLOCK_SKEW_TOLERANCE);
+        Set<Integer> remainingIds = new HashSet<>(productIds);
+        Map<Integer, Product> productsById = new HashMap<>();
+
+        Iterator<Product> products = streamProductInformation("")
+                .takeWhile(product -> !isModifiedBefore(product, lowerBound))
+                .iterator();
+        while (!remainingIds.isEmpty() && products.hasNext()) {
+            Product product = products.next();
+            if (remainingIds.remove(product.getId())) {
+                productsById.put(product.getId(), product);
             }
-        });
-        return products;
+        }
+
+        if (!remainingIds.isEmpty()) {
+            LogManager.getLogger().info("Products missing from Elasticsearch since {}, ids: {}", lowerBound, remainingIds);
+        }
+        return productsById;
+    }
+
+    /**
+     * Looks up the Elasticsearch listing of a product by searching its name.
+     *
+     * @param productId The ID of the product to look up.
+     * @param name      The name of the product, as known by ItemService.
+     * @return The Elasticsearch listing of the product, or {@code null} if the product is not listed.
+     */
+    public Product findProductById(int productId, String name) {
+        return streamProductInformation(name)
+                .filter(product -> product.getId() == productId)
+                .findFirst()
+                .orElse(null);
     }
 
     public List<Product> getProductInformationInFirstPage(ProductFilterType filterType, String value) {
         String responseString = new APIUtils()
-                .get(getFilterPath(filterType, value), loginInfo.getAccessToken())
+                .get(getFilterPath(filterType, value), new APISellerLogin().getAccessToken(credentials))
                 .then()
                 .statusCode(200)
                 .extract()
@@ -191,7 +254,8 @@ public class APIGetProductList {
     /**
      * Searches for a product ID by its name.
      * <p>
-     * This method retrieves all product information and searches for a product with the exact matching name.
+     * This method scans the products sorted by last modified date (newest first) and stops at the first
+     * product with the exact matching name, so a recently created product is found on the first page.
      * It returns the product's ID if found, or throws an exception if the product is not found.
      *
      * @param name The name of the product to search for.
@@ -199,11 +263,47 @@ public class APIGetProductList {
      * @throws NoSuchElementException if no product with the given name is found.
      */
     public int searchProductIdByName(String name) {
-        return getAllProductInformation(name).parallelStream()
+        return searchProductIdByName(name, null);
+    }
+
+    /**
+     * Searches for the ID of a product created after the given time by its name.
+     * <p>
+     * Products are scanned newest first, one page at a time. The scan stops at the first exact name match,
+     * or as soon as it reaches products last modified before {@code createdAfter}
+     * (minus {@link #CLOCK_SKEW_TOLERANCE} to absorb clock differences with the server),
+     * since a product created after that time cannot appear further down the list.
+     *
+     * @param name         The name of the product to search for.
+     * @param createdAfter The earliest possible creation time of the product, or {@code null} to scan without a bound.
+     * @return The product ID if found.
+     * @throws NoSuchElementException if no product with the given name is found.
+     */
+    public int searchProductIdByName(String name, Instant createdAfter) {
+        Instant lowerBound = createdAfter == null ? null : createdAfter.minus(CLOCK_SKEW_TOLERANCE);
+
+        return getProductListQuery(name).prefetch(1).stream()
+                .takeWhile(product -> lowerBound == null || !isModifiedBefore(product, lowerBound))
                 .filter(product -> product.getName().equals(name))
-                .findAny()
+                .findFirst()
                 .map(Product::getId)
-                .orElseThrow(() -> new RuntimeException("Product with name '" + name + "' not found"));
+                .orElseThrow(() -> new NoSuchElementException("Product with name '" + name + "' not found"));
+    }
+
+    /**
+     * Checks whether a product was last modified before the given time.
+     * Products without a readable last modified date are never considered older.
+     *
+     * @param product The product to check.
+     * @param time    The time to compare with.
+     * @return {@code true} if the product was last modified before {@code time}.
+     */
+    private static boolean isModifiedBefore(Product product, Instant time) {
+        try {
+            return product.getLastModifiedDate() != null && Instant.parse(product.getLastModifiedDate()).isBefore(time);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
     }
 
     /**
@@ -229,9 +329,9 @@ public class APIGetProductList {
         String productName = new APIGetProductDetail(credentials).getProductInformation(productId).getName();
 
         // Fetch and return product's remaining stock
-        return getAllProductInformation(productName, branchIds).parallelStream()
+        return streamProductInformation(productName, branchIds)
                 .filter(product -> product.getId() == productId)
-                .findAny()
+                .findFirst()
                 .map(Product::getRemainingStock)
                 .orElse(0);
     }
@@ -250,7 +350,7 @@ public class APIGetProductList {
         String productName = new APIGetProductDetail(credentials).getProductInformation(productId).getName();
 
         // Check if the product exists in Elasticsearch
-        return getAllProductInformation(productName).parallelStream()
+        return streamProductInformation(productName)
                 .noneMatch(product -> product.getId() == productId);
     }
 
@@ -268,9 +368,9 @@ public class APIGetProductList {
         String productName = new APIGetProductDetail(credentials).getProductInformation(productId).getName();
 
         // Fetch the product status from Elasticsearch
-        return getAllProductInformation(productName).parallelStream()
+        return streamProductInformation(productName)
                 .filter(product -> product.getId() == productId)
-                .findAny()
+                .findFirst()
                 .map(Product::getBhStatus)
                 .orElse("");
     }
@@ -25,7 +25,7 @@ public class APIGetStockAlert {
     }
 
     private List<StockAlert> getListStockAlert(int productId) {
-        return new APIUtils().get("/itemservice/api/stock-alert/storeId/%s/itemId/%s/with-models".formatted(loginInfo.getStore().getId(), productId), loginInfo.getAccessToken())
+        return new APIUtils().get("/itemservice/api/stock-alert/storeId/%s/itemId/%s/with-models".formatted(loginInfo.getStore().getId(), productId), new APISellerLogin().getAccessToken(loginInformation))
                 .then()
                 .statusCode(200)
                 .extract()
@@ -14,6 +14,7 @@ import java.util.List;
 public class APIGetTransferDetail {
 
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructor to initialize the APIGetTransferDetail with credentials.
@@ -21,6 +22,7 @@ public class APIGetTransferDetail {
      * @param credentials The seller's credentials to authenticate the request.
      */
     public APIGetTransferDetail(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -78,7 +80,7 @@ public class APIGetTransferDetail {
      * @return TransferInformation The detailed information of the transfer.
      */
     public TransferInformation getTransferInformation(int transferId) {
-        return new APIUtils().get("/itemservice/api/transfers/detail/%s/%s".formatted(loginInfo.getStore().getId(), transferId), loginInfo.getAccessToken())
+        return new APIUtils().get("/itemservice/api/transfers/detail/%s/%s".formatted(loginInfo.getStore().getId(), transferId), new APISellerLogin().getAccessToken(credentials))
                 .then()
                 .statusCode(200)
                 .extract()
@@ -0,0 +1,219 @@
+package api.seller.product;
+
+import api.seller.login.APISellerLogin;
+import lombok.Data;
+import org.apache.logging.log4j.LogManager;
+import utility.APIUtils;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Compares the ItemService and Elasticsearch views of a batch of products.
+ * <p>
+ * Product details are fetched from ItemService concurrently, then the Elasticsearch listing is scanned
+ * once for the whole batch, down to its oldest product (see {@link APIGetProductList#indexProductsById(Collection, Instant)}),
+ * instead of one name search per product and per check.
+ * Checks that only need ItemService skip Elasticsearch, see {@link Sources}.
+ */
+public class ProductConsistencyChecker {
+
+    private final APIGetProductDetail apiGetProductDetail;
+    private final APIGetProductList apiGetProductList;
+
+    /**
+     * Constructs a checker with seller credentials.
+     *
+     * @param credentials The credentials used for login to the seller's account.
+     */
+    public ProductConsistencyChecker(APISellerLogin.Credentials credentials) {
+        this.apiGetProductDetail = new APIGetProductDetail(credentials);
+        this.apiGetProductList = new APIGetProductList(credentials);
+    }
+
+    /**
+     * The sources a check reads.
+     */
+    public enum Sources {
+        /**
+         * ItemService only, for actions whose result is not listed in Elasticsearch.
+         */
+        ITEM_SERVICE,
+        /**
+         * ItemService and the Elasticsearch listing, scanned once for the whole batch.
+         */
+        ITEM_SERVICE_AND_ELASTICSEARCH,
+        /**
+         * ItemService and Elasticsearch, searched by name one product at a time,
+         * for products expected to leave the listing, which a scan would never find.
+         */
+        ITEM_SERVICE_AND_ELASTICSEARCH_BY_NAME
+    }
+
+    /**
+     * The state of a product in ItemService and Elasticsearch.
+     */
+    @Data
+    public static class ConsistencyReport {
+        private final int productId;
+        private final APIGetProductDetail.ProductInformation productInformation;
+        private final APIGetProductList.Product elasticsearchProduct;
+        /**
+         * {@code true} if the scan found the product or it was searched by name, so that
+         * {@link #isDeletedInElasticsearch()} reflects Elasticsearch rather than a missing lookup.
+         */
+        private final boolean elasticsearchChecked;
+
+        /**
+         * @return {@code true} if the product is deleted in ItemService.
+         */
+        public boolean isDeletedInItemService() {
+            return productInformation.isDeleted();
+        }
+
+        /**
+         * @return {@code true} if the product is not listed in Elasticsearch, or Elasticsearch was not checked,
+         * see {@link #isElasticsearchChecked()}.
+         */
+        public boolean isDeletedInElasticsearch() {
+            return elasticsearchProduct == null;
+        }
+
+        /**
+         * @return The product status in ItemService.
+         */
+        public String getItemServiceStatus() {
+            return productInformation.getBhStatus();
+        }
+
+        /**
+         * @return The product status in Elasticsearch, or an empty string if the product is not listed.
+         */
+        public String getElasticsearchStatus() {
+            return elasticsearchProduct == null ? "" : elasticsearchProduct.getBhStatus();
+        }
+
+        /**
+         * @return The ItemService stock of the product per branch (branch ID to total stock of all models),
+         * or an empty map if the product is deleted.
+         */
+        public Map<Integer, Integer> getItemServiceStockByBranch() {
+            return productInformation.isDeleted() ? Map.of() : APIGetProductDetail.getTotalStockByBranch(productInformation);
+        }
+
+        /**
+         * @return The total ItemService stock of the product, or {@code 0} if the product is deleted.
+         */
+        public int getItemServiceStock() {
+            return productInformation.isDeleted() ? 0 : APIGetProductDetail.getTotalStockQuantity(productInformation);
+        }
+
+        /**
+         * @return The remaining stock of the product in Elasticsearch, or {@code 0} if the product is not listed.
+         */
+        public int getElasticsearchStock() {
+            return elasticsearchProduct == null ? 0 : elasticsearchProduct.getRemainingStock();
+        }
+    }
+
+    /**
+     * Builds the consistency report of each product from ItemService and Elasticsearch.
+     *
+     * @param productIds The IDs of the products to check.
+     * @return The reports keyed by product ID, in the order of {@code productIds}.
+     */
+    public Map<Integer, ConsistencyReport> check(Collection<Integer> productIds) {
+        return check(productIds, Sources.ITEM_SERVICE_AND_ELASTICSEARCH);
+    }
+
+    /**
+     * Builds the consistency report of each product from the given sources.
+     * <p>
+     * The Elasticsearch scan is bounded by the oldest ItemService last modified date of the batch.
+     * Products not found within that bound, e.g. deleted or not yet reindexed, are searched by name one by one,
+     * and reported as not listed if that search does not find them either.
+     *
+     * @param productIds The IDs of the products to check.
+     * @param sources    The sources to read.
+     * @return The reports keyed by product ID, in the order of {@code productIds}.
+     */
+    public Map<Integer, ConsistencyReport> check(Collection<Integer> productIds, Sources sources) {
+        return check(productIds, sources, Map.of());
+    }
+
+    /**
+     * Builds the consistency report of each product from the given sources,
+     * searching Elasticsearch with the given names for products whose ItemService name is gone.
+     * <p>
+     * Deleted products have no name in ItemService, so the names must be read before they are deleted.
+     * A product that could not be searched for is reported with Elasticsearch not checked,
+     * see {@link ConsistencyReport#isElasticsearchChecked()}.
+     *
+     * @param productIds   The IDs of the products to check.
+     * @param sources      The sources to read.
+     * @param productNames The names of the products read before the action, keyed by product ID.
+     * @return The reports keyed by product ID, in the order of {@code productIds}.
+     */
+    public Map<Integer, ConsistencyReport> check(Collection<Integer> productIds, Sources sources, Map<Integer, String> productNames) {
+        LogManager.getLogger().info("Check product consistency, sources: {}, ids: {}", sources, productIds);
+
+        // Send all product detail requests together
+        Map<Integer, CompletableFuture<APIGetProductDetail.ProductInformation>> requests = new LinkedHashMap<>();
+        productIds.forEach(productId -> requests.putIfAbsent(productId, apiGetProductDetail.getProductInformationAsync(productId)));
+        Map<Integer, APIGetProductDetail.ProductInformation> details = new LinkedHashMap<>();
+        requests.forEach((productId, request) -> details.put(productId, APIUtils.await(request)));
+
+        // Scan Elasticsearch down to the oldest product of the batch, then search the missing ones by name
+        Map<Integer, APIGetProductList.Product> indexedProducts = new HashMap<>();
+        if (sources == Sources.ITEM_SERVICE_AND_ELASTICSEARCH) {
+            getOldestModifiedDate(details.values()).ifPresent(oldest ->
+                    indexedProducts.putAll(apiGetProductList.indexProductsById(details.keySet(), oldest)));
+        }
+        Map<Integer, CompletableFuture<APIGetProductList.Product>> searches = new LinkedHashMap<>();
+        details.forEach((productId, detail) -> {
+            String name = detail.getName() != null ? detail.getName() : productNames.get(productId);
+            if (sources != Sources.ITEM_SERVICE && !indexedProducts.containsKey(productId) && name != null) {
+                searches.put(productId, CompletableFuture.supplyAsync(
+                        () -> apiGetProductList.findProductById(productId, name), APIUtils.getAsyncExecutor()));
+            }
+        });
+        searches.forEach((productId, search) -> indexedProducts.put(productId, APIUtils.await(search)));
+
+        // Elasticsearch is checked for a product only if the scan found it or its search was sent
+        Map<Integer, ConsistencyReport> reports = new LinkedHashMap<>();
+        details.forEach((productId, detail) -> reports.put(productId,
+                new ConsistencyReport(productId, detail, indexedProducts.get(productId), indexedProducts.containsKey(productId))));
+
+        return reports;
+    }
+
+    /**
+     * Finds the oldest ItemService last modified date of a batch of products.
+     * Products without a readable last modified date are ignored.
+     *
+     * @param details The ItemService information of the products.
+     * @return The oldest last modified date, or empty if none is readable.
+     */
+    private static Optional<Instant> getOldestModifiedDate(Collection<APIGetProductDetail.ProductInformation> details) {
+        return details.stream()
+                .map(APIGetProductDetail.ProductInformation::getLastModifiedDate)
+                .filter(Objects::nonNull)
+                .flatMap(lastModifiedDate -> {
+                    try {
+                        return Stream.of(Instant.parse(lastModifiedDate));
+                    } catch (DateTimeParseException e) {
+                        return Stream.empty();
+                    }
+                })
+                .min(Comparator.naturalOrder());
+    }
+}
@@ -0,0 +1,204 @@
+package api.seller.product;
+
+import api.seller.login.APISellerLogin;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Waits until a batch of products reaches an expected state in ItemService and Elasticsearch.
+ * <p>
+ * Bulk actions are applied asynchronously by the backend, so their result is eventually consistent.
+ * The waiter polls the products that have not converged yet with exponential backoff
+ * (see {@link ProductConsistencyChecker}), returns as soon as all of them match the expected state,
+ * and fails with a per-product diff on timeout.
+ * The time each product took to converge is recorded per action, see {@link #getConvergenceStatistics()}.
+ */
+public class ProductConvergenceWaiter {
+
+    private static final Logger logger = LogManager.getLogger();
+    private static final Duration INITIAL_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAX_DELAY = Duration.ofSeconds(16);
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(2);
+
+    // Time to convergence in milliseconds, per action
+    private static final Map<String, LongSummaryStatistics> convergenceStatistics = new ConcurrentHashMap<>();
+
+    private final ProductConsistencyChecker productConsistencyChecker;
+    private Duration timeout = DEFAULT_TIMEOUT;
+
+    /**
+     * Constructs a waiter with seller credentials.
+     *
+     * @param credentials The credentials used for login to the seller's account.
+     */
+    public ProductConvergenceWaiter(APISellerLogin.Credentials credentials) {
+        this.productConsistencyChecker = new ProductConsistencyChecker(credentials);
+    }
+
+    /**
+     * Sets the maximum time to wait for the products to converge.
+     *
+     * @param timeout The timeout.
+     * @return The current instance for method chaining.
+     */
+    public ProductConvergenceWaiter timeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Waits until every product matches the expected state in ItemService and Elasticsearch.
+     *
+     * @param actionDescription The action that was performed, used for logging and statistics.
+     * @param productIds        The IDs of the products affected by the action.
+     * @param expectedState     The condition a product's report must meet once the action is applied.
+     * @return The latest report of each product, in the order of {@code productIds}.
+     * @throws AssertionError if some products do not reach the expected state before the timeout.
+     */
+    public Map<Integer, ProductConsistencyChecker.ConsistencyReport> waitUntil(String actionDescription,
+                                                                               Collection<Integer> productIds,
+                                                                               Predicate<ProductConsistencyChecker.ConsistencyReport> expectedState) {
+        return waitUntil(actionDescription, productIds, ProductConsistencyChecker.Sources.ITEM_SERVICE_AND_ELASTICSEARCH, expectedState);
+    }
+
+    /**
+     * Waits until every product matches the expected state, polling only the sources the expected state reads.
+     *
+     * @param actionDescription The action that was performed, used for logging and statistics.
+     * @param productIds        The IDs of the products affected by the action.
+     * @param sources           The sources the expected state reads.
+     * @param expectedState     The condition a product's report must meet once the action is applied.
+     * @return The latest report of each product, in the order of {@code productIds}.
+     * @throws AssertionError if some products do not reach the expected state before the timeout.
+     */
+    public Map<Integer, ProductConsistencyChecker.ConsistencyReport> waitUntil(String actionDescription,
+                                                                               Collection<Integer> productIds,
+                                                                               ProductConsistencyChecker.Sources sources,
+                                                                               Predicate<ProductConsistencyChecker.ConsistencyReport> expectedState) {
+        return waitUntil(actionDescription, productIds, sources, Map.of(), expectedState);
+    }
+
+    /**
+     * Waits until every product matches the expected state, searching Elasticsearch with names read before the action
+     * for products whose ItemService name is gone (see {@link ProductConsistencyChecker#check(Collection, ProductConsistencyChecker.Sources, Map)}).
+     *
+     * @param actionDescription The action that was performed, used for logging and statistics.
+     * @param productIds        The IDs of the products affected by the action.
+     * @param sources           The sources the expected state reads.
+     * @param productNames      The names of the products read before the action, keyed by product ID.
+     * @param expectedState     The condition a product's report must meet once the action is applied.
+     * @return The latest report of each product, in the order of {@code productIds}.
+     * @throws AssertionError if some products do not reach the expected state before the timeout.
+     */
+    public Map<Integer, ProductConsistencyChecker.ConsistencyReport> waitUntil(String actionDescription,
+                                                                               Collection<Integer> productIds,
+                                                                               ProductConsistencyChecker.Sources sources,
+                                                                               Map<Integer, String> productNames,
+                                                                               Predicate<ProductConsistencyChecker.ConsistencyReport> expectedState) {
+        logger.info("Waiting for bulk action '{}' to be applied on {} products.", actionDescription, productIds.size());
+
+        Instant startTime = Instant.now();
+        Instant deadline = startTime.plus(timeout);
+        Map<Integer, ProductConsistencyChecker.ConsistencyReport> reports = new LinkedHashMap<>();
+        Set<Integer> pendingIds = new LinkedHashSet<>(productIds);
+        Duration delay = INITIAL_DELAY;
+        int polls = 0;
+
+        while (true) {
+            // Only poll the products that have not converged yet
+            Map<Integer, ProductConsistencyChecker.ConsistencyReport> latestReports = productConsistencyChecker.check(pendingIds, sources, productNames);
+            reports.putAll(latestReports);
+            polls++;
+
+            long elapsedMillis = Duration.between(startTime, Instant.now()).toMillis();
+            latestReports.forEach((productId, report) -> {
+                if (expectedState.test(report)) {
+                    pendingIds.remove(productId);
+                    convergenceStatistics.compute(actionDescription, (_, statistics) -> {
+                        LongSummaryStatistics updated = statistics == null ? new LongSummaryStatistics() : statistics;
+                        updated.accept(elapsedMillis);
+                        return updated;
+                    });
+                }
+            });
+
+            if (pendingIds.isEmpty()) {
+                logger.info("Bulk action '{}' applied after {} ms ({} polls).", actionDescription, elapsedMillis, polls);
+                return reports;
+            }
+
+            Duration remaining = Duration.between(Instant.now(), deadline);
+            if (remaining.isNegative() || remaining.isZero()) {
+                throw new AssertionError("Bulk action '%s' was not applied after %d ms, pending products:%n%s"
+                        .formatted(actionDescription, elapsedMillis, describe(pendingIds, reports)));
+            }
+
+            sleep(delay.compareTo(remaining) < 0 ? delay : remaining);
+            delay = delay.multipliedBy(2).compareTo(MAX_DELAY) < 0 ? delay.multipliedBy(2) : MAX_DELAY;
+        }
+    }
+
+    /**
+     * Returns the time to convergence recorded so far, per action.
+     * Each product that converged counts as one sample, in milliseconds.
+     *
+     * @return A snapshot of the statistics, sorted by action.
+     */
+    public static Map<String, LongSummaryStatistics> getConvergenceStatistics() {
+        Map<String, LongSummaryStatistics> snapshot = new TreeMap<>();
+        convergenceStatistics.keySet().forEach(action -> convergenceStatistics.computeIfPresent(action, (_, statistics) -> {
+            // Copy under the entry lock, the recorded statistics keep changing
+            LongSummaryStatistics copy = new LongSummaryStatistics();
+            copy.combine(statistics);
+            snapshot.put(action, copy);
+            return statistics;
+        }));
+        return snapshot;
+    }
+
+    /**
+     * Describes the ItemService and Elasticsearch state of the pending products.
+     *
+     * @param pendingIds The IDs of the products that did not converge.
+     * @param reports    The latest report of each product.
+     * @return One line per pending product.
+     */
+    private static String describe(Set<Integer> pendingIds, Map<Integer, ProductConsistencyChecker.ConsistencyReport> reports) {
+        return pendingIds.stream()
+                .map(productId -> {
+                    var report = reports.get(productId);
+                    String itemService = "productId: %d, ItemService: [status: %s, stock: %,d, deleted: %s]"
+                            .formatted(productId, report.getItemServiceStatus(), report.getItemServiceStock(), report.isDeletedInItemService());
+                    return !report.isElasticsearchChecked() ? itemService : itemService + ", Elasticsearch: [status: %s, stock: %,d, deleted: %s]"
+                            .formatted(report.getElasticsearchStatus(), report.getElasticsearchStock(), report.isDeletedInElasticsearch());
+                })
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    /**
+     * Pauses the current thread between two polls.
+     *
+     * @param delay The time to sleep.
+     */
+    private static void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Restore the interrupted status
+            throw new RuntimeException("Thread interrupted while waiting for bulk action", e);
+        }
+    }
+}
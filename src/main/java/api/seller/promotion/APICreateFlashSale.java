@@ -29,6 +29,7 @@ import static org.apache.commons.lang.math.RandomUtils.nextInt;
 public class APICreateFlashSale {
     private final Logger logger = LogManager.getLogger(); // Logger for tracking the process
     private final APISellerLogin.LoginInformation loginInfo; // Seller login information
+    private final APISellerLogin.Credentials credentials;
     private final APIEndFlashSale apiEndFlashSale; // API to end existing flash sales
     private final APIDeleteFlashSale apiDeleteFlashSale; // API to delete scheduled flash sales
     private final APIGetFlashSaleList apiGetFlashSaleList; // API to retrieve existing flash sales
@@ -40,6 +41,7 @@ public class APICreateFlashSale {
      */
     public APICreateFlashSale(APISellerLogin.Credentials credentials) {
         // Retrieve login information for the seller
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
 
         // Initialize APIs for managing flash sales
@@ -156,7 +158,7 @@ public class APICreateFlashSale {
             // Send POST request to create the flash sale
             Response response = new APIUtils().post(
                     String.format("/itemservice/api/campaigns/%d", loginInfo.getStore().getId()),
-                    loginInfo.getAccessToken(),
+                    new APISellerLogin().getAccessToken(credentials),
                     payload,
                     Map.of("time-zone", "Asia/Saigon")
             );
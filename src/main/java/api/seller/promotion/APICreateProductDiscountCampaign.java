@@ -280,7 +280,7 @@ public class APICreateProductDiscountCampaign {
 
         // Making an API call to create the discount campaign
         new APIUtils().post("/orderservices2/api/gs-discount-campaigns/coupons",
-                        loginInfo.getAccessToken(),
+                        new APISellerLogin().getAccessToken(credentials),
                         discountCampaignPayload,
                         Map.of("time-zone", "Asia/Saigon"))
                 .then().statusCode(200); // Verifying the response status is 200 OK
@@ -8,6 +8,7 @@ import utility.APIUtils;
  */
 public class APIDeleteFlashSale {
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructor to initialize the API with seller credentials.
@@ -15,6 +16,7 @@ public class APIDeleteFlashSale {
      * @param credentials the seller's credentials.
      */
     public APIDeleteFlashSale(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -26,6 +28,6 @@ public class APIDeleteFlashSale {
      */
     public void deleteScheduledFlashSale(int saleId) {
         String url = String.format("/itemservice/api/campaigns/delete/%d?storeId=%d", saleId, loginInfo.getStore().getId());
-        new APIUtils().delete(url, loginInfo.getAccessToken()).then().statusCode(200);
+        new APIUtils().delete(url, new APISellerLogin().getAccessToken(credentials)).then().statusCode(200);
     }
 }
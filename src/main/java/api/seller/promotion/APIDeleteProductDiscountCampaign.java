@@ -7,7 +7,7 @@ import utility.APIUtils;
  * This class handles the deletion of product discount campaigns for a seller.
  */
 public class APIDeleteProductDiscountCampaign {
-    private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an APIDeleteProductDiscountCampaign instance with the given seller credentials.
@@ -15,7 +15,7 @@ public class APIDeleteProductDiscountCampaign {
      * @param credentials the credentials of the seller to retrieve information
      */
     public APIDeleteProductDiscountCampaign(APISellerLogin.Credentials credentials) {
-        this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
+        this.credentials = credentials;
     }
 
     /**
@@ -26,7 +26,7 @@ public class APIDeleteProductDiscountCampaign {
      */
     public void deleteDiscountCampaign(int campaignId) {
         // Sending a delete request for the specified campaign ID
-        new APIUtils().delete("/orderservices2/api/gs-discount-campaigns/%d".formatted(campaignId), loginInfo.getAccessToken())
+        new APIUtils().delete("/orderservices2/api/gs-discount-campaigns/%d".formatted(campaignId), new APISellerLogin().getAccessToken(credentials))
                 .then()
                 .statusCode(200); // Checking if the delete operation was successful
     }
@@ -8,6 +8,7 @@ import utility.APIUtils;
  */
 public class APIEndFlashSale {
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructor to initialize the API with seller credentials.
@@ -15,6 +16,7 @@ public class APIEndFlashSale {
      * @param credentials the seller's credentials.
      */
     public APIEndFlashSale(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -26,6 +28,6 @@ public class APIEndFlashSale {
      */
     public void endInProgressFlashSale(int saleId) {
         String url = String.format("/itemservice/api/campaigns/end-early/%d?storeId=%d", saleId, loginInfo.getStore().getId());
-        new APIUtils().post(url, loginInfo.getAccessToken(), null).then().statusCode(200);
+        new APIUtils().post(url, new APISellerLogin().getAccessToken(credentials), null).then().statusCode(200);
     }
 }
@@ -13,6 +13,7 @@ import java.util.Map;
  */
 public class APIGetFlashSaleList {
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructor to initialize the API with seller credentials.
@@ -20,6 +21,7 @@ public class APIGetFlashSaleList {
      * @param credentials the seller's credentials.
      */
     public APIGetFlashSaleList(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -71,7 +73,7 @@ public class APIGetFlashSaleList {
      */
     public List<FlashSaleCampaign> getFlashSaleList(String status) {
         String url = String.format("/itemservice/api/campaigns/search/%d?status=%s", loginInfo.getStore().getId(), status);
-        return new APIUtils().get(url, loginInfo.getAccessToken(), Map.of("time-zone", "Asia/Saigon"))
+        return new APIUtils().get(url, new APISellerLogin().getAccessToken(credentials), Map.of("time-zone", "Asia/Saigon"))
                 .then()
                 .statusCode(200)
                 .extract()
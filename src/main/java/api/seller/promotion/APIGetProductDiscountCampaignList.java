@@ -13,6 +13,7 @@ import java.util.Map;
  */
 public class APIGetProductDiscountCampaignList {
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an APIGetProductDiscountCampaignList instance with the given seller credentials.
@@ -20,6 +21,7 @@ public class APIGetProductDiscountCampaignList {
      * @param credentials the credentials of the seller to retrieve information
      */
     public APIGetProductDiscountCampaignList(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -48,7 +50,7 @@ public class APIGetProductDiscountCampaignList {
                 loginInfo.getStore().getId(),
                 status);
 
-        return new APIUtils().get(url, loginInfo.getAccessToken(), Map.of("time-zone", "Asia/Saigon"))
+        return new APIUtils().get(url, new APISellerLogin().getAccessToken(credentials), Map.of("time-zone", "Asia/Saigon"))
                 .then()
                 .statusCode(200) // Ensure the response status is 200 OK
                 .extract()
@@ -13,6 +13,7 @@ import utility.APIUtils;
 public class APIGetPreferences {
 
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructor to initialize APIGetPreferences with seller credentials.
@@ -20,6 +21,7 @@ public class APIGetPreferences {
      * @param credentials the seller's login credentials used to retrieve store information.
      */
     public APIGetPreferences(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -66,7 +68,7 @@ public class APIGetPreferences {
         for (int attempt = 1; attempt <= maxRetries; attempt++) {
             try {
                 // Attempt to fetch the store listing information
-                return new APIUtils().get("/storeservice/api/store-listing-webs/%d".formatted(loginInfo.getStore().getId()), loginInfo.getAccessToken())
+                return new APIUtils().get("/storeservice/api/store-listing-webs/%d".formatted(loginInfo.getStore().getId()), new APISellerLogin().getAccessToken(credentials))
                         .then()
                         .statusCode(200)
                         .extract()
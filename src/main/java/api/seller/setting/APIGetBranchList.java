@@ -15,6 +15,7 @@ import java.util.List;
 public class APIGetBranchList {
 
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an APIGetBranchList instance with the given credentials.
@@ -23,6 +24,7 @@ public class APIGetBranchList {
      * @param credentials The credentials to use for authentication.
      */
     public APIGetBranchList(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -67,7 +69,7 @@ public class APIGetBranchList {
         for (int attempt = 1; attempt <= maxRetries; attempt++) {
             try {
                 // Attempt to fetch the branch information
-                return new APIUtils().get("/storeservice/api/store-branch/full?storeId=%s&page=0&size=100".formatted(loginInfo.getStore().getId()), loginInfo.getAccessToken())
+                return new APIUtils().get("/storeservice/api/store-branch/full?storeId=%s&page=0&size=100".formatted(loginInfo.getStore().getId()), new APISellerLogin().getAccessToken(credentials))
                         .then().statusCode(200)
                         .extract().jsonPath()
                         .getList(".", BranchInformation.class);
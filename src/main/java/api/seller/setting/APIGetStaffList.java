@@ -12,8 +12,10 @@ import java.util.List;
 
 public class APIGetStaffList {
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     public APIGetStaffList(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -37,7 +39,7 @@ public class APIGetStaffList {
 
     public List<StaffInformation> getStaffList() {
         // Attempt to fetch the branch information
-        return new APIUtils().get("/storeservice/api/store-staffs/store/%s?isEnabledCC=false&page=0&size=10&sort=id,desc".formatted(loginInfo.getStore().getId()), loginInfo.getAccessToken())
+        return new APIUtils().get("/storeservice/api/store-staffs/store/%s?isEnabledCC=false&page=0&size=10&sort=id,desc".formatted(loginInfo.getStore().getId()), new APISellerLogin().getAccessToken(credentials))
                 .then().statusCode(200)
                 .extract().jsonPath()
                 .getList(".", StaffInformation.class);
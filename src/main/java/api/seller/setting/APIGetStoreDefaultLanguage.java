@@ -8,6 +8,7 @@ public class APIGetStoreDefaultLanguage {
      * Seller information retrieved using the provided credentials.
      */
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an instance of {@link APIGetStoreDefaultLanguage} with the specified credentials.
@@ -15,6 +16,7 @@ public class APIGetStoreDefaultLanguage {
      * @param credentials The credentials used to authenticate and access the store API.
      */
     public APIGetStoreDefaultLanguage(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -24,7 +26,7 @@ public class APIGetStoreDefaultLanguage {
      * @return The default language code of the store.
      */
     public String getDefaultLanguage() {
-        return new APIUtils().get("/storeservice/api/store-language/store/%d?hasInitial=true".formatted(loginInfo.getStore().getId()), loginInfo.getAccessToken())
+        return new APIUtils().get("/storeservice/api/store-language/store/%d?hasInitial=true".formatted(loginInfo.getStore().getId()), new APISellerLogin().getAccessToken(credentials))
                 .then().statusCode(200)
                 .extract().jsonPath()
                 .getList("langCode", String.class)
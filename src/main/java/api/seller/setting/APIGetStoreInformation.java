@@ -102,6 +102,7 @@ public class APIGetStoreInformation {
      * Seller information retrieved using the provided credentials.
      */
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an instance of {@link APIGetStoreInformation} with the specified credentials.
@@ -109,6 +110,7 @@ public class APIGetStoreInformation {
      * @param credentials The credentials used to authenticate and access the store API.
      */
     public APIGetStoreInformation(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -118,7 +120,7 @@ public class APIGetStoreInformation {
      * @return A list of {@link StoreInformation} objects representing the details of the store.
      */
     public StoreInformation getStoreInformation() {
-        return new APIUtils().get("/storeservice/api/stores/%d".formatted(loginInfo.getStore().getId()), loginInfo.getAccessToken())
+        return new APIUtils().get("/storeservice/api/stores/%d".formatted(loginInfo.getStore().getId()), new APISellerLogin().getAccessToken(credentials))
                 .then().statusCode(200)
                 .extract().as(StoreInformation.class);
     }
@@ -15,6 +15,7 @@ import java.util.function.Function;
 public class APIGetStoreLanguage {
 
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an APIGetStoreLanguage instance with the given credentials.
@@ -23,6 +24,7 @@ public class APIGetStoreLanguage {
      * @param credentials The credentials to use for authentication.
      */
     public APIGetStoreLanguage(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -46,7 +48,7 @@ public class APIGetStoreLanguage {
      * @return A list of LanguageInformation objects containing details about the store's languages.
      */
     public List<LanguageInformation> getStoreLanguageInformation() {
-        return new APIUtils().get("/storeservice/api/store-language/store/%d/all".formatted(loginInfo.getStore().getId()), loginInfo.getAccessToken())
+        return new APIUtils().get("/storeservice/api/store-language/store/%d/all".formatted(loginInfo.getStore().getId()), new APISellerLogin().getAccessToken(credentials))
                 .then().statusCode(200)
                 .extract().jsonPath()
                 .getList(".", LanguageInformation.class);
@@ -6,14 +6,16 @@ import utility.APIUtils;
 public class APIGetStoreURL {
 
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     public APIGetStoreURL(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
     public String getStoreURL() {
         String path = "/storeservice/api/store-urls/stores/%d/domains".formatted(loginInfo.getStore().getId());
-        return new APIUtils().get(path, loginInfo.getAccessToken())
+        return new APIUtils().get(path, new APISellerLogin().getAccessToken(credentials))
                 .then().statusCode(200)
                 .extract().asPrettyString();
     }
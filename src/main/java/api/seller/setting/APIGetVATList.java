@@ -14,6 +14,7 @@ import java.util.List;
 public class APIGetVATList {
 
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructs an APIGetVATList instance with the given credentials.
@@ -22,6 +23,7 @@ public class APIGetVATList {
      * @param credentials The credentials to use for authentication.
      */
     public APIGetVATList(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -46,7 +48,7 @@ public class APIGetVATList {
      * @return A list of VATInformation objects containing details about VAT settings.
      */
     public List<VATInformation> getVATInformation() {
-        return new APIUtils().get("/storeservice/api/tax-settings/store/%d".formatted(loginInfo.getStore().getId()), loginInfo.getAccessToken())
+        return new APIUtils().get("/storeservice/api/tax-settings/store/%d".formatted(loginInfo.getStore().getId()), new APISellerLogin().getAccessToken(credentials))
                 .then().statusCode(200)
                 .extract().jsonPath()
                 .getList(".", VATInformation.class);
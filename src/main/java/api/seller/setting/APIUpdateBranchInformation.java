@@ -55,18 +55,18 @@ public class APIUpdateBranchInformation {
     /**
      * Updates information for a specific branch.
      * <p>
-     * This method retrieves the current branch information and compares it with the provided parameters.
+     * This method compares the current branch information with the provided parameters.
      * If there are changes in the visibility or status of the branch, it performs the API update.
      * If no changes are detected, the API call is skipped, and a log entry is made.
+     * After an update, the cached {@link StoreContext} is invalidated so later readers see the new branch settings.
      *
+     * @param branchInfos      The current branch information.
      * @param branchId         The ID of the branch to update.
      * @param isDefault        Indicates if the branch is a default branch.
      * @param hideOnStoreFront Indicates if the branch should be hidden on the storefront.
      * @param branchStatus     The new status for the branch (ACTIVE/INACTIVE).
      */
-    private void updateBranchInfo(int branchId, boolean isDefault, boolean hideOnStoreFront, String branchStatus) {
-        // Retrieve current branch information
-        var branchInfos = new APIGetBranchList(credentials).getBranchInformation();
+    private void updateBranchInfo(List<APIGetBranchList.BranchInformation> branchInfos, int branchId, boolean isDefault, boolean hideOnStoreFront, String branchStatus) {
         int branchIndex = APIGetBranchList.getBranchIds(branchInfos).indexOf(branchId); // Find the index of the branch
 
         // Get current properties of the branch
@@ -96,14 +96,17 @@ public class APIUpdateBranchInformation {
 
             // Update branch information via API
             String branchUpdatePath = String.format(UPDATE_BRANCH_INFORMATION_PATH, loginInfo.getStore().getId());
-            new APIUtils().put(branchUpdatePath, loginInfo.getAccessToken(), updateBranchPayload)
+            new APIUtils().put(branchUpdatePath, new APISellerLogin().getAccessToken(credentials), updateBranchPayload)
                     .then().statusCode(200);
             logger.info("[API] Updated branch '{}', hide on storefront: {}", branchName, hideOnStoreFront); // Log the update
 
             // Change the status of the branch
             String statusChangePath = String.format(CHANGE_BRANCH_STATUS_PATH, loginInfo.getStore().getId(), branchId, branchStatus);
-            new APIUtils().put(statusChangePath, loginInfo.getAccessToken(), null);
+            new APIUtils().put(statusChangePath, new APISellerLogin().getAccessToken(credentials), null);
             logger.info("[API] Updated branch '{}' status: {}", branchName, branchStatus); // Log the status change
+
+            // Branch settings changed, reload the store context on next use
+            StoreContext.invalidate(credentials);
         } else {
             logger.info("[{}] Branch information has not changed; skipping API update.", branchName);
         }
@@ -117,12 +120,12 @@ public class APIUpdateBranchInformation {
      */
     public void updateAllPaidBranches(boolean hideOnStoreFront, boolean active) {
         // Retrieve branch information for paid branches
-        var branchInfos = new APIGetBranchList(credentials).getBranchInformation();
+        var branchInfos = StoreContext.of(credentials).getBranchInfos();
         List<Integer> branchIds = APIGetBranchList.getBranchIds(branchInfos);
 
         // Update each paid branch based on the specified parameters
         IntStream.range(1, branchIds.size()).forEachOrdered(branchIndex ->
-                updateBranchInfo(branchIds.get(branchIndex), false, hideOnStoreFront, active ? ACTIVE_STATUS : INACTIVE_STATUS)
+                updateBranchInfo(branchInfos, branchIds.get(branchIndex), false, hideOnStoreFront, active ? ACTIVE_STATUS : INACTIVE_STATUS)
         );
     }
 
@@ -133,12 +136,12 @@ public class APIUpdateBranchInformation {
      */
     public void setFreeBranchVisibilityOnShopOnline(boolean hide) {
         // Retrieve the list of branch information
-        var branchInfos = new APIGetBranchList(credentials).getBranchInformation();
+        var branchInfos = StoreContext.of(credentials).getBranchInfos();
 
         // Get the ID of the free branch (the first element in the branch ID list)
         int freeBranchId = APIGetBranchList.getBranchIds(branchInfos).getFirst();
 
         // Update the visibility of the free branch based on the hide parameter
-        updateBranchInfo(freeBranchId, true, hide, ACTIVE_STATUS);
+        updateBranchInfo(branchInfos, freeBranchId, true, hide, ACTIVE_STATUS);
     }
 }
\ No newline at end of file
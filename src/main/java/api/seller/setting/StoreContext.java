@@ -0,0 +1,121 @@
+package api.seller.setting;
+
+import api.seller.login.APISellerLogin;
+import api.seller.sale_channel.APIGetPreferences;
+import api.seller.user_feature.APIGetUserFeature;
+import lombok.Getter;
+import org.apache.logging.log4j.LogManager;
+import utility.APIUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Immutable snapshot of the store reference data shared by page objects and API builders:
+ * branches, languages, default language, VAT list, user packages and storefront preferences.
+ * <p>
+ * The snapshot is loaded once per store with all requests sent concurrently, and is reused until
+ * a test changes the store settings and calls {@link #invalidate(APISellerLogin.Credentials)}
+ * (for example {@link APIUpdateBranchInformation}).
+ * The returned lists are read-only and their elements must not be modified.
+ */
+@Getter
+public class StoreContext {
+
+    // Loaded contexts, keyed by store ID
+    private static final Map<Integer, CompletableFuture<StoreContext>> contexts = new ConcurrentHashMap<>();
+
+    private final List<APIGetBranchList.BranchInformation> branchInfos;
+    private final List<APIGetStoreLanguage.LanguageInformation> languageInfos;
+    private final String defaultLanguage;
+    private final List<APIGetVATList.VATInformation> vatInfos;
+    private final List<APIGetUserFeature.UserPackage> userPackages;
+    private final APIGetPreferences.StoreListingWebs storeListingWebs;
+
+    private StoreContext(List<APIGetBranchList.BranchInformation> branchInfos,
+                         List<APIGetStoreLanguage.LanguageInformation> languageInfos,
+                         String defaultLanguage,
+                         List<APIGetVATList.VATInformation> vatInfos,
+                         List<APIGetUserFeature.UserPackage> userPackages,
+                         APIGetPreferences.StoreListingWebs storeListingWebs) {
+        this.branchInfos = List.copyOf(branchInfos);
+        this.languageInfos = List.copyOf(languageInfos);
+        this.defaultLanguage = defaultLanguage;
+        this.vatInfos = List.copyOf(vatInfos);
+        this.userPackages = List.copyOf(userPackages);
+        this.storeListingWebs = storeListingWebs;
+    }
+
+    /**
+     * Returns the store context of the seller's store, loading it on first use.
+     * Concurrent callers for the same store share a single load.
+     *
+     * @param credentials The seller's credentials.
+     * @return The {@link StoreContext} of the store.
+     */
+    public static StoreContext of(APISellerLogin.Credentials credentials) {
+        int storeId = getStoreId(credentials);
+        CompletableFuture<StoreContext> context = contexts.computeIfAbsent(storeId, _ -> load(credentials));
+
+        try {
+            return APIUtils.await(context);
+        } catch (RuntimeException | Error e) {
+            // Do not keep a failed load, the next call retries
+            contexts.remove(storeId, context);
+            throw e;
+        }
+    }
+
+    /**
+     * Drops the cached context of the seller's store. The next {@link #of(APISellerLogin.Credentials)} call reloads it.
+     * Must be called after a test changes branches, languages, VAT or package settings.
+     *
+     * @param credentials The seller's credentials.
+     */
+    public static void invalidate(APISellerLogin.Credentials credentials) {
+        int storeId = getStoreId(credentials);
+        if (contexts.remove(storeId) != null) {
+            LogManager.getLogger().info("Invalidated store context, store id: {}", storeId);
+        }
+    }
+
+    /**
+     * Retrieves the store ID of the seller.
+     *
+     * @param credentials The seller's credentials.
+     * @return The store ID.
+     */
+    private static int getStoreId(APISellerLogin.Credentials credentials) {
+        return new APISellerLogin().getSellerInformation(credentials).getStore().getId();
+    }
+
+    /**
+     * Loads all store reference data concurrently.
+     *
+     * @param credentials The seller's credentials.
+     * @return A future completed with the loaded {@link StoreContext}.
+     */
+    private static CompletableFuture<StoreContext> load(APISellerLogin.Credentials credentials) {
+        LogManager.getLogger().info("Load store context");
+        Executor executor = APIUtils.getAsyncExecutor();
+
+        var branchInfos = CompletableFuture.supplyAsync(() -> new APIGetBranchList(credentials).getBranchInformation(), executor);
+        var languageInfos = CompletableFuture.supplyAsync(() -> new APIGetStoreLanguage(credentials).getStoreLanguageInformation(), executor);
+        var defaultLanguage = CompletableFuture.supplyAsync(() -> new APIGetStoreDefaultLanguage(credentials).getDefaultLanguage(), executor);
+        var vatInfos = CompletableFuture.supplyAsync(() -> new APIGetVATList(credentials).getVATInformation(), executor);
+        var userPackages = CompletableFuture.supplyAsync(() -> new APIGetUserFeature(credentials).getUserFeature(), executor);
+        var storeListingWebs = CompletableFuture.supplyAsync(() -> new APIGetPreferences(credentials).getStoreListingWebInformation(), executor);
+
+        return CompletableFuture.allOf(branchInfos, languageInfos, defaultLanguage, vatInfos, userPackages, storeListingWebs)
+                .thenApply(_ -> new StoreContext(
+                        branchInfos.join(),
+                        languageInfos.join(),
+                        defaultLanguage.join(),
+                        vatInfos.join(),
+                        userPackages.join(),
+                        storeListingWebs.join()));
+    }
+}
@@ -174,7 +174,7 @@ public class APIGetPurchaseOrderDetail {
      */
     public PurchaseOrderInformation getPurchaseOrderInformation(int purchaseId) {
         return new APIUtils().get("/itemservice/api/purchase-orders/%s".formatted(purchaseId),
-                        loginInfo.getAccessToken(),
+                        new APISellerLogin().getAccessToken(credentials),
                         Map.of("storeid", loginInfo.getStore().getId()))
                 .then()
                 .statusCode(200)
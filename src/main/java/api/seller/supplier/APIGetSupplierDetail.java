@@ -6,12 +6,10 @@ import lombok.Data;
 import utility.APIUtils;
 
 public class APIGetSupplierDetail {
-    APISellerLogin.LoginInformation loginInfo;
     APISellerLogin.Credentials credentials;
 
     public APIGetSupplierDetail(APISellerLogin.Credentials credentials) {
         this.credentials = credentials;
-        loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
     @Data
@@ -52,7 +50,7 @@ public class APIGetSupplierDetail {
     public SupplierInformation getSupplierInformation(int supplierId) {
         String path = "/itemservice/api/suppliers/%d".formatted(supplierId);
 
-        return new APIUtils().get(path, loginInfo.getAccessToken())
+        return new APIUtils().get(path, new APISellerLogin().getAccessToken(credentials))
                 .then().statusCode(200)
                 .extract().as(SupplierInformation.class);
     }
@@ -2,15 +2,15 @@ package api.seller.supplier;
 
 import api.seller.login.APISellerLogin;
 import api.seller.supplier.APIGetSupplierDetail.SupplierInformation;
-import io.restassured.response.Response;
 import utility.APIUtils;
+import utility.PagedQuery;
 
-import java.util.Collection;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class APIGetSupplierList {
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructor to initialize the APIGetSupplierList with seller login credentials.
@@ -18,6 +18,7 @@ public class APIGetSupplierList {
      * @param credentials The login credentials for the seller account.
      */
     public APIGetSupplierList(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -34,18 +35,25 @@ public class APIGetSupplierList {
     }
 
     /**
-     * Sends a request to the API to fetch a page of suppliers based on the search criteria.
+     * Creates a paged query over the suppliers matching the search keyword.
      *
-     * @param keywords  The keywords to filter suppliers.
-     * @param pageIndex The page index for pagination.
-     * @return The response containing the supplier list for the specified page.
+     * @param keyword The keyword to filter suppliers.
+     * @return A {@link PagedQuery} of suppliers.
      */
-    private Response getSupplierListResponse(String keywords, int pageIndex) {
-        return new APIUtils().get(getListSupplierPath(keywords, pageIndex), loginInfo.getAccessToken())
-                .then()
-                .statusCode(200)
-                .extract()
-                .response();
+    private PagedQuery<SupplierInformation> getSupplierListQuery(String keyword) {
+        return new PagedQuery<>(20, SupplierInformation.class,
+                pageIndex -> new APIUtils().getAsync(getListSupplierPath(keyword, pageIndex), new APISellerLogin().getAccessToken(credentials)));
+    }
+
+    /**
+     * Streams the suppliers matching the search keyword.
+     * Pages are fetched lazily, so stopping the stream early skips the remaining pages.
+     *
+     * @param keyword The keyword to search for in supplier names.
+     * @return A lazy stream of {@link SupplierInformation} matching the search criteria.
+     */
+    public Stream<SupplierInformation> streamSupplierInformation(String keyword) {
+        return getSupplierListQuery(keyword).stream();
     }
 
     /**
@@ -55,31 +63,23 @@ public class APIGetSupplierList {
      * @return A list of {@link SupplierInformation} matching the search criteria.
      */
     public List<SupplierInformation> getAllSupplierInformation(String keyword) {
-        // Get the total number of suppliers
-        int totalOfSuppliers = Integer.parseInt(getSupplierListResponse(keyword, 0).getHeader("X-Total-Count"));
-
-        // Calculate the number of pages
-        int numberOfPages = (totalOfSuppliers + 99) / 100; // Ensure rounding up
-
-        // Fetch supplier data from all pages
-        return IntStream.range(0, numberOfPages)
-                .parallel()
-                .mapToObj(pageIndex -> getSupplierListResponse(keyword, pageIndex).jsonPath().getList(".", SupplierInformation.class))
-                .flatMap(Collection::stream)
-                .toList();
+        return getSupplierListQuery(keyword).toList();
     }
 
     /**
      * Searches for a supplier by name and returns its ID.
+     * <p>
+     * Suppliers are listed newest first, so the scan requests one page at a time
+     * and stops at the first exact name match.
      *
      * @param name The name of the supplier to search for.
      * @return The ID of the supplier with the specified name.
      * @throws RuntimeException If no supplier with the given name is found.
      */
     public int searchSupplierIdByName(String name) {
-        return getAllSupplierInformation(name).parallelStream()
+        return getSupplierListQuery(name).prefetch(1).stream()
                 .filter(supplier -> supplier.getName().equals(name))
-                .findAny()
+                .findFirst()
                 .map(SupplierInformation::getId)
                 .orElseThrow(() -> new RuntimeException("Supplier with name '" + name + "' not found"));
     }
@@ -15,6 +15,7 @@ import java.util.List;
  */
 public class APIGetUserFeature {
     private final APISellerLogin.LoginInformation loginInfo;
+    private final APISellerLogin.Credentials credentials;
 
     /**
      * Constructor to initialize APIGetUserFeature with seller credentials.
@@ -22,6 +23,7 @@ public class APIGetUserFeature {
      * @param credentials The seller's login credentials.
      */
     public APIGetUserFeature(APISellerLogin.Credentials credentials) {
+        this.credentials = credentials;
         this.loginInfo = new APISellerLogin().getSellerInformation(credentials);
     }
 
@@ -82,7 +84,7 @@ public class APIGetUserFeature {
      */
     public List<UserPackage> getUserFeature() {
         return new APIUtils()
-                .get(getUserFeaturePath(loginInfo.getId()), loginInfo.getAccessToken())
+                .get(getUserFeaturePath(loginInfo.getId()), new APISellerLogin().getAccessToken(credentials))
                 .then()
                 .statusCode(200)
                 .extract()
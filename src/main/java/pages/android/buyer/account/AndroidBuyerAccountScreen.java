@@ -5,7 +5,9 @@ import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import pages.android.buyer.home.AndroidBuyerHomeScreen;
+import pages.android.buyer.login.AndroidBuyerLoginScreen;
 import utility.AndroidUtils;
+import utility.ScrollPositions;
 
 public class AndroidBuyerAccountScreen {
     private final WebDriver driver;
@@ -21,6 +23,7 @@ public class AndroidBuyerAccountScreen {
     public void navigateToLoginScreen() {
         new AndroidBuyerHomeScreen(driver).navigateToAccountScreen();
         androidUtils.click(loc_btnLogin);
+        ScrollPositions.resetScreen(driver, AndroidBuyerLoginScreen.class);
         logger.info("Navigate to login screen.");
     }
 }
@@ -6,8 +6,11 @@ import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import pages.android.buyer.account.AndroidBuyerAccountScreen;
+import pages.android.buyer.product.AndroidBuyerProductDetailScreen;
 import utility.AndroidUtils;
 import utility.PropertiesUtils;
+import utility.ScrollPositions;
 
 import java.time.Duration;
 
@@ -57,12 +60,14 @@ public class AndroidBuyerHomeScreen {
         searchProductByName(productName);
 
         androidUtils.click(loc_lblSearchResult(productName));
+        ScrollPositions.resetScreen(driver, AndroidBuyerProductDetailScreen.class);
 
         logger.info("Navigate to product detail screen, product name: {}", productName);
     }
 
     public void navigateToAccountScreen() {
         androidUtils.click(loc_icnAccount);
+        ScrollPositions.resetScreen(driver, AndroidBuyerAccountScreen.class);
 
         logger.info("Navigate to Account screen.");
     }
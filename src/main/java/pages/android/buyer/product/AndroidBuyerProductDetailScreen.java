@@ -5,8 +5,8 @@ import api.buyer.product.APIGetFlashSaleInformation;
 import api.buyer.product.APIGetWholesaleInformation;
 import api.seller.login.APISellerLogin;
 import api.seller.product.APIGetProductDetail;
-import api.seller.sale_channel.APIGetPreferences;
 import api.seller.setting.APIGetBranchList;
+import api.seller.setting.StoreContext;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
@@ -44,6 +44,9 @@ public class AndroidBuyerProductDetailScreen {
     // Credentials used for API authentication
     private APISellerLogin.Credentials credentials;
 
+    // Discount campaign checks of the current product check
+    private APIGetCampaignInformation apiGetCampaignInformation;
+
     /**
      * Constructor for ProductDetailPage.
      * Initializes the WebDriver instance and common utilities required for page interactions.
@@ -100,7 +103,7 @@ public class AndroidBuyerProductDetailScreen {
                 : APIGetProductDetail.getMainProductName(productInfo, language);
 
         // Retrieve the product name from the storefront
-        String actualProductName = androidUtils.getText(loc_lblProductName);
+        String actualProductName = androidUtils.getTextFromSnapshot(loc_lblProductName);
 
         // Validate product name
         Assert.assertEquals(expectedProductName, actualProductName, "Product name should be '%s', but found '%s'.".formatted(expectedProductName, actualProductName));
@@ -117,9 +120,9 @@ public class AndroidBuyerProductDetailScreen {
     private void validateBranchPrices(long expectedListingPrice, long expectedSellingPrice, String branchName, Runnable adjustStockAction) {
         String branchInfo = branchName.isEmpty() ? "" : "[Branch name: %s]".formatted(branchName);
 
-        if (!(new APIGetPreferences(credentials).getStoreListingWebInformation().isEnabledProduct() && productInfo.isEnabledListing())) {
+        if (!(StoreContext.of(credentials).getStoreListingWebs().isEnabledProduct() && productInfo.isEnabledListing())) {
             if (expectedListingPrice != expectedSellingPrice) {
-                long actualListingPrice = Long.parseLong(androidUtils.getText(loc_lblListingPrice).replaceAll("\\D+", ""));
+                long actualListingPrice = Long.parseLong(androidUtils.getTextFromSnapshot(loc_lblListingPrice).replaceAll("\\D+", ""));
                 Assert.assertEquals(actualListingPrice, expectedListingPrice, "%s Listing price should be %,d, but found %,d.".formatted(branchInfo, expectedListingPrice, actualListingPrice));
             } else {
                 logger.info("No discount product (listing price = selling price)");
@@ -137,7 +140,7 @@ public class AndroidBuyerProductDetailScreen {
                 adjustStockAction.run();
             }
 
-            long actualSellingPrice = Long.parseLong(androidUtils.getText(loc_lblSellingPrice).replaceAll("\\D+", ""));
+            long actualSellingPrice = Long.parseLong(androidUtils.getTextFromSnapshot(loc_lblSellingPrice).replaceAll("\\D+", ""));
             Assert.assertTrue(Math.abs(actualSellingPrice - expectedSellingPrice) <= 1, "%s Selling price should be %,d, but found %,d.".formatted(branchInfo, expectedSellingPrice, actualSellingPrice));
             logger.info("{} Checked product prices and store currency.", branchInfo);
 
@@ -152,7 +155,7 @@ public class AndroidBuyerProductDetailScreen {
     // Check if the flash sale badge is displayed
     private void validateFlashSaleDisplay(String branchName) {
         String branchInfo = "[Branch name: %s]".formatted(branchName);
-        Assert.assertFalse(androidUtils.getListElement(loc_lblFlashSale).isEmpty(), "%s Flash sale badge is not displayed.".formatted(branchInfo));
+        Assert.assertTrue(androidUtils.isPresent(loc_lblFlashSale), "%s Flash sale badge is not displayed.".formatted(branchInfo));
         logger.info("{} Checked flash sale badge display.", branchInfo);
     }
 
@@ -160,14 +163,14 @@ public class AndroidBuyerProductDetailScreen {
     private void validateDiscountCampaignDisplay(String branchName) {
         String branchInfo = "[Branch name: %s]".formatted(branchName);
 
-        Assert.assertFalse(androidUtils.getListElement(loc_lblDiscountCampaign).isEmpty(), "%s Discount campaign is not displayed.".formatted(branchInfo));
+        Assert.assertTrue(androidUtils.isPresent(loc_lblDiscountCampaign), "%s Discount campaign is not displayed.".formatted(branchInfo));
         logger.info("{} Checked discount campaign display.", branchInfo);
     }
 
     // Check if wholesale product pricing is displayed
     private void validateWholesalePricingDisplay(String branchName) {
         String branchInfo = "[Branch name: %s]".formatted(branchName);
-        Assert.assertFalse(androidUtils.getListElement(loc_pnlWholesalePricing).isEmpty(), "%s Wholesale product information is not displayed.".formatted(branchInfo));
+        Assert.assertTrue(androidUtils.isPresent(loc_pnlWholesalePricing), "%s Wholesale product information is not displayed.".formatted(branchInfo));
         logger.info("{} Checked wholesale product information display.", branchInfo);
     }
 
@@ -180,7 +183,7 @@ public class AndroidBuyerProductDetailScreen {
         // Retrieve the variation name list from the dashboard
         List<String> expectedVariationNames = Arrays.stream(APIGetProductDetail.getVariationName(productInfo, language).split("\\|")).toList();
         List<String> actualVariationNames = IntStream.range(0, expectedVariationNames.size())
-                .mapToObj(variationNameIndex -> androidUtils.getText(loc_ddvVariationName(variationNameIndex)))
+                .mapToObj(variationNameIndex -> androidUtils.getTextFromSnapshot(loc_ddvVariationName(variationNameIndex)))
                 .toList();
 
         IntStream.range(0, expectedVariationNames.size())
@@ -205,7 +208,7 @@ public class AndroidBuyerProductDetailScreen {
         String visibilityCheck = shouldBeVisible ? "shown" : "hidden";
 
         // Assert search branch visibility
-        boolean isSearchVisible = !androidUtils.getListElement(loc_icnSearchBranch).isEmpty();
+        boolean isSearchVisible = androidUtils.isPresent(loc_icnSearchBranch);
         Assert.assertEquals(isSearchVisible, shouldBeVisible,
                 "%s 'Search box' should be %s but it is %s.".formatted(varName, visibilityCheck, isSearchVisible ? "shown" : "hidden"));
         logger.info("{} Checking if 'Search box' is {}.", varName, visibilityCheck);
@@ -240,7 +243,7 @@ public class AndroidBuyerProductDetailScreen {
     private void validateBranchStock(String branchName, boolean isVisible, int expectedStock, String variationName) {
         String varName = !variationName.isEmpty() ? "[Variation: %s]".formatted(variationName) : "";
         if (!productInfo.getIsHideStock() && isVisible) {
-            String actualStockText = androidUtils.getText(loc_lblBranchStock(branchName));
+            String actualStockText = androidUtils.getTextFromSnapshot(loc_lblBranchStock(branchName));
             logger.info("Branch and stock text: '{}'", actualStockText);
             int actualStock = Integer.parseInt(actualStockText.split("-")[1].replaceAll("\\D+", ""));
 
@@ -283,18 +286,18 @@ public class AndroidBuyerProductDetailScreen {
     private void verifyBuyNowAndAddToCartButtonsVisibility(String variationName) {
         String varName = !variationName.isEmpty() ? "[Variation: %s]".formatted(variationName) : "";
 
-        boolean shouldBeVisible = !(new APIGetPreferences(credentials).getStoreListingWebInformation().isEnabledProduct() && productInfo.isEnabledListing());
+        boolean shouldBeVisible = !(StoreContext.of(credentials).getStoreListingWebs().isEnabledProduct() && productInfo.isEnabledListing());
 
         // Define expected state as visible or hidden
         String visibilityCheck = shouldBeVisible ? "shown" : "hidden";
 
         // Assert 'Buy Now' button visibility/invisibility
-        boolean isBuyNowVisible = !androidUtils.getListElement(loc_btnBuyNow).isEmpty();
+        boolean isBuyNowVisible = androidUtils.isPresent(loc_btnBuyNow);
         Assert.assertTrue(isBuyNowVisible, "%s 'Buy now' button should be %s but it is %s.".formatted(varName, visibilityCheck, isBuyNowVisible ? "shown" : "hidden"));
         logger.info("{} Checking if 'Buy Now' button is {}.", varName, visibilityCheck);
 
         // Assert 'Add to Cart' button visibility/invisibility
-        boolean isAddToCartVisible = !androidUtils.getListElement(loc_btnAddToCart).isEmpty();
+        boolean isAddToCartVisible = androidUtils.isPresent(loc_btnAddToCart);
         Assert.assertTrue(isAddToCartVisible, "%s 'Add to cart' button should be %s but it is %s.".formatted(varName, visibilityCheck, isAddToCartVisible ? "shown" : "hidden"));
         logger.info("{} Checking if 'Add to Cart' button is {}.", varName, visibilityCheck);
     }
@@ -307,7 +310,7 @@ public class AndroidBuyerProductDetailScreen {
     private void verifySoldOutMarkDisplayed(String variationName) {
         String varName = !variationName.isEmpty() ? "[Variation: %s]".formatted(variationName) : "";
         androidUtils.scrollToTopOfScreen();
-        boolean isSoldOut = !androidUtils.getListElement(loc_lblSoldOut).isEmpty();
+        boolean isSoldOut = androidUtils.isPresent(loc_lblSoldOut);
 
         // Assert sold out mark is visible
         Assert.assertTrue(isSoldOut, "%s Sold out mark does not show".formatted(varName));
@@ -355,7 +358,12 @@ public class AndroidBuyerProductDetailScreen {
      * @return the campaign information, or null if no campaign is available
      */
     private APIGetCampaignInformation.CampaignInformation fetchCampaignInfo(int itemId, int branchId, int customerId) {
-        return new APIGetCampaignInformation(credentials).getDiscountCampaignInformation(itemId, branchId, customerId);
+        // Check all branches of the product at once, the following branches and variations are served from the cache
+        List<APIGetCampaignInformation.ItemBranch> itemBranches = getBranchIds(branchInfos).stream()
+                .map(id -> new APIGetCampaignInformation.ItemBranch(itemId, id))
+                .toList();
+        return apiGetCampaignInformation.getDiscountCampaignInformation(itemBranches, customerId)
+                .get(new APIGetCampaignInformation.ItemBranch(itemId, branchId));
     }
 
     /**
@@ -752,11 +760,14 @@ public class AndroidBuyerProductDetailScreen {
         // Store the credentials for API requests
         this.credentials = credentials;
 
+        // Campaign checks are cached for this product check only
+        this.apiGetCampaignInformation = new APIGetCampaignInformation(credentials);
+
         // Fetch product information using the product ID
         this.productInfo = new APIGetProductDetail(credentials).getProductInformation(productId);
 
-        // Get the latest branch information from the API
-        branchInfos = new APIGetBranchList(credentials).getBranchInformation();
+        // Get the latest branch information (the store context is reloaded after branch updates)
+        branchInfos = StoreContext.of(credentials).getBranchInfos();
 
         boolean shouldAccessProductDetail = shouldAccessProductDetail(productInfo);
 
@@ -1,7 +1,6 @@
 package pages.android.seller.login;
 
 import api.seller.login.APISellerLogin;
-import lombok.Getter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
@@ -19,8 +18,8 @@ public class AndroidSellerLoginScreen {
     final static Logger logger = LogManager.getLogger(AndroidSellerLoginScreen.class);
     private final AndroidUtils androidUtils;
 
-    @Getter
-    private static APISellerLogin.Credentials credentials;
+    // Credentials of the last login on each test thread, each thread drives its own device
+    private static final ThreadLocal<APISellerLogin.Credentials> credentials = new ThreadLocal<>();
 
     /**
      * Constructor for LoginScreen.
@@ -37,6 +36,15 @@ public class AndroidSellerLoginScreen {
     private final By loc_chkTermOfUse = getLocatorById("%s:id/cbxTermAndPrivacy");
     private final By loc_btnLogin = getLocatorById("%s:id/tvLogin");
 
+    /**
+     * Returns the credentials of the last login performed on the current thread.
+     *
+     * @return The credentials, or {@code null} if the thread has not logged in.
+     */
+    public static APISellerLogin.Credentials getCredentials() {
+        return credentials.get();
+    }
+
     /**
      * Inputs the username into the username field.
      *
@@ -98,7 +106,7 @@ public class AndroidSellerLoginScreen {
         androidUtils.relaunchAppIfAppCrashed();
 
         // Set login information for later use
-        AndroidSellerLoginScreen.credentials = loginInformation;
+        credentials.set(loginInformation);
 
         // Perform login steps
         inputUsername(loginInformation.getUsername());
@@ -5,9 +5,8 @@ import api.seller.product.APIGetProductDetail;
 import api.seller.product.APIGetProductDetail.ProductInformation;
 import api.seller.product.APIGetProductList;
 import api.seller.setting.APIGetBranchList;
-import api.seller.setting.APIGetStoreDefaultLanguage;
 import api.seller.setting.APIGetVATList;
-import api.seller.user_feature.APIGetUserFeature;
+import api.seller.setting.StoreContext;
 import io.appium.java_client.android.AndroidDriver;
 import lombok.Setter;
 import org.apache.logging.log4j.LogManager;
@@ -19,6 +18,7 @@ import org.testng.Assert;
 import pages.android.seller.home.AndroidSellerHomeScreen;
 import pages.android.seller.login.AndroidSellerLoginScreen;
 import utility.AndroidUtils;
+import utility.ScrollPositions;
 import utility.WebUtils;
 import utility.helper.ActivityHelper;
 import utility.helper.ProductHelper;
@@ -28,6 +28,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.stream.IntStream;
 
@@ -35,7 +36,7 @@ import static api.seller.user_feature.APIGetUserFeature.*;
 import static java.lang.String.format;
 import static org.apache.commons.lang.math.RandomUtils.nextBoolean;
 import static utility.AndroidUtils.*;
-import static utility.WebDriverManager.appBundleId;
+import static utility.DriverContext.getAppBundleId;
 import static utility.helper.ActivityHelper.*;
 
 
@@ -111,11 +112,14 @@ public class AndroidBaseProductScreen extends BaseProductElement {
         // Get credentials
         this.credentials = AndroidSellerLoginScreen.getCredentials();
 
+        // Load the store reference data (fetched concurrently once per store)
+        StoreContext storeContext = StoreContext.of(this.credentials);
+
         // Retrieve and store branch information
-        this.branchInfos = new APIGetBranchList(this.credentials).getBranchInformation();
+        this.branchInfos = storeContext.getBranchInfos();
 
         // Retrieve the default language of the seller
-        this.defaultLanguage = new APIGetStoreDefaultLanguage(this.credentials).getDefaultLanguage();
+        this.defaultLanguage = storeContext.getDefaultLanguage();
 
         // Get active branch names and IDs
         this.activeBranchIds = APIGetBranchList.getActiveBranchIds(this.branchInfos);
@@ -124,7 +128,7 @@ public class AndroidBaseProductScreen extends BaseProductElement {
         this.allBranchesIds = APIGetBranchList.getBranchIds(this.branchInfos);
 
         // Get all user packages
-        this.userPackages = new APIGetUserFeature(this.credentials).getUserFeature();
+        this.userPackages = storeContext.getUserPackages();
 
         // Init platform information
         this.showOnApp = hasGoAPP(this.userPackages);
@@ -146,7 +150,7 @@ public class AndroidBaseProductScreen extends BaseProductElement {
      */
     private void fetchProductInformation(boolean isManagedByIMEI, boolean hasModel, int[] branchStock) {
         // Retrieve tax information (VAT details)
-        var vatInfos = new APIGetVATList(this.credentials).getVATInformation();
+        var vatInfos = StoreContext.of(this.credentials).getVatInfos();
         List<Integer> vatIds = APIGetVATList.getVATIds(vatInfos); // List of VAT IDs
         List<String> vatNames = APIGetVATList.getVATNames(vatInfos); // List of VAT names
 
@@ -538,6 +542,7 @@ public class AndroidBaseProductScreen extends BaseProductElement {
 
     private void saveChanges() {
         // Save all product information
+        Instant savedAt = Instant.now();
         androidUtils.click(loc_btnSave);
 
         // Allow managing stock by lot-date
@@ -559,15 +564,35 @@ public class AndroidBaseProductScreen extends BaseProductElement {
 
         // If product are updated, check information after updating
         // Get product ID
-        WebUtils.sleep(5000);
-        int productId = new APIGetProductList(this.credentials)
-                .searchProductIdByName(this.newProductInfo.getName());
+        int productId = searchCreatedProductId(savedAt);
         this.newProductInfo.setId(productId);
 
         // Validate after create
         if (productId == 0) Assert.fail("Can not find product after created");
     }
 
+    /**
+     * Searches the ID of the product just created, polling until it is listed.
+     * The app's requests cannot be captured like the dashboard's, but the search only scans the products
+     * modified after {@code savedAt}, so polling it returns as soon as the product is indexed
+     * instead of waiting a fixed delay.
+     *
+     * @param savedAt The time the product was saved.
+     * @return The product ID.
+     * @throws NoSuchElementException if the product is still not listed after 10 seconds.
+     */
+    private int searchCreatedProductId(Instant savedAt) {
+        APIGetProductList apiGetProductList = new APIGetProductList(this.credentials);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return apiGetProductList.searchProductIdByName(this.newProductInfo.getName(), savedAt);
+            } catch (NoSuchElementException ex) {
+                if (attempt == 20) throw ex;
+                WebUtils.sleep(500);
+            }
+        }
+    }
+
     /**
      * Verifies the product information by comparing the arranged product information
      * with the expected product information retrieved from the API. It checks various
@@ -822,6 +847,7 @@ public class AndroidBaseProductScreen extends BaseProductElement {
         IntStream.range(0, this.newProductInfo.getModels().size()).forEach(variationIndex -> {
             // Navigate to variation detail screen
             androidUtils.click(loc_lstVariations(variationIndex));
+            ScrollPositions.resetScreen(driver, ProductVariationScreen.class);
 
             // Update variation information
             productVariationScreen.getVariationInformation(this.branchInfos, variationIndex, this.newProductInfo)
@@ -850,6 +876,8 @@ public class AndroidBaseProductScreen extends BaseProductElement {
          * @param driver the AndroidDriver instance used to interact with the Android UI elements.
          */
         public SelectImagePopup(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, SelectImagePopup.class);
             this.androidUtils = new AndroidUtils(driver);
         }
 
@@ -874,6 +902,9 @@ public class AndroidBaseProductScreen extends BaseProductElement {
         private List<APIGetBranchList.BranchInformation> branchInfos;
 
         public ProductVariationScreen(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, ProductVariationScreen.class);
+
             // Get driver
             this.driver = driver;
 
@@ -882,15 +913,15 @@ public class AndroidBaseProductScreen extends BaseProductElement {
         }
 
         By loc_btnSave = getLocatorByResourceId("%s:id/tvActionBarIconRight");
-        By loc_btnSelectImage = By.xpath("//android.widget.FrameLayout[*[@resource-id = '%s:id/rlSelectImages']]".formatted(appBundleId));
+        By loc_btnSelectImage = By.xpath("//android.widget.FrameLayout[*[@resource-id = '%s:id/rlSelectImages']]".formatted(getAppBundleId()));
         By loc_txtVariationName = getLocatorByResourceId("%s:id/edtVersionName");
         By loc_chkReuseProductDescription = getLocatorByResourceId("%s:id/ivUseProductDescription");
         By loc_btnVariationDescription = getLocatorByResourceId("%s:id/tvVariationDescription");
-        By loc_txtVariationListingPrice = By.xpath("//*[@*= '%s:id/edtVariationOrgPrice']//*[@* = '%s:id/edtPriceCustom']".formatted(appBundleId, appBundleId));
-        By loc_txtVariationSellingPrice = By.xpath("//*[@*= '%s:id/edtVariationNewPrice']//*[@* = '%s:id/edtPriceCustom']".formatted(appBundleId, appBundleId));
+        By loc_txtVariationListingPrice = By.xpath("//*[@*= '%s:id/edtVariationOrgPrice']//*[@* = '%s:id/edtPriceCustom']".formatted(getAppBundleId(), getAppBundleId()));
+        By loc_txtVariationSellingPrice = By.xpath("//*[@*= '%s:id/edtVariationNewPrice']//*[@* = '%s:id/edtPriceCustom']".formatted(getAppBundleId(), getAppBundleId()));
         WebElement web_txtVariationCostPrice(AndroidUtils androidUtils) {
             WebElement element = androidUtils.getElement(getLocatorByResourceId("%s:id/edtVariationCostPrice"));
-            return element.findElement(By.xpath("//*[@resource-id = '%s:id/edtPriceCustom']".formatted(appBundleId)));
+            return element.findElement(By.xpath("//*[@resource-id = '%s:id/edtPriceCustom']".formatted(getAppBundleId())));
         }
         By loc_txtVariationSKU = getLocatorByResourceId("%s:id/edtSKU");
         By loc_txtVariationBarcode = getLocatorByResourceId("%s:id/edtBarcode");
@@ -991,7 +1022,7 @@ public class AndroidBaseProductScreen extends BaseProductElement {
         }
 
         void updateVariationSKU() {
-            if (!androidUtils.getListElement(loc_txtVariationSKU).isEmpty()) {
+            if (androidUtils.isPresent(loc_txtVariationSKU)) {
                 // Input variation SKU
                 String sku = model.getSku();
 
@@ -1027,7 +1058,7 @@ public class AndroidBaseProductScreen extends BaseProductElement {
         }
 
         void updateVariationStatus() {
-            if (!androidUtils.getListElement(loc_btnDeactivate).isEmpty()) {
+            if (androidUtils.isPresent(loc_btnDeactivate)) {
                 // Get new variation status
                 String newStatus = model.getStatus();
 
@@ -1068,6 +1099,8 @@ public class AndroidBaseProductScreen extends BaseProductElement {
         Logger logger = LogManager.getLogger();
 
         public VariationScreen(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, VariationScreen.class);
             this.driver = driver;
             androidUtils = new AndroidUtils(driver);
         }
@@ -1153,6 +1186,8 @@ public class AndroidBaseProductScreen extends BaseProductElement {
          * @param driver the AndroidDriver instance used to interact with the Android UI elements.
          */
         public ProductDescriptionScreen(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, ProductDescriptionScreen.class);
             this.androidUtils = new AndroidUtils(driver);
         }
 
@@ -1176,6 +1211,8 @@ public class AndroidBaseProductScreen extends BaseProductElement {
         Logger logger = LogManager.getLogger();
 
         public InventoryScreen(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, InventoryScreen.class);
             this.driver = driver;
             androidUtils = new AndroidUtils(driver);
         }
@@ -1190,7 +1227,7 @@ public class AndroidBaseProductScreen extends BaseProductElement {
 
         By loc_btnSave = getLocatorByResourceId("%s:id/tvActionBarIconRight");
         By loc_dlgUpdateStock = getLocatorByResourceId("%s:id/tabLayoutUpdateStockType");
-        By loc_dlgUpdateStock_tabChange = By.xpath("(//*[@* = '%s:id/tabLayoutUpdateStockType']//android.widget.TextView)[2]".formatted(appBundleId));
+        By loc_dlgUpdateStock_tabChange = By.xpath("(//*[@* = '%s:id/tabLayoutUpdateStockType']//android.widget.TextView)[2]".formatted(getAppBundleId()));
         By loc_dlgUpdateStock_txtQuantity = getLocatorByResourceId("%s:id/edtStock");
         By loc_dlgUpdateStock_btnOK = getLocatorByResourceId("%s:id/tvUpdateStock");
 
@@ -1260,6 +1297,8 @@ public class AndroidBaseProductScreen extends BaseProductElement {
         Logger logger = LogManager.getLogger();
 
         public EditMultipleScreen(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, EditMultipleScreen.class);
             this.driver = driver;
             androidUtils = new AndroidUtils(driver);
         }
@@ -1272,12 +1311,12 @@ public class AndroidBaseProductScreen extends BaseProductElement {
         }
 
         By loc_lblActions = getLocatorByResourceId("%s:id/ivAction");
-        By loc_lblUpdatePriceActions = By.xpath("(//*[@* = '%s:id/title'])[1]".formatted(appBundleId));
-        By loc_lblUpdateStockActions = By.xpath("(//*[@* = '%s:id/title'])[2]".formatted(appBundleId));
-        By loc_dlgUpdatePrice_txtListingPrice = By.xpath("//*[@* = '%s:id/edtOrgPrice']//*[@* = '%s:id/edtPriceCustom']".formatted(appBundleId, appBundleId));
-        By loc_dlgUpdatePrice_txtSellingPrice = By.xpath("//*[@* = '%s:id/edtNewPrice']//*[@* = '%s:id/edtPriceCustom']".formatted(appBundleId, appBundleId));
+        By loc_lblUpdatePriceActions = By.xpath("(//*[@* = '%s:id/title'])[1]".formatted(getAppBundleId()));
+        By loc_lblUpdateStockActions = By.xpath("(//*[@* = '%s:id/title'])[2]".formatted(getAppBundleId()));
+        By loc_dlgUpdatePrice_txtListingPrice = By.xpath("//*[@* = '%s:id/edtOrgPrice']//*[@* = '%s:id/edtPriceCustom']".formatted(getAppBundleId(), getAppBundleId()));
+        By loc_dlgUpdatePrice_txtSellingPrice = By.xpath("//*[@* = '%s:id/edtNewPrice']//*[@* = '%s:id/edtPriceCustom']".formatted(getAppBundleId(), getAppBundleId()));
         By loc_dlgUpdatePrice_btnOK = getLocatorByResourceId("%s:id/tvOK");
-        By loc_dlgUpdateStock_tabChange = By.xpath("(//*[@* = '%s:id/tabLayoutUpdateStockType']//android.widget.TextView)[2]".formatted(appBundleId));
+        By loc_dlgUpdateStock_tabChange = By.xpath("(//*[@* = '%s:id/tabLayoutUpdateStockType']//android.widget.TextView)[2]".formatted(getAppBundleId()));
         By loc_dlgUpdateStock_txtQuantity = getLocatorByResourceId("%s:id/edtStock");
         By loc_dlgUpdateStock_btnOK = getLocatorByResourceId("%s:id/tvUpdateStock");
 
@@ -1357,6 +1396,9 @@ public class AndroidBaseProductScreen extends BaseProductElement {
         Logger logger = LogManager.getLogger();
 
         public AddIMEIScreen(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, AddIMEIScreen.class);
+
             // Get driver
             this.driver = driver;
 
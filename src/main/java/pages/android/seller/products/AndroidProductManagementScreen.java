@@ -14,12 +14,13 @@ import org.testng.Assert;
 import pages.android.seller.home.AndroidSellerHomeScreen;
 import pages.android.seller.login.AndroidSellerLoginScreen;
 import utility.AndroidUtils;
+import utility.ScrollPositions;
 
 import java.util.List;
 
 import static api.seller.product.APIGetProductList.ProductFilterType.*;
 import static utility.AndroidUtils.*;
-import static utility.WebDriverManager.appBundleId;
+import static utility.DriverContext.getAppBundleId;
 
 
 public class AndroidProductManagementScreen {
@@ -71,6 +72,7 @@ public class AndroidProductManagementScreen {
         if (!androidUtils.getListElement(loc_lblProductName(productName)).isEmpty()) {
             // Click into first result
             androidUtils.click(loc_lblProductName(productName));
+            ScrollPositions.resetScreen(driver, AndroidBaseProductScreen.class);
         } else throw new NoSuchElementException("No result with keyword: %s".formatted(productName));
     }
 
@@ -243,6 +245,8 @@ public class AndroidProductManagementScreen {
         private final Logger logger = LogManager.getLogger();
 
         public FilterScreen(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, FilterScreen.class);
             this.driver = driver;
             this.androidUtils = new AndroidUtils(driver);
         }
@@ -377,10 +381,12 @@ public class AndroidProductManagementScreen {
             private final Logger logger = LogManager.getLogger();
 
             public BranchScreen(WebDriver driver) {
+                // Reset scroll position
+                ScrollPositions.resetScreen(driver, BranchScreen.class);
                 this.androidUtils = new AndroidUtils(driver);
             }
 
-            private final By loc_btnAllBranches = By.xpath("(//*[@* = '%s:id/htvFullBranches'] // *[@* = '%s:id/tag_container'])[1]".formatted(appBundleId, appBundleId));
+            private final By loc_btnAllBranches = By.xpath("(//*[@* = '%s:id/htvFullBranches'] // *[@* = '%s:id/tag_container'])[1]".formatted(getAppBundleId(), getAppBundleId()));
 
             private By loc_btnBranch(String branchName) {
                 return By.xpath("//*[@text = '%s']".formatted(branchName));
@@ -405,10 +411,12 @@ public class AndroidProductManagementScreen {
             private final Logger logger = LogManager.getLogger();
 
             public CollectionsScreen(WebDriver driver) {
+                // Reset scroll position
+                ScrollPositions.resetScreen(driver, CollectionsScreen.class);
                 this.androidUtils = new AndroidUtils(driver);
             }
 
-            private final By loc_btnAllCollections = By.xpath("(//*[@* = '%s:id/htvFullCollections'] // *[@* = '%s:id/tag_container'])[1]".formatted(appBundleId, appBundleId));
+            private final By loc_btnAllCollections = By.xpath("(//*[@* = '%s:id/htvFullCollections'] // *[@* = '%s:id/tag_container'])[1]".formatted(getAppBundleId(), getAppBundleId()));
 
             private By loc_btnCollection(String collectionName)  {
                 return By.xpath("//*[@text = '%s']".formatted(collectionName));
@@ -5,7 +5,7 @@ import org.openqa.selenium.By;
 import static org.openqa.selenium.By.xpath;
 import static utility.AndroidUtils.getLocatorByResourceId;
 import static utility.AndroidUtils.getLocatorByResourceIdAndInstance;
-import static utility.WebDriverManager.appBundleId;
+import static utility.DriverContext.getAppBundleId;
 
 public class BaseProductElement {
     By loc_btnSave = getLocatorByResourceId("%s:id/ivActionBarIconRight");
@@ -13,14 +13,14 @@ public class BaseProductElement {
     By loc_icnUploadImages = xpath("//*[contains(@resource-id, ':id/rlSelectImages')]");
     By loc_txtProductName = getLocatorByResourceId("%s:id/edtProductName");
     By loc_btnProductDescription = getLocatorByResourceId("%s:id/tvProductDescription");
-    By loc_txtWithoutVariationListingPrice = By.xpath("//*[@resource-id = '%s:id/edtProductOrgPrice']//android.widget.EditText".formatted(appBundleId));
-    By loc_txtWithoutVariationSellingPrice = By.xpath("//*[@resource-id = '%s:id/edtProductNewPrice']//android.widget.EditText".formatted(appBundleId));
-    By loc_txtWithoutVariationCostPrice =  By.xpath("//*[@resource-id = '%s:id/edtProductCostPrice']//android.widget.EditText".formatted(appBundleId));
+    By loc_txtWithoutVariationListingPrice = By.xpath("//*[@resource-id = '%s:id/edtProductOrgPrice']//android.widget.EditText".formatted(getAppBundleId()));
+    By loc_txtWithoutVariationSellingPrice = By.xpath("//*[@resource-id = '%s:id/edtProductNewPrice']//android.widget.EditText".formatted(getAppBundleId()));
+    By loc_txtWithoutVariationCostPrice =  By.xpath("//*[@resource-id = '%s:id/edtProductCostPrice']//android.widget.EditText".formatted(getAppBundleId()));
     By loc_txtWithoutVariationBarcode = getLocatorByResourceId("%s:id/edtProductBarcode");
     By loc_chkHideRemainingStock = getLocatorByResourceId("%s:id/ivHideStockOnOnlineStore");
     By loc_chkDisplayIfOutOfStock = getLocatorByResourceId("%s:id/ivDisplayIfOutOfStock");
     By loc_lblSelectedManageInventoryType = getLocatorByResourceId("%s:id/btnSwitchManageInventoryType");
-    By loc_lblManageInventoryByIMEI = xpath("//*[@* = '%s:id/llManageInventoryByImeiSerial']".formatted(appBundleId));
+    By loc_lblManageInventoryByIMEI = xpath("//*[@* = '%s:id/llManageInventoryByImeiSerial']".formatted(getAppBundleId()));
     By loc_chkManageStockByLotDate = getLocatorByResourceId("%s:id/ivManageStockByLotDate");
     By loc_lblInventory = getLocatorByResourceId("%s:id/clInventoryContainer");
     By loc_swShipping = getLocatorByResourceId("%s:id/swShipping");
@@ -11,6 +11,7 @@ import org.testng.Assert;
 import pages.web.seller.suppliers.all_suppliers.BaseSupplierPage;
 import utility.AndroidUtils;
 import utility.PropertiesUtils;
+import utility.ScrollPositions;
 import utility.WebUtils;
 import utility.helper.SupplierHelper;
 
@@ -433,6 +434,8 @@ public class AndroidBaseSupplierScreen {
          * @param driver the WebDriver used to interact with the application
          */
         public PopupHandler(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, PopupHandler.class);
             this.androidUtils = new AndroidUtils(driver);
         }
 
@@ -4,6 +4,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import pages.android.seller.home.AndroidSellerHomeScreen;
 import utility.AndroidUtils;
+import utility.ScrollPositions;
 
 import static utility.AndroidUtils.getLocatorById;
 
@@ -30,10 +31,12 @@ public class AndroidSupplierManagementScreen {
 
     public void navigateToCreateSupplierScreen() {
         androidUtils.click(loc_btnAddSupplier);
+        ScrollPositions.resetScreen(driver, AndroidBaseSupplierScreen.class);
     }
 
     public void navigateToSupplierDetailScreen(String supplierName) {
         androidUtils.sendKeys(loc_txtSearchBox, supplierName);
         androidUtils.click(loc_lstSupplier(supplierName));
+        ScrollPositions.resetScreen(driver, AndroidBaseSupplierScreen.class);
     }
 }
@@ -5,7 +5,9 @@ import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import pages.ios.buyer.home.IOSBuyerHomeScreen;
+import pages.ios.buyer.login.IOSBuyerLoginScreen;
 import utility.IOSUtils;
+import utility.ScrollPositions;
 
 public class IOSBuyerAccountScreen {
     private final WebDriver driver;
@@ -21,6 +23,7 @@ public class IOSBuyerAccountScreen {
     public void navigateToLoginScreen() {
         new IOSBuyerHomeScreen(driver).navigateToAccountScreen();
         androidUtils.click(loc_btnLogin);
+        ScrollPositions.resetScreen(driver, IOSBuyerLoginScreen.class);
         logger.info("Navigate to login screen.");
     }
 }
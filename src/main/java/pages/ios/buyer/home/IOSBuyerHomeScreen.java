@@ -6,8 +6,11 @@ import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import pages.ios.buyer.account.IOSBuyerAccountScreen;
+import pages.ios.buyer.product.IOSBuyerProductDetailScreen;
 import utility.IOSUtils;
 import utility.PropertiesUtils;
+import utility.ScrollPositions;
 
 import java.time.Duration;
 
@@ -56,6 +59,7 @@ public class IOSBuyerHomeScreen {
         searchProductByName(productName);
 
         iosUtils.click(loc_lblSearchResult(productName));
+        ScrollPositions.resetScreen(driver, IOSBuyerProductDetailScreen.class);
 
         logger.info("Navigate to product detail screen, product name: {}", productName);
     }
@@ -63,6 +67,7 @@ public class IOSBuyerHomeScreen {
     public void navigateToAccountScreen() {
         iosUtils.allowPermission("Allow");
         iosUtils.click(loc_icnAccount);
+        ScrollPositions.resetScreen(driver, IOSBuyerAccountScreen.class);
         logger.info("Navigate to Account screen.");
     }
 }
@@ -5,8 +5,8 @@ import api.buyer.product.APIGetFlashSaleInformation;
 import api.buyer.product.APIGetWholesaleInformation;
 import api.seller.login.APISellerLogin;
 import api.seller.product.APIGetProductDetail;
-import api.seller.sale_channel.APIGetPreferences;
 import api.seller.setting.APIGetBranchList;
+import api.seller.setting.StoreContext;
 import io.appium.java_client.AppiumBy;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -44,6 +44,9 @@ public class IOSBuyerProductDetailScreen {
     // Credentials used for API authentication
     private APISellerLogin.Credentials credentials;
 
+    // Discount campaign checks of the current product check
+    private APIGetCampaignInformation apiGetCampaignInformation;
+
     /**
      * Constructor for ProductDetailPage.
      * Initializes the WebDriver instance and common utilities required for page interactions.
@@ -109,7 +112,7 @@ public class IOSBuyerProductDetailScreen {
                 : APIGetProductDetail.getMainProductName(productInfo, language);
 
         // Validate product name
-        Assert.assertFalse(iosUtils.getListElement(loc_lblProductName(expectedProductName)).isEmpty(),
+        Assert.assertTrue(iosUtils.isPresent(loc_lblProductName(expectedProductName)),
                 "Product name should be '%s', but it does not match.".formatted(expectedProductName));
         logger.info("[Validate Product Name] Product name is displayed correctly.");
     }
@@ -123,7 +126,7 @@ public class IOSBuyerProductDetailScreen {
     private void validateBranchPrices(long expectedSellingPrice, String branchName, Runnable adjustStockAction) {
         String branchInfo = branchName.isEmpty() ? "" : "[Branch name: %s]".formatted(branchName);
 
-        if (!(new APIGetPreferences(credentials).getStoreListingWebInformation().isEnabledProduct() && productInfo.isEnabledListing())) {
+        if (!(StoreContext.of(credentials).getStoreListingWebs().isEnabledProduct() && productInfo.isEnabledListing())) {
             // Open cart popup to verify the product selling price
             iosUtils.click(loc_btnAddToCart);
             logger.info("%s Open cart popup.".formatted(branchInfo));
@@ -133,7 +136,7 @@ public class IOSBuyerProductDetailScreen {
                 adjustStockAction.run();
             }
 
-            Assert.assertFalse(iosUtils.getListElement(loc_lblSellingPrice(expectedSellingPrice)).isEmpty(),
+            Assert.assertTrue(iosUtils.isPresent(loc_lblSellingPrice(expectedSellingPrice)),
                     "%s Selling price must be '%,d', but it does not match.".formatted(branchInfo, expectedSellingPrice));
             logger.info("{} Checked product prices and store currency.", branchInfo);
 
@@ -148,7 +151,7 @@ public class IOSBuyerProductDetailScreen {
     // Check if the flash sale badge is displayed
     private void validateFlashSaleDisplay(String branchName) {
         String branchInfo = "[Branch name: %s]".formatted(branchName);
-        Assert.assertFalse(iosUtils.getListElement(loc_lblFlashSale).isEmpty(), "%s Flash sale badge is not displayed.".formatted(branchInfo));
+        Assert.assertTrue(iosUtils.isPresent(loc_lblFlashSale), "%s Flash sale badge is not displayed.".formatted(branchInfo));
         logger.info("{} Checked flash sale badge display.", branchInfo);
     }
 
@@ -156,14 +159,14 @@ public class IOSBuyerProductDetailScreen {
     private void validateDiscountCampaignDisplay(String branchName) {
         String branchInfo = "[Branch name: %s]".formatted(branchName);
 
-        Assert.assertFalse(iosUtils.getListElement(loc_lblDiscountCampaign).isEmpty(), "%s Discount campaign is not displayed.".formatted(branchInfo));
+        Assert.assertTrue(iosUtils.isPresent(loc_lblDiscountCampaign), "%s Discount campaign is not displayed.".formatted(branchInfo));
         logger.info("{} Checked discount campaign display.", branchInfo);
     }
 
     // Check if wholesale product pricing is displayed
     private void validateWholesalePricingDisplay(String branchName) {
         String branchInfo = "[Branch name: %s]".formatted(branchName);
-        Assert.assertFalse(iosUtils.getListElement(loc_pnlWholesalePricing).isEmpty(), "%s Wholesale product information is not displayed.".formatted(branchInfo));
+        Assert.assertTrue(iosUtils.isPresent(loc_pnlWholesalePricing), "%s Wholesale product information is not displayed.".formatted(branchInfo));
         logger.info("{} Checked wholesale product information display.", branchInfo);
     }
 
@@ -176,7 +179,7 @@ public class IOSBuyerProductDetailScreen {
         // Retrieve the variation name list from the dashboard
         List<String> expectedVariationNames = Arrays.stream(APIGetProductDetail.getVariationName(productInfo, language).split("\\|")).toList();
         expectedVariationNames.forEach(variationName ->
-                Assert.assertFalse(iosUtils.getListElement(loc_ddvVariationName(variationName)).isEmpty(),
+                Assert.assertTrue(iosUtils.isPresent(loc_ddvVariationName(variationName)),
                         "Can not find variation name '%s'".formatted(variationName)));
 
         // Log variation name check
@@ -196,7 +199,7 @@ public class IOSBuyerProductDetailScreen {
         String visibilityCheck = shouldBeVisible ? "shown" : "hidden";
 
         // Assert search branch visibility
-        boolean isSearchVisible = !iosUtils.getListElement(loc_icnSearchBranch).isEmpty();
+        boolean isSearchVisible = iosUtils.isPresent(loc_icnSearchBranch);
         Assert.assertEquals(isSearchVisible, shouldBeVisible,
                 "%s 'Search box' should be %s but it is %s.".formatted(varName, visibilityCheck, isSearchVisible ? "shown" : "hidden"));
         logger.info("{} Checking if 'Search box' is {}.", varName, visibilityCheck);
@@ -231,7 +234,7 @@ public class IOSBuyerProductDetailScreen {
     private void validateBranchStock(String branchName, boolean isVisible, int expectedStock, String variationName) {
         String varName = !variationName.isEmpty() ? "[Variation: %s]".formatted(variationName) : "";
         if (!productInfo.getIsHideStock() && isVisible) {
-            String actualStockText = iosUtils.getText(loc_lblBranchStock(branchName));
+            String actualStockText = iosUtils.getTextFromSnapshot(loc_lblBranchStock(branchName));
             logger.info("Branch and stock text: '{}'", actualStockText);
             int actualStock = Integer.parseInt(actualStockText.split("-")[1].split(",")[0].replaceAll("\\D+", ""));
 
@@ -259,7 +262,7 @@ public class IOSBuyerProductDetailScreen {
         // Assert descriptions match
         iosUtils.click(loc_lblSimilarProduct);
         try {
-            Assert.assertFalse(iosUtils.getListElement(loc_cntDescription(expectedDescription)).isEmpty(),
+            Assert.assertTrue(iosUtils.isPresent(loc_cntDescription(expectedDescription)),
                     "[Check description] Product description should be '%s', but it does not match'".formatted(expectedDescription));
             logger.info("[Check description] Product description is shown correctly.");
         } catch (AssertionError e) {
@@ -276,18 +279,18 @@ public class IOSBuyerProductDetailScreen {
     private void verifyBuyNowAndAddToCartButtonsVisibility(String variationName) {
         String varName = !variationName.isEmpty() ? "[Variation: %s]".formatted(variationName) : "";
 
-        boolean shouldBeVisible = !(new APIGetPreferences(credentials).getStoreListingWebInformation().isEnabledProduct() && productInfo.isEnabledListing());
+        boolean shouldBeVisible = !(StoreContext.of(credentials).getStoreListingWebs().isEnabledProduct() && productInfo.isEnabledListing());
 
         // Define expected state as visible or hidden
         String visibilityCheck = shouldBeVisible ? "shown" : "hidden";
 
         // Assert 'Buy Now' button visibility/invisibility
-        boolean isBuyNowVisible = !iosUtils.getListElement(loc_btnBuyNow).isEmpty();
+        boolean isBuyNowVisible = iosUtils.isPresent(loc_btnBuyNow);
         Assert.assertTrue(isBuyNowVisible, "%s 'Buy now' button should be %s but it is %s.".formatted(varName, visibilityCheck, isBuyNowVisible ? "shown" : "hidden"));
         logger.info("{} Checking if 'Buy Now' button is {}.", varName, visibilityCheck);
 
         // Assert 'Add to Cart' button visibility/invisibility
-        boolean isAddToCartVisible = !iosUtils.getListElement(loc_btnAddToCart).isEmpty();
+        boolean isAddToCartVisible = iosUtils.isPresent(loc_btnAddToCart);
         Assert.assertTrue(isAddToCartVisible, "%s 'Add to cart' button should be %s but it is %s.".formatted(varName, visibilityCheck, isAddToCartVisible ? "shown" : "hidden"));
         logger.info("{} Checking if 'Add to Cart' button is {}.", varName, visibilityCheck);
     }
@@ -299,7 +302,7 @@ public class IOSBuyerProductDetailScreen {
      */
     private void verifySoldOutMarkDisplayed(String variationName) {
         String varName = !variationName.isEmpty() ? "[Variation: %s]".formatted(variationName) : "";
-        boolean isSoldOut = !iosUtils.getListElement(loc_lblSoldOut).isEmpty();
+        boolean isSoldOut = iosUtils.isPresent(loc_lblSoldOut);
 
         // Assert sold out mark is visible
         Assert.assertTrue(isSoldOut, "%s Sold out mark does not show".formatted(varName));
@@ -346,7 +349,12 @@ public class IOSBuyerProductDetailScreen {
      * @return the campaign information, or null if no campaign is available
      */
     private APIGetCampaignInformation.CampaignInformation fetchCampaignInfo(int itemId, int branchId, int customerId) {
-        return new APIGetCampaignInformation(credentials).getDiscountCampaignInformation(itemId, branchId, customerId);
+        // Check all branches of the product at once, the following branches and variations are served from the cache
+        List<APIGetCampaignInformation.ItemBranch> itemBranches = getBranchIds(branchInfos).stream()
+                .map(id -> new APIGetCampaignInformation.ItemBranch(itemId, id))
+                .toList();
+        return apiGetCampaignInformation.getDiscountCampaignInformation(itemBranches, customerId)
+                .get(new APIGetCampaignInformation.ItemBranch(itemId, branchId));
     }
 
     /**
@@ -730,11 +738,14 @@ public class IOSBuyerProductDetailScreen {
         // Store the credentials for API requests
         this.credentials = credentials;
 
+        // Campaign checks are cached for this product check only
+        this.apiGetCampaignInformation = new APIGetCampaignInformation(credentials);
+
         // Fetch product information using the product ID
         this.productInfo = new APIGetProductDetail(credentials).getProductInformation(productId);
 
-        // Get the latest branch information from the API
-        branchInfos = new APIGetBranchList(credentials).getBranchInformation();
+        // Get the latest branch information (the store context is reloaded after branch updates)
+        branchInfos = StoreContext.of(credentials).getBranchInfos();
 
         boolean shouldAccessProductDetail = shouldAccessProductDetail(productInfo);
 
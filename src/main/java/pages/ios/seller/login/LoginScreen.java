@@ -2,7 +2,6 @@ package pages.ios.seller.login;
 
 import api.seller.login.APISellerLogin.Credentials;
 import io.appium.java_client.ios.IOSDriver;
-import lombok.Getter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
@@ -16,8 +15,8 @@ public class LoginScreen {
     WebDriver driver;
     IOSUtils iosUtils;
     Logger logger = LogManager.getLogger();
-    @Getter
-    private static Credentials credentials;
+    // Credentials of the last login on each test thread, each thread drives its own device
+    private static final ThreadLocal<Credentials> credentials = new ThreadLocal<>();
 
     By loc_txtUsername = iOSNsPredicateString("type == \"XCUIElementTypeTextField\"");
     By loc_txtPassword = iOSNsPredicateString("type == \"XCUIElementTypeSecureTextField\"");
@@ -32,6 +31,15 @@ public class LoginScreen {
         iosUtils = new IOSUtils(driver);
     }
 
+    /**
+     * Returns the credentials of the last login performed on the current thread.
+     *
+     * @return The credentials, or {@code null} if the thread has not logged in.
+     */
+    public static Credentials getCredentials() {
+        return credentials.get();
+    }
+
     void allowNotificationPermission() {
         // Switch to notification permission and accept
         iosUtils.allowPermission("Allow");
@@ -71,7 +79,7 @@ public class LoginScreen {
 
     public void performLogin(Credentials credentials) {
         // Get login information
-        LoginScreen.credentials = credentials;
+        LoginScreen.credentials.set(credentials);
 
         // Check if user are logged, logout and re-login with new account
         new HomeScreen(driver).logout();
@@ -5,9 +5,8 @@ import api.seller.product.APIGetProductDetail;
 import api.seller.product.APIGetProductDetail.ProductInformation;
 import api.seller.product.APIGetProductList;
 import api.seller.setting.APIGetBranchList;
-import api.seller.setting.APIGetStoreDefaultLanguage;
 import api.seller.setting.APIGetVATList;
-import api.seller.user_feature.APIGetUserFeature;
+import api.seller.setting.StoreContext;
 import io.appium.java_client.AppiumBy;
 import lombok.Setter;
 import org.apache.logging.log4j.LogManager;
@@ -18,6 +17,7 @@ import org.testng.Assert;
 import pages.ios.seller.home.HomeScreen;
 import pages.ios.seller.login.LoginScreen;
 import utility.IOSUtils;
+import utility.ScrollPositions;
 import utility.WebUtils;
 import utility.helper.ProductHelper;
 import utility.helper.VariationHelper;
@@ -104,11 +104,14 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         // Get credentials
         this.credentials = LoginScreen.getCredentials();
 
+        // Load the store reference data (fetched concurrently once per store)
+        StoreContext storeContext = StoreContext.of(this.credentials);
+
         // Retrieve and store branch information
-        this.branchInfos = new APIGetBranchList(this.credentials).getBranchInformation();
+        this.branchInfos = storeContext.getBranchInfos();
 
         // Retrieve the default language of the seller
-        this.defaultLanguage = new APIGetStoreDefaultLanguage(this.credentials).getDefaultLanguage();
+        this.defaultLanguage = storeContext.getDefaultLanguage();
 
         // Get active branch names and IDs
         this.activeBranchIds = APIGetBranchList.getActiveBranchIds(this.branchInfos);
@@ -117,7 +120,7 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         this.allBranchesIds = APIGetBranchList.getBranchIds(this.branchInfos);
 
         // Get all user packages
-        this.userPackages = new APIGetUserFeature(this.credentials).getUserFeature();
+        this.userPackages = storeContext.getUserPackages();
 
         // Init platform information
         this.showOnApp = hasGoAPP(this.userPackages);
@@ -139,7 +142,7 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
      */
     private void fetchProductInformation(boolean isManagedByIMEI, boolean hasModel, int[] branchStock) {
         // Retrieve tax information (VAT details)
-        var vatInfos = new APIGetVATList(this.credentials).getVATInformation();
+        var vatInfos = StoreContext.of(this.credentials).getVatInfos();
         List<Integer> vatIds = APIGetVATList.getVATIds(vatInfos); // List of VAT IDs
         List<String> vatNames = APIGetVATList.getVATNames(vatInfos); // List of VAT names
 
@@ -397,10 +400,13 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
     }
 
     private void modifyProductSellingPlatform() {
-        /* WEB PLATFORM */
-        // Get current show on web status
-        boolean webStatus = iosUtils.isChecked(loc_swWeb);
+        // Get current platform statuses from one snapshot, before any switch changes the screen
+        boolean webStatus = iosUtils.isCheckedFromSnapshot(loc_swWeb);
+        boolean appStatus = iosUtils.isCheckedFromSnapshot(loc_swApp);
+        boolean inStoreStatus = iosUtils.isCheckedFromSnapshot(loc_swInStore);
+        boolean goSocialStatus = iosUtils.isCheckedFromSnapshot(loc_swGoSocial);
 
+        /* WEB PLATFORM */
         // Modify show on web config
         if (!Objects.equals(showOnWeb, webStatus)) iosUtils.click(loc_swWeb);
 
@@ -408,9 +414,6 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         logger.info("On web configure: {}", showOnWeb);
 
         /* APP PLATFORM */
-        // Get current show on app status
-        boolean appStatus = iosUtils.isChecked(loc_swApp);
-
         // Modify show on app config
         if (!Objects.equals(showOnApp, appStatus)) iosUtils.click(loc_swApp);
 
@@ -418,9 +421,6 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         logger.info("On app configure: {}", showOnApp);
 
         /* IN-STORE PLATFORM */
-        // Get current show in-store status
-        boolean inStoreStatus = iosUtils.isChecked(loc_swInStore);
-
         // Modify show in-store config
         if (!Objects.equals(showInStore, inStoreStatus)) iosUtils.click(loc_swInStore);
 
@@ -428,9 +428,6 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         logger.info("In store configure: {}", showInStore);
 
         /* GO SOCIAL PLATFORM */
-        // Get current show in goSocial status
-        boolean goSocialStatus = iosUtils.isChecked(loc_swGoSocial);
-
         // Modify show in goSocial config
         if (!Objects.equals(showInGoSocial, goSocialStatus)) iosUtils.click(loc_swGoSocial);
 
@@ -518,6 +515,7 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
 
     private void saveChanges() {
         // Save all product information
+        Instant savedAt = Instant.now();
         iosUtils.click(loc_btnSave);
 
         // Allow managing stock by lot-date
@@ -541,7 +539,7 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         // If product are updated, check information after updating
         // Get product ID
         int productId = new APIGetProductList(this.credentials)
-                .searchProductIdByName(this.newProductInfo.getName());
+                .searchProductIdByName(this.newProductInfo.getName(), savedAt);
         this.newProductInfo.setId(productId);
 
         // Validate after create
@@ -801,6 +799,7 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         IntStream.range(0, this.newProductInfo.getModels().size()).forEach(variationIndex -> {
             // Navigate to variation detail screen
             iosUtils.click(loc_lstVariations, variationIndex);
+            ScrollPositions.resetScreen(driver, ProductVariationScreen.class);
 
             // Update variation information
             productVariationScreen.getVariationInformation(this.branchInfos, variationIndex, this.newProductInfo)
@@ -826,6 +825,8 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
          * @param driver the AndroidDriver instance used to interact with the Android UI elements.
          */
         public SelectImagePopup(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, SelectImagePopup.class);
             this.iosUtils = new IOSUtils(driver);
         }
 
@@ -851,6 +852,9 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         private List<APIGetBranchList.BranchInformation> branchInfos;
 
         public ProductVariationScreen(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, ProductVariationScreen.class);
+
             // Get driver
             this.driver = driver;
 
@@ -1041,6 +1045,8 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         Logger logger = LogManager.getLogger();
 
         public VariationScreen(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, VariationScreen.class);
             this.driver = driver;
             iosUtils = new IOSUtils(driver);
         }
@@ -1124,6 +1130,8 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
          * @param driver the IOSDriver instance used to interact with the Android UI elements.
          */
         public ProductDescriptionScreen(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, ProductDescriptionScreen.class);
             this.iosUtils = new IOSUtils(driver);
         }
 
@@ -1147,6 +1155,8 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         Logger logger = LogManager.getLogger();
 
         public InventoryScreen(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, InventoryScreen.class);
             this.driver = driver;
             iosUtils = new IOSUtils(driver);
         }
@@ -1184,7 +1194,7 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
                         .orElse(0);
 
                 // Get current branch stock
-                String currentStockText = iosUtils.getText(loc_txtBranchStock(branchName)).replaceAll("\\D+", "");
+                String currentStockText = iosUtils.getTextFromSnapshot(loc_txtBranchStock(branchName)).replaceAll("\\D+", "");
                 int currentStock = currentStockText.isEmpty() ? 0 : Integer.parseInt(currentStockText);
 
                 // Only update when the stock needs to be changed
@@ -1227,6 +1237,8 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         Logger logger = LogManager.getLogger();
 
         public EditMultipleScreen(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, EditMultipleScreen.class);
             this.driver = driver;
             iosUtils = new IOSUtils(driver);
         }
@@ -1326,6 +1338,9 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         Logger logger = LogManager.getLogger();
 
         public AddIMEIScreen(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, AddIMEIScreen.class);
+
             // Get driver
             this.driver = driver;
 
@@ -1373,6 +1388,8 @@ public class IOSBaseProductScreen extends IOSBaseProductElement {
         private final By loc_btnSave = By.xpath("//XCUIElementTypeButton[@name=\"icon checked white\"]");
 
         public VariationSKUScreen(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, VariationSKUScreen.class);
             this.iosUtils = new IOSUtils(driver);
         }
 
@@ -14,6 +14,7 @@ import org.testng.Assert;
 import pages.ios.seller.home.HomeScreen;
 import pages.ios.seller.login.LoginScreen;
 import utility.IOSUtils;
+import utility.ScrollPositions;
 
 import java.util.List;
 
@@ -70,6 +71,7 @@ public class IOSProductManagementScreen {
         if (!iosUtils.getListElement(loc_lblProductName(productName)).isEmpty()) {
             // Click into first result
             iosUtils.click(loc_lblProductName(productName));
+            ScrollPositions.resetScreen(driver, IOSBaseProductScreen.class);
         } else throw new NoSuchElementException("No result with keyword: %s".formatted(productName));
     }
 
@@ -252,6 +254,8 @@ public class IOSProductManagementScreen {
         private final Logger logger = LogManager.getLogger();
 
         public FilterScreen(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, FilterScreen.class);
             this.driver = driver;
             this.iosUtils = new IOSUtils(driver);
         }
@@ -386,6 +390,8 @@ public class IOSProductManagementScreen {
             private final Logger logger = LogManager.getLogger();
 
             public BranchScreen(WebDriver driver) {
+                // Reset scroll position
+                ScrollPositions.resetScreen(driver, BranchScreen.class);
                 this.iosUtils = new IOSUtils(driver);
             }
 
@@ -414,6 +420,8 @@ public class IOSProductManagementScreen {
             private final Logger logger = LogManager.getLogger();
 
             public CollectionsScreen(WebDriver driver) {
+                // Reset scroll position
+                ScrollPositions.resetScreen(driver, CollectionsScreen.class);
                 this.iosUtils = new IOSUtils(driver);
             }
 
@@ -12,6 +12,7 @@ import org.testng.Assert;
 import pages.web.seller.suppliers.all_suppliers.BaseSupplierPage;
 import utility.IOSUtils;
 import utility.PropertiesUtils;
+import utility.ScrollPositions;
 import utility.WebUtils;
 import utility.helper.SupplierHelper;
 
@@ -387,6 +388,8 @@ public class IOSBaseSupplierScreen {
          * @param driver the WebDriver used to interact with the application
          */
         public PopupHandler(WebDriver driver) {
+            // Reset scroll position
+            ScrollPositions.resetScreen(driver, PopupHandler.class);
             this.iosUtils = new IOSUtils(driver);
         }
 
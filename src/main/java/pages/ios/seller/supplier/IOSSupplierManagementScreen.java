@@ -4,6 +4,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import pages.ios.seller.home.HomeScreen;
 import utility.IOSUtils;
+import utility.ScrollPositions;
 
 public class IOSSupplierManagementScreen {
     private final WebDriver driver;
@@ -31,10 +32,12 @@ public class IOSSupplierManagementScreen {
 
     public void navigateToCreateSupplierScreen() {
         iosUtils.click(loc_icnCreateSupplier);
+        ScrollPositions.resetScreen(driver, IOSBaseSupplierScreen.class);
     }
 
     public void navigateToSupplierDetailScreen(String supplierName) {
         iosUtils.sendKeys(loc_txtSearchBox, supplierName);
         iosUtils.click(loc_lstSupplier(supplierName));
+        ScrollPositions.resetScreen(driver, IOSBaseSupplierScreen.class);
     }
 }
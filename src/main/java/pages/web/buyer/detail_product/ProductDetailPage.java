@@ -10,15 +10,15 @@ import api.buyer.product.APIGetWholesaleInformation.WholesaleInformation;
 import api.seller.login.APISellerLogin;
 import api.seller.product.APIGetProductDetail;
 import api.seller.product.APIGetProductDetail.ProductInformation;
-import api.seller.sale_channel.APIGetPreferences;
 import api.seller.setting.APIGetBranchList;
+import api.seller.setting.StoreContext;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 import org.testng.Assert;
+import utility.NetworkProfile;
 import utility.PropertiesUtils;
 import utility.WebUtils;
 
@@ -54,6 +54,9 @@ public class ProductDetailPage {
     // Credentials used for API authentication
     private APISellerLogin.Credentials credentials;
 
+    // Discount campaign checks of the current product check
+    private APIGetCampaignInformation apiGetCampaignInformation;
+
     /**
      * Constructor for ProductDetailPage.
      * Initializes the WebDriver instance and common utilities required for page interactions.
@@ -183,7 +186,7 @@ public class ProductDetailPage {
     private void validateBranchPrices(long expectedListingPrice, long expectedSellingPrice, String branchName) {
         String branchInfo = branchName.isEmpty() ? "" : "[Branch name: %s]".formatted(branchName);
 
-        if (!(new APIGetPreferences(credentials).getStoreListingWebInformation().isEnabledProduct() && productInfo.isEnabledListing())) {
+        if (!(StoreContext.of(credentials).getStoreListingWebs().isEnabledProduct() && productInfo.isEnabledListing())) {
             if (expectedListingPrice != expectedSellingPrice) {
                 long actualListingPrice = Long.parseLong(webUtils.getText(loc_lblListingPrice).replaceAll("\\D+", ""));
                 Assert.assertEquals(actualListingPrice, expectedListingPrice, "%s Listing price should be %,d, but found %,d.".formatted(branchInfo, expectedListingPrice, actualListingPrice));
@@ -248,18 +251,27 @@ public class ProductDetailPage {
                 webUtils.clickJS(loc_btnViewMore);
             }
 
+            // Read the displayed attributes at once, they are listed in the order of the product attributes
+            List<String> actualAttributeNames = webUtils.getTexts(loc_cntAttributeGroup);
+            List<String> actualAttributeValues = webUtils.getTexts(loc_cntAttributeValue);
+
             // Validate each attribute
+            int displayedIndex = 0;
             for (int attributeIndex = 0; attributeIndex < attributeGroups.size(); attributeIndex++) {
                 if (displayAttributes.get(attributeIndex)) {
+                    Assert.assertTrue(displayedIndex < actualAttributeNames.size(),
+                            "Attribute '%s' is not displayed.".formatted(attributeGroups.get(attributeIndex)));
+
                     // Validate attribute name
-                    String actualAttributeName = webUtils.getText(loc_cntAttributeGroup);
+                    String actualAttributeName = actualAttributeNames.get(displayedIndex);
                     Assert.assertEquals(actualAttributeName, attributeGroups.get(attributeIndex),
                             "Attribute name must be '%s', but found '%s'.".formatted(attributeGroups.get(attributeIndex), actualAttributeName));
 
                     // Validate attribute value
-                    String actualAttributeValue = webUtils.getText(loc_cntAttributeValue);
+                    String actualAttributeValue = actualAttributeValues.get(displayedIndex);
                     Assert.assertEquals(actualAttributeValue, attributeValues.get(attributeIndex),
                             "Attribute value must be '%s', but found '%s'.".formatted(attributeValues.get(attributeIndex), actualAttributeValue));
+                    displayedIndex++;
                 }
             }
         }
@@ -276,8 +288,7 @@ public class ProductDetailPage {
     private void validateVariationNames(String language) {
         // Retrieve the variation name list from the dashboard
         List<String> expectedVariationNames = Arrays.stream(APIGetProductDetail.getVariationName(productInfo, language).split("\\|")).toList();
-        List<WebElement> variationElements = webUtils.getListElement(loc_lblVariationName);
-        List<String> actualVariationNames = variationElements.stream().map(WebElement::getText).toList();
+        List<String> actualVariationNames = webUtils.getTexts(loc_lblVariationName);
 
         Assert.assertEquals(expectedVariationNames.size(), actualVariationNames.size(),
                 "Variation name count does not match. Expected: %d, Found: %d.".formatted(expectedVariationNames.size(), actualVariationNames.size()));
@@ -392,7 +403,7 @@ public class ProductDetailPage {
         String visibilityCheck = shouldBeVisible ? "shown" : "hidden";
 
         // If the product or store listing is not enabled, check for button visibility
-        if (!(new APIGetPreferences(credentials).getStoreListingWebInformation().isEnabledProduct() && productInfo.isEnabledListing())) {
+        if (!(StoreContext.of(credentials).getStoreListingWebs().isEnabledProduct() && productInfo.isEnabledListing())) {
             // Assert 'Buy Now' button visibility
             boolean isBuyNowVisible = !webUtils.getListElement(loc_btnBuyNow).isEmpty();
             Assert.assertEquals(isBuyNowVisible, shouldBeVisible,
@@ -470,7 +481,12 @@ public class ProductDetailPage {
      * @return the campaign information, or null if no campaign is available
      */
     private CampaignInformation fetchCampaignInfo(int itemId, int branchId, int customerId) {
-        return new APIGetCampaignInformation(credentials).getDiscountCampaignInformation(itemId, branchId, customerId);
+        // Check all branches of the product at once, the following branches and variations are served from the cache
+        List<APIGetCampaignInformation.ItemBranch> itemBranches = getBranchIds(branchInfos).stream()
+                .map(id -> new APIGetCampaignInformation.ItemBranch(itemId, id))
+                .toList();
+        return apiGetCampaignInformation.getDiscountCampaignInformation(itemBranches, customerId)
+                .get(new APIGetCampaignInformation.ItemBranch(itemId, branchId));
     }
 
     /**
@@ -896,11 +912,14 @@ public class ProductDetailPage {
         // Store the credentials for API requests
         this.credentials = credentials;
 
+        // Campaign checks are cached for this product check only
+        this.apiGetCampaignInformation = new APIGetCampaignInformation(credentials);
+
         // Fetch product information using the product ID
         this.productInfo = new APIGetProductDetail(credentials).getProductInformation(productId);
 
-        // Get the latest branch information from the API
-        branchInfos = new APIGetBranchList(credentials).getBranchInformation();
+        // Get the latest branch information (the store context is reloaded after branch updates)
+        branchInfos = StoreContext.of(credentials).getBranchInfos();
 
         // Navigate to the product detail page using the constructed URL
         driver.get("%s/product/%d".formatted(PropertiesUtils.getStoreURL(), productInfo.getId()));
@@ -913,7 +932,8 @@ public class ProductDetailPage {
 
         logger.info("Navigate to Product detail page by URL, id: {}", productId);
 
-        WebUtils.sleep(1000);
+        webUtils.waitForNetworkIdle();
+        NetworkProfile.recordPageLoad(driver, "Storefront - product detail");
 
         // Return the current instance of ProductDetailPage for method chaining
         return this;
@@ -4,10 +4,10 @@ import api.seller.login.APISellerLogin;
 import api.seller.product.APIGetProductDetail;
 import api.seller.product.APIGetProductList;
 import api.seller.setting.APIGetBranchList;
-import api.seller.setting.APIGetStoreDefaultLanguage;
 import api.seller.setting.APIGetStoreLanguage;
 import api.seller.setting.APIGetVATList;
-import api.seller.user_feature.APIGetUserFeature;
+import api.seller.setting.StoreContext;
+import io.restassured.path.json.JsonPath;
 import lombok.Setter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -17,6 +17,7 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.testng.Assert;
+import utility.NetworkProfile;
 import utility.PropertiesUtils;
 import utility.WebUtils;
 import utility.helper.ProductHelper;
@@ -31,6 +32,9 @@ import static api.seller.user_feature.APIGetUserFeature.*;
 import static org.apache.commons.lang.math.RandomUtils.nextBoolean;
 
 public class BaseProductPage extends BaseProductElement {
+    // Create-product request sent by the dashboard
+    private static final String CREATE_PRODUCT_URL_PATTERN = "/itemservice/api/items(\\?|$)";
+
     // WebDriver and WebUtils
     private final WebDriver driver;
     private final WebUtils webUtils;
@@ -127,14 +131,17 @@ public class BaseProductPage extends BaseProductElement {
         // Update credentials for further API requests
         this.credentials = credentials;
 
+        // Load the store reference data (fetched concurrently once per store)
+        StoreContext storeContext = StoreContext.of(credentials);
+
         // Retrieve and store branch information
-        List<APIGetBranchList.BranchInformation> branchInfos = new APIGetBranchList(credentials).getBranchInformation();
+        List<APIGetBranchList.BranchInformation> branchInfos = storeContext.getBranchInfos();
 
         // Retrieve and store language information
-        List<APIGetStoreLanguage.LanguageInformation> languageInfos = new APIGetStoreLanguage(credentials).getStoreLanguageInformation();
+        List<APIGetStoreLanguage.LanguageInformation> languageInfos = storeContext.getLanguageInfos();
 
         // Retrieve the default language of the seller
-        this.defaultLanguage = new APIGetStoreDefaultLanguage(credentials).getDefaultLanguage();
+        this.defaultLanguage = storeContext.getDefaultLanguage();
 
         // Get active branch names and IDs
         this.activeBranchNames = APIGetBranchList.getActiveBranchNames(branchInfos);
@@ -148,7 +155,7 @@ public class BaseProductPage extends BaseProductElement {
         this.storeLanguageNames = APIGetStoreLanguage.getAllStoreLanguageNames(languageInfos);
 
         // Get all user packages
-        this.userPackages = new APIGetUserFeature(credentials).getUserFeature();
+        this.userPackages = storeContext.getUserPackages();
 
         // Init platform information
         this.showOnApp = hasGoAPP(userPackages);
@@ -169,7 +176,7 @@ public class BaseProductPage extends BaseProductElement {
      */
     private void fetchProductInformation(boolean isManagedByIMEI, boolean hasModel, int[] branchStock) {
         // Retrieve tax information (VAT details)
-        var vatInfos = new APIGetVATList(credentials).getVATInformation();
+        var vatInfos = StoreContext.of(credentials).getVatInfos();
         List<Integer> vatIds = APIGetVATList.getVATIds(vatInfos); // List of VAT IDs
         List<String> vatNames = APIGetVATList.getVATNames(vatInfos); // List of VAT names
 
@@ -247,6 +254,10 @@ public class BaseProductPage extends BaseProductElement {
      */
     public BaseProductPage navigateToCreateProductPage() {
         driver.get("%s/product/create".formatted(PropertiesUtils.getDomain()));
+
+        // Record once the page has fetched its resources, not when the document is loaded
+        webUtils.waitForNetworkIdle();
+        NetworkProfile.recordPageLoad(driver, "Dashboard - create product");
         logger.info("Navigated to create product page.");
         return this;
     }
@@ -277,6 +288,10 @@ public class BaseProductPage extends BaseProductElement {
         driver.navigate().refresh();
         driver.get("%s/product/edit/%s".formatted(PropertiesUtils.getDomain(), productId));
         driver.navigate().refresh();
+
+        // Record once the page has fetched its resources, not when the document is loaded
+        webUtils.waitForNetworkIdle();
+        NetworkProfile.recordPageLoad(driver, "Dashboard - update product");
         logger.info("Navigated to product update page, productId: {}", productId);
     }
 
@@ -440,12 +455,14 @@ public class BaseProductPage extends BaseProductElement {
         logger.info("Opened the update SKU popup.");
 
         // Input SKU for each branch
+        List<WebUtils.FieldInput> skuFields = new ArrayList<>();
         IntStream.range(0, activeBranchNames.size()).forEach(branchIndex -> {
             String sku = getSKU(variationIndex, branchIndex);
             String branchName = activeBranchNames.get(branchIndex);
-            webUtils.sendKeys(loc_dlgUpdateSKU_txtInputSKU(branchName), sku);
+            skuFields.add(new WebUtils.FieldInput(loc_dlgUpdateSKU_txtInputSKU(branchName), sku));
             logger.info("Entered SKU for branch '{}': {}", branchName, sku);
         });
+        webUtils.fillFields("Update SKU popup", skuFields);
 
         // Apply changes and close the popup
         webUtils.click(loc_dlgCommons_btnUpdate); // Confirm the changes
@@ -684,18 +701,22 @@ public class BaseProductPage extends BaseProductElement {
         IntStream.range(0, numOfAttributes).forEachOrdered(ignored -> webUtils.clickJS(loc_btnAddAttribution));
         logger.info("Added {} attributions.", numOfAttributes);
 
-        // Input details for each new attribution
-        IntStream.range(0, numOfAttributes).forEach(this::inputAttributionDetails);
+        // Input the names and values of all new attributions, then check the displayed ones
+        List<WebUtils.FieldInput> attributionFields = new ArrayList<>();
+        IntStream.range(0, numOfAttributes).forEach(attIndex -> {
+            attributionFields.add(new WebUtils.FieldInput(loc_txtAttributionName, attIndex, newProductInfo.getItemAttributes().get(attIndex).getAttributeName()));
+            attributionFields.add(new WebUtils.FieldInput(loc_txtAttributionValue, attIndex, newProductInfo.getItemAttributes().get(attIndex).getAttributeValue()));
+        });
+        webUtils.fillFields("Attributions", attributionFields);
+        IntStream.range(0, numOfAttributes).forEach(this::displayAttribution);
     }
 
     /**
-     * Inputs the details for a specific attribution.
+     * Checks the display checkbox of an attribution if it is displayed on the storefront.
      *
      * @param attIndex The index of the attribution.
      */
-    private void inputAttributionDetails(int attIndex) {
-        webUtils.sendKeys(loc_txtAttributionName, attIndex, newProductInfo.getItemAttributes().get(attIndex).getAttributeName());
-        webUtils.sendKeys(loc_txtAttributionValue, attIndex, newProductInfo.getItemAttributes().get(attIndex).getAttributeValue());
+    private void displayAttribution(int attIndex) {
         if (newProductInfo.getItemAttributes().get(attIndex).getIsDisplay()) {
             webUtils.checkCheckbox(loc_chkDisplayAttribute, attIndex);
         }
@@ -706,24 +727,20 @@ public class BaseProductPage extends BaseProductElement {
      * Inputs SEO information including title, description, keywords, and URL.
      */
     public void inputProductSEO() {
-        // SEO Title
         String title = APIGetProductDetail.retrieveSEOTitle(newProductInfo, defaultLanguage);
-        webUtils.sendKeys(loc_txtSEOTitle, title);
-        logger.info("SEO title: {}.", title);
-
-        // SEO Description
         String description = APIGetProductDetail.retrieveSEODescription(newProductInfo, defaultLanguage);
-        webUtils.sendKeys(loc_txtSEODescription, description);
-        logger.info("SEO description: {}.", description);
-
-        // SEO Keywords
         String keyword = APIGetProductDetail.retrieveSEOKeywords(newProductInfo, defaultLanguage);
-        webUtils.sendKeys(loc_txtSEOKeywords, keyword);
-        logger.info("SEO keyword: {}.", keyword);
-
-        // SEO URL
         String url = APIGetProductDetail.retrieveSEOUrl(newProductInfo, defaultLanguage);
-        webUtils.sendKeys(loc_txtSEOUrl, url);
+
+        // Input the title, description, keywords and URL
+        webUtils.fillFields("SEO", List.of(
+                new WebUtils.FieldInput(loc_txtSEOTitle, title),
+                new WebUtils.FieldInput(loc_txtSEODescription, description),
+                new WebUtils.FieldInput(loc_txtSEOKeywords, keyword),
+                new WebUtils.FieldInput(loc_txtSEOUrl, url)));
+        logger.info("SEO title: {}.", title);
+        logger.info("SEO description: {}.", description);
+        logger.info("SEO keyword: {}.", keyword);
         logger.info("SEO URL: {}.", url);
     }
 
@@ -784,8 +801,10 @@ public class BaseProductPage extends BaseProductElement {
 
         // Input price details for each variation
         List<String> variationValues = APIGetProductDetail.getVariationValues(newProductInfo, defaultLanguage);
+        List<WebUtils.FieldInput> priceFields = new ArrayList<>();
         IntStream.range(0, variationValues.size())
-                .forEachOrdered(varIndex -> inputVariationPrice(varIndex, variationValues.get(varIndex)));
+                .forEachOrdered(varIndex -> priceFields.addAll(getVariationPriceFields(varIndex, variationValues.get(varIndex))));
+        webUtils.fillFields("Update price popup", priceFields);
 
         // Ensure changes are applied and close the Update Price popup
         webUtils.click(loc_ttlUpdatePrice);
@@ -794,7 +813,7 @@ public class BaseProductPage extends BaseProductElement {
     }
 
     /**
-     * Inputs the pricing details for a specific variation.
+     * Returns the pricing fields of a specific variation in the Update Price popup.
      * <p>
      * This method handles the listing price, selling price, and cost price for a specific
      * variation of the product.
@@ -802,22 +821,24 @@ public class BaseProductPage extends BaseProductElement {
      *
      * @param varIndex  The index of the variation in the variation list.
      * @param variation The name or value of the variation.
+     * @return The listing price, selling price and cost price fields with their content.
      */
-    private void inputVariationPrice(int varIndex, String variation) {
-        // Input listing price
+    private List<WebUtils.FieldInput> getVariationPriceFields(int varIndex, String variation) {
+        // Listing price
         long listingPrice = APIGetProductDetail.getVariationListingPrice(newProductInfo, varIndex);
-        webUtils.sendKeys(loc_dlgUpdatePrice_txtListingPrice, varIndex, listingPrice);
         logger.info("[{}] Listing price: {}.", variation, String.format("%,d", listingPrice));
 
-        // Input selling price
+        // Selling price
         long sellingPrice = APIGetProductDetail.getVariationSellingPrice(newProductInfo, varIndex);
-        webUtils.sendKeys(loc_dlgUpdatePrice_txtSellingPrice, varIndex, sellingPrice);
         logger.info("[{}] Selling price: {}.", variation, String.format("%,d", sellingPrice));
 
-        // Input cost price
+        // Cost price
         long costPrice = APIGetProductDetail.getVariationCostPrice(newProductInfo, varIndex);
-        webUtils.sendKeys(loc_dlgUpdatePrice_txtCostPrice, varIndex, costPrice);
         logger.info("[{}] Cost price: {}.", variation, String.format("%,d", costPrice));
+
+        return List.of(new WebUtils.FieldInput(loc_dlgUpdatePrice_txtListingPrice, varIndex, listingPrice),
+                new WebUtils.FieldInput(loc_dlgUpdatePrice_txtSellingPrice, varIndex, sellingPrice),
+                new WebUtils.FieldInput(loc_dlgUpdatePrice_txtCostPrice, varIndex, costPrice));
     }
 
     /**
@@ -949,6 +970,7 @@ public class BaseProductPage extends BaseProductElement {
      * @param modelId The ID of the variation model, or null if there are no variations.
      */
     private void updateBranchStockForModel(Integer modelId) {
+        List<WebUtils.FieldInput> stockFields = new ArrayList<>();
         IntStream.range(0, activeBranchNames.size()).forEach(branchIndex -> {
             String variationName = newProductInfo.isHasModel() ?
                     "[%s]".formatted(APIGetProductDetail.getVariationValue(newProductInfo, defaultLanguage, modelId)) : "";
@@ -958,12 +980,13 @@ public class BaseProductPage extends BaseProductElement {
 
             // Update or add stock for each branch
             if (!webUtils.getListElement(loc_dlgUpdateStock_txtBranchStock(activeBranchNames.get(branchIndex))).isEmpty()) {
-                webUtils.sendKeys(loc_dlgUpdateStock_txtBranchStock(activeBranchNames.get(branchIndex)), stock);
+                stockFields.add(new WebUtils.FieldInput(loc_dlgUpdateStock_txtBranchStock(activeBranchNames.get(branchIndex)), stock));
                 logger.info("{}[{}] Updated stock: {}", variationName, activeBranchNames.get(branchIndex), stock);
             } else {
                 logger.info("{}[{}] Added stock: {}", variationName, activeBranchNames.get(branchIndex), stock);
             }
         });
+        webUtils.fillFields("Update stock popup", stockFields);
     }
 
     /**
@@ -1073,12 +1096,14 @@ public class BaseProductPage extends BaseProductElement {
         }
 
         // Iterate through each branch and input stock
+        List<WebUtils.FieldInput> stockFields = new ArrayList<>();
         IntStream.range(0, activeBranchNames.size()).forEach(brIndex -> {
-            // Get stock for the current branch and input it
+            // Get stock for the current branch
             int stock = APIGetProductDetail.getStockByModelAndBranch(newProductInfo, null, activeBranchIds.get(brIndex));
-            webUtils.sendKeys(loc_txtWithoutVariationBranchStock(activeBranchNames.get(brIndex)), stock);
+            stockFields.add(new WebUtils.FieldInput(loc_txtWithoutVariationBranchStock(activeBranchNames.get(brIndex)), stock));
             logger.info("[Create][{}] Input stock: {}", activeBranchNames.get(brIndex), stock);
         });
+        webUtils.fillFields("Branch stock", stockFields);
         logger.info("[Create]Complete stock creation for Normal product.");
     }
 
@@ -1194,9 +1219,10 @@ public class BaseProductPage extends BaseProductElement {
      */
     private void inputVariationValues(List<String> varValues, int groupIndex) {
         varValues.forEach(varValue -> {
+            long requestCount = webUtils.getNetworkRequestCount();
             webUtils.getElement(loc_txtVariationValue, groupIndex).sendKeys(varValue);
-            // Wait for suggestion to appear
-            WebUtils.sleep(1000);
+            // Wait for the debounced suggestion lookup to be sent and loaded
+            webUtils.waitForNetworkIdle(requestCount);
 
             // Complete the input of variation value by pressing Enter
             webUtils.getElement(loc_txtVariationValue, groupIndex).sendKeys(Keys.chord(Keys.ENTER));
@@ -1248,8 +1274,8 @@ public class BaseProductPage extends BaseProductElement {
      * Saves the changes made to the product (either create or update).
      * <p>
      * This method clicks the "Save" button, waits for a success notification, and closes the notification popup.
-     * If the operation is an update, it returns immediately. For product creation, it waits for the API response
-     * to retrieve the product ID, logs the completion of the process, and stores the product ID.
+     * If the operation is an update, it returns immediately. For product creation, it reads the product ID from the
+     * captured create-product response, logs the completion of the process, and stores the product ID.
      * </p>
      *
      * @param isUpdate Indicates if the operation is an update (true) or a product creation (false).
@@ -1260,7 +1286,11 @@ public class BaseProductPage extends BaseProductElement {
             webUtils.click(loc_btnDeactivate); // Click the Deactivate button if the Save button is disabled
         }
 
+        // Record the create-product response to read the new product's ID
+        if (!isUpdate) webUtils.captureResponses("POST", CREATE_PRODUCT_URL_PATTERN);
+
         // Save the product by clicking the "Save" button
+        Instant savedAt = Instant.now();
         webUtils.click(loc_btnSave);
 
         // Ensure the success notification popup appears and close it
@@ -1273,11 +1303,13 @@ public class BaseProductPage extends BaseProductElement {
         // Return immediately if it's an update operation
         if (isUpdate) return;
 
-        // Wait product creation
-        WebUtils.sleep(3000);
-
-        // Wait for the API response to retrieve the new product's ID
-        int productId = new APIGetProductList(credentials).searchProductIdByName(newProductInfo.getName());
+        // Read the new product's ID from the captured response, or search it by name if it was not captured
+        int productId = webUtils.waitForCapturedResponse(10_000)
+                .map(body -> JsonPath.from(body).getInt("id"))
+                .orElseGet(() -> {
+                    logger.warn("Create product response was not captured, searching the product by name.");
+                    return new APIGetProductList(credentials).searchProductIdByName(newProductInfo.getName(), savedAt);
+                });
 
         // Log the completion of product creation with the new product ID
         logger.info("Complete create product, id: {}", productId);
@@ -1717,9 +1749,8 @@ public class BaseProductPage extends BaseProductElement {
         // Change product status
         changeProductStatus();
 
-        // Wait for the product status to change before verification
-        // This delay allows the system time to update the product status
-        WebUtils.sleep(1000);
+        // Wait for the product status request to complete before verification
+        webUtils.waitForNetworkIdle();
 
         // Verify that the product status has been correctly updated
         var actualProductInfoAfterChangeProductStatus = new APIGetProductDetail(credentials).getProductInformation(newProductInfo.getId());
@@ -1993,8 +2024,8 @@ public class BaseProductPage extends BaseProductElement {
                         .updateVariationAttribution()
         );
 
-        // Pause briefly to allow the attribution update process to complete
-        WebUtils.sleep(1000);
+        // Wait for the attribution update requests to complete
+        webUtils.waitForNetworkIdle();
 
         // Get current product information
         var actualProductInfo = new APIGetProductDetail(credentials).getProductInformation(newProductInfo.getId());
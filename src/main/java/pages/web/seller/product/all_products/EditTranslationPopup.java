@@ -207,7 +207,7 @@ public class EditTranslationPopup {
     public void closeTranslationPopup() {
         webUtils.click(loc_dlgEditTranslation_btnClose);
         logger.info("Close translation popup");
-        WebUtils.sleep(1000);
+        webUtils.waitForNetworkIdle();
     }
 
 }
@@ -3,8 +3,9 @@ package pages.web.seller.product.all_products;
 import api.seller.login.APISellerLogin;
 import api.seller.product.APIGetInventoryHistory;
 import api.seller.product.APIGetProductDetail;
-import api.seller.product.APIGetProductList;
 import api.seller.product.APIGetStockAlert;
+import api.seller.product.ProductConsistencyChecker;
+import api.seller.product.ProductConvergenceWaiter;
 import api.seller.setting.APIGetBranchList;
 import org.apache.commons.lang.math.JVMRandom;
 import org.apache.commons.lang.math.RandomUtils;
@@ -13,13 +14,15 @@ import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.testng.Assert;
+import utility.APIUtils;
+import utility.NetworkProfile;
 import utility.PropertiesUtils;
 import utility.WebUtils;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
-import java.util.stream.IntStream;
+import java.util.function.Predicate;
 
 import static org.apache.commons.lang.math.RandomUtils.nextInt;
 import static utility.helper.ProductHelper.MAX_PRICE;
@@ -30,10 +33,11 @@ public class ProductManagementPage {
     private final WebDriver driver;
     private final WebUtils webUtils;
     private APIGetProductDetail apiGetProductDetail;
-    private APIGetProductList apiGetProductList;
     private APIGetInventoryHistory apiGetInventoryHistory;
     private APIGetStockAlert apiGetStockAlert;
     private APIGetBranchList apiGetBranchList;
+    private ProductConsistencyChecker productConsistencyChecker;
+    private ProductConvergenceWaiter productConvergenceWaiter;
 
     /**
      * Constructs a ProductManagementPage instance with the given WebDriver.
@@ -53,10 +57,11 @@ public class ProductManagementPage {
      */
     public ProductManagementPage fetchInformation(APISellerLogin.Credentials credentials) {
         this.apiGetProductDetail = new APIGetProductDetail(credentials);
-        this.apiGetProductList = new APIGetProductList(credentials);
         this.apiGetInventoryHistory = new APIGetInventoryHistory(credentials);
         this.apiGetStockAlert = new APIGetStockAlert(credentials);
         this.apiGetBranchList = new APIGetBranchList(credentials);
+        this.productConsistencyChecker = new ProductConsistencyChecker(credentials);
+        this.productConvergenceWaiter = new ProductConvergenceWaiter(credentials);
 
         return this;
     }
@@ -98,6 +103,10 @@ public class ProductManagementPage {
     void navigateToProductManagementPage() {
         driver.get("%s/product/list".formatted(PropertiesUtils.getDomain()));
         driver.navigate().refresh();
+
+        // Record once the page has fetched its resources, not when the document is loaded
+        webUtils.waitForNetworkIdle();
+        NetworkProfile.recordPageLoad(driver, "Dashboard - product management");
         logger.info("Navigate to product management page.");
     }
 
@@ -175,12 +184,8 @@ public class ProductManagementPage {
      * @return A list of product IDs displayed on the first page.
      */
     private List<Integer> collectProductIds() {
-        // Get the number of products displayed on the first page
-        int productCount = webUtils.getListElement(loc_lblProductId).size();
-
-        // Collect product IDs into a list
-        return IntStream.range(0, productCount)
-                .mapToObj(index -> webUtils.getText(loc_lblProductId, index))
+        // Read the product IDs displayed on the first page at once
+        return webUtils.getTexts(loc_lblProductId).stream()
                 .filter(productId -> !productId.isEmpty())
                 .map(Integer::parseInt)
                 .toList();
@@ -188,15 +193,72 @@ public class ProductManagementPage {
 
 
     /**
-     * Waits for the bulk update process to complete with a fixed delay.
+     * Waits until the bulk update is applied to every product in ItemService and Elasticsearch,
+     * then refreshes the page.
+     * <p>
+     * Deleted products are considered up to date unless the expected state says otherwise.
+     *
+     * @param actionDescription The description of the bulk action, used for logging and convergence statistics.
+     * @param productIds        The IDs of the products affected by the bulk action.
+     * @param expectedState     The condition a product must meet once the bulk action is applied.
+     * @return The latest consistency report of each product.
+     */
+    private Map<Integer, ProductConsistencyChecker.ConsistencyReport> waitBulkUpdated(String actionDescription, List<Integer> productIds,
+                                                                                      Predicate<ProductConsistencyChecker.ConsistencyReport> expectedState) {
+        return waitBulkUpdated(actionDescription, productIds, ProductConsistencyChecker.Sources.ITEM_SERVICE_AND_ELASTICSEARCH, expectedState);
+    }
+
+    /**
+     * Waits until the bulk update is applied to every product in the given sources, then refreshes the page.
+     *
+     * @param actionDescription The description of the bulk action, used for logging and convergence statistics.
+     * @param productIds        The IDs of the products affected by the bulk action.
+     * @param sources           The sources the expected state reads.
+     * @param expectedState     The condition a product must meet once the bulk action is applied.
+     * @return The latest consistency report of each product.
      */
-    private void waitBulkUpdated() {
-        logger.info("Waiting for 2 minutes to allow bulk update to complete...");
+    private Map<Integer, ProductConsistencyChecker.ConsistencyReport> waitBulkUpdated(String actionDescription, List<Integer> productIds,
+                                                                                      ProductConsistencyChecker.Sources sources,
+                                                                                      Predicate<ProductConsistencyChecker.ConsistencyReport> expectedState) {
+        return waitBulkUpdated(actionDescription, productIds, sources, Map.of(), expectedState);
+    }
 
-        WebUtils.sleep(120_000); // Hard wait for 2 minutes (120,000 milliseconds)
+    /**
+     * Waits until the bulk update is applied to every product in the given sources, then refreshes the page.
+     * Products whose ItemService name is gone are searched in Elasticsearch with the given names.
+     *
+     * @param actionDescription The description of the bulk action, used for logging and convergence statistics.
+     * @param productIds        The IDs of the products affected by the bulk action.
+     * @param sources           The sources the expected state reads.
+     * @param productNames      The names of the products read before the bulk action, keyed by product ID.
+     * @param expectedState     The condition a product must meet once the bulk action is applied.
+     * @return The latest consistency report of each product.
+     */
+    private Map<Integer, ProductConsistencyChecker.ConsistencyReport> waitBulkUpdated(String actionDescription, List<Integer> productIds,
+                                                                                      ProductConsistencyChecker.Sources sources,
+                                                                                      Map<Integer, String> productNames,
+                                                                                      Predicate<ProductConsistencyChecker.ConsistencyReport> expectedState) {
+        var reports = productConvergenceWaiter.waitUntil(actionDescription, productIds, sources, productNames, expectedState);
 
         logger.info("Refreshing page to check the updated status.");
         driver.navigate().refresh();
+
+        return reports;
+    }
+
+    /**
+     * Waits until the bulk update is applied to every product still present in ItemService, then refreshes the page.
+     * Elasticsearch is not polled, the condition only reads the ItemService product information.
+     *
+     * @param actionDescription The description of the bulk action, used for logging and convergence statistics.
+     * @param productIds        The IDs of the products affected by the bulk action.
+     * @param productInfoState  The condition on the ItemService product information.
+     * @return The latest consistency report of each product.
+     */
+    private Map<Integer, ProductConsistencyChecker.ConsistencyReport> waitItemServiceUpdated(String actionDescription, List<Integer> productIds,
+                                                                                             Predicate<APIGetProductDetail.ProductInformation> productInfoState) {
+        return waitBulkUpdated(actionDescription, productIds, ProductConsistencyChecker.Sources.ITEM_SERVICE,
+                report -> report.isDeletedInItemService() || productInfoState.test(report.getProductInformation()));
     }
 
 
@@ -227,30 +289,23 @@ public class ProductManagementPage {
         // Retrieve product IDs from the first page
         List<Integer> productIds = fetchSelectedProductIds();
 
-        // Get product stock before the action
-        List<Map<Integer, Integer>> beforeStock = getStockList(productIds);
+        // Get product stock before the action, the expected stock is computed from ItemService
+        Map<Integer, ProductConsistencyChecker.ConsistencyReport> beforeReports = productConsistencyChecker.check(productIds, ProductConsistencyChecker.Sources.ITEM_SERVICE);
 
         // Perform the bulk action
         String branchName = performBulkStockAction(actionIndex, confirmButtonLocator, actionDescription, stockValue);
 
-        // Verify stock updates on ItemService and Elasticsearch
+        // Wait until ItemService and Elasticsearch reach the expected stock
         int newStock = stockValue.length > 0 ? stockValue[0] : 0;
-        verifyStockUpdates(productIds, actionIndex, beforeStock, newStock, branchName);
-    }
-
-    /**
-     * Retrieves the current stock for each valid product in the provided list of product IDs.
-     *
-     * @param productIds The list of product IDs.
-     * @return A list of maps, where each map represents stock quantities per branch for a product.
-     */
-    private List<Map<Integer, Integer>> getStockList(List<Integer> productIds) {
-        return productIds.stream()
-                .map(apiGetProductDetail::getProductInformation) // Get product information first
-                .filter(product -> !product.isDeleted()) // Filter out deleted products
-                .map(APIGetProductDetail::getTotalStockByBranch) // Map to stock quantity
-                .toList();
+        Map<Integer, Integer> expectedStocks = calculateExpectedStocks(beforeReports, actionIndex, newStock, branchName);
+        var reports = waitBulkUpdated(actionDescription, productIds, report -> report.isDeletedInItemService()
+                                                                             || !expectedStocks.containsKey(report.getProductId())
+                                                                             || (report.getItemServiceStock() == expectedStocks.get(report.getProductId())
+                                                                                 && report.getElasticsearchStock() == expectedStocks.get(report.getProductId())));
 
+        // Verify stock updates on ItemService and Elasticsearch
+        verifyStockUpdates(reports, expectedStocks);
+        logger.info("Checked product information after bulk action: {}.", actionDescription);
     }
 
     /**
@@ -288,14 +343,10 @@ public class ProductManagementPage {
 
             webUtils.click(loc_dlgUpdateStock_btnUpdate);
 
-            waitBulkUpdated();
-            logger.info("Checked product information after bulk action: {}.", actionDescription);
-
             return branchName;
         } else {
             // Confirm the clear stock action
             webUtils.click(confirmButtonLocator);
-            waitBulkUpdated();
 
             logger.info("Stock cleared successfully. Action: {}", actionDescription);
             return "";
@@ -303,17 +354,15 @@ public class ProductManagementPage {
     }
 
     /**
-     * Verifies that stock updates are correctly reflected in both ItemService and Elasticsearch.
+     * Calculates the expected stock of each product after a bulk stock action.
      *
-     * @param productIds  The list of product IDs to verify.
-     * @param actionIndex The index of the performed action (0 for clear stock, 4 for update stock).
-     * @param beforeStock The stock quantities before the bulk action.
-     * @param newStock    The new stock value to verify.
-     * @param branchName  The name of the branch where the update was performed.
+     * @param beforeReports The consistency reports of the products before the bulk action.
+     * @param actionIndex   The index of the performed action (0 for clear stock, 4 for update stock).
+     * @param newStock      The new stock value.
+     * @param branchName    The name of the branch where the update was performed.
+     * @return A map of product ID to expected total stock, for the products not deleted before the action.
      */
-    private void verifyStockUpdates(List<Integer> productIds, int actionIndex, List<Map<Integer, Integer>> beforeStock, int newStock, String branchName) {
-        AtomicInteger productIndex = new AtomicInteger(0);
-
+    private Map<Integer, Integer> calculateExpectedStocks(Map<Integer, ProductConsistencyChecker.ConsistencyReport> beforeReports, int actionIndex, int newStock, String branchName) {
         // Get branch ID
         int branchId = apiGetBranchList.getBranchInformation().stream()
                 .filter(branchInfo -> branchInfo.getName().equals(branchName))
@@ -321,57 +370,60 @@ public class ProductManagementPage {
                 .findFirst()
                 .orElse(0);
 
-        productIds.stream()
-                .map(apiGetProductDetail::getProductInformation) // Fetch product info
-                .filter(productInfo -> !productInfo.isDeleted()) // Exclude deleted products
-                .forEach(productInfo -> {
-                    int productId = productInfo.getId();
+        Map<Integer, Integer> expectedStocks = new LinkedHashMap<>();
+        beforeReports.values().stream()
+                .filter(report -> !report.isDeletedInItemService()) // Exclude deleted products
+                .forEach(report -> {
+                    var productInfo = report.getProductInformation();
 
                     // Get product variations count
                     int variationNum = productInfo.isHasModel()
                             ? APIGetProductDetail.getVariationModelList(productInfo).size()
                             : 1;
 
-                    // Ensure `beforeStock` has enough data to avoid out-of-bounds errors
-                    int index = productIndex.getAndIncrement();
-                    if (index >= beforeStock.size()) {
-                        logger.warn("Mismatch in product stock data. Skipping productId: {}", productId);
-                        return;
-                    }
-
-                    // Get previous stock
-                    Map<Integer, Integer> previousStock = beforeStock.get(index);
-
                     // Determine if stock should remain unchanged
                     boolean shouldStockRemainUnchanged = productInfo.isLotAvailable() ||
                                                          ("IMEI_SERIAL_NUMBER".equals(productInfo.getInventoryManageType()) && actionIndex == 4);
 
                     // Get expected stock
-                    int expectedStock = calculateExpectedStock(previousStock, newStock, variationNum, actionIndex, branchId, shouldStockRemainUnchanged);
+                    expectedStocks.put(report.getProductId(),
+                            calculateExpectedStock(report.getItemServiceStockByBranch(), newStock, variationNum, actionIndex, branchId, shouldStockRemainUnchanged));
+                });
+
+        return expectedStocks;
+    }
+
+    /**
+     * Verifies that stock updates are correctly reflected in both ItemService and Elasticsearch.
+     *
+     * @param reports        The consistency reports of the products after the bulk action.
+     * @param expectedStocks The expected total stock of each product.
+     */
+    private void verifyStockUpdates(Map<Integer, ProductConsistencyChecker.ConsistencyReport> reports, Map<Integer, Integer> expectedStocks) {
+        reports.values().stream()
+                .filter(report -> !report.isDeletedInItemService()) // Exclude deleted products
+                .filter(report -> expectedStocks.containsKey(report.getProductId()))
+                .forEach(report -> {
+                    int productId = report.getProductId();
+                    int expectedStock = expectedStocks.get(productId);
 
                     // Verify stock in both services
-                    verifyStockInService("ItemService", productInfo, expectedStock);
-                    verifyStockInService("Elasticsearch", productInfo, expectedStock);
+                    verifyStockInService("ItemService", productId, expectedStock, report.getItemServiceStock());
+                    verifyStockInService("Elasticsearch", productId, expectedStock, report.getElasticsearchStock());
                 });
 
-        logger.info("Stock verification completed for {} products.", productIds.size());
+        logger.info("Stock verification completed for {} products.", reports.size());
     }
 
     /**
      * Verifies that the stock in the specified service (ItemService/Elasticsearch) matches the expected value.
      *
      * @param serviceName   The name of the service (ItemService or Elasticsearch).
-     * @param productInfo   The product information containing stock details.
+     * @param productId     The ID of the product.
      * @param expectedStock The expected stock quantity after an update or action.
+     * @param actualStock   The stock quantity reported by the service.
      */
-    private void verifyStockInService(String serviceName, APIGetProductDetail.ProductInformation productInfo, int expectedStock) {
-        int productId = productInfo.getId();
-
-        // Retrieve actual stock from the appropriate service
-        int actualStock = serviceName.equals("ItemService")
-                ? APIGetProductDetail.getTotalStockQuantity(productInfo)
-                : apiGetProductList.fetchRemainingStockByProductId(productId);
-
+    private void verifyStockInService(String serviceName, int productId, int expectedStock, int actualStock) {
         // Assert stock matches expected value
         Assert.assertEquals(actualStock, expectedStock,
                 "[%s] Product stock is incorrect. Expected: %,d, Actual: %,d, productId: %d"
@@ -424,6 +476,19 @@ public class ProductManagementPage {
         // Retrieve the list of product IDs on the first page
         List<Integer> productIds = fetchSelectedProductIds();
 
+        // Determine if each product should be deleted based on inventory history, checking all products concurrently
+        Map<Integer, CompletableFuture<Boolean>> deletionChecks = new LinkedHashMap<>();
+        productIds.forEach(productId -> deletionChecks.put(productId, CompletableFuture.supplyAsync(
+                () -> apiGetInventoryHistory.checkProductCanBeDeleted(productId), APIUtils.getAsyncExecutor())));
+        Map<Integer, Boolean> shouldBeDeleted = new LinkedHashMap<>();
+        deletionChecks.forEach((productId, check) -> shouldBeDeleted.put(productId, APIUtils.await(check)));
+        logger.info("Inventory history dependencies: {}", apiGetInventoryHistory.getDependencyCacheStatistics());
+
+        // Read the product names while they exist, deleted products have none to search Elasticsearch with
+        Map<Integer, String> productNames = new LinkedHashMap<>();
+        productConsistencyChecker.check(productIds, ProductConsistencyChecker.Sources.ITEM_SERVICE)
+                .forEach((productId, report) -> productNames.put(productId, report.getProductInformation().getName()));
+
         // Select the delete action from the dropdown
         selectBulkAction(1);
 
@@ -431,10 +496,13 @@ public class ProductManagementPage {
         webUtils.click(loc_dlgDeleteProduct_btnDelete);
 
         // Wait for the bulk delete operation to complete
-        waitBulkUpdated();
+        var reports = waitBulkUpdated("DELETE", productIds, ProductConsistencyChecker.Sources.ITEM_SERVICE_AND_ELASTICSEARCH_BY_NAME, productNames, report ->
+                report.isElasticsearchChecked()
+                && report.isDeletedInItemService() == shouldBeDeleted.get(report.getProductId())
+                && report.isDeletedInElasticsearch() == shouldBeDeleted.get(report.getProductId()));
 
         // Verify the deletion status of each product
-        verifyProductDeletionStatus(productIds);
+        verifyProductDeletionStatus(reports, shouldBeDeleted);
     }
 
     /**
@@ -443,28 +511,27 @@ public class ProductManagementPage {
      * This method checks whether a product is marked as deleted by querying its status in both systems
      * and compares it with the expected deletion status derived from the inventory history.
      *
-     * @param productIds The list of product IDs to verify.
+     * @param reports              The consistency reports of the products after the bulk action.
+     * @param expectedDeletionById The expected deletion status of each product.
      */
-    private void verifyProductDeletionStatus(List<Integer> productIds) {
-        productIds.forEach(productId -> {
-            // Fetch product information from ItemService
-            var productInfo = apiGetProductDetail.getProductInformation(productId);
-
-            // Determine if the product should be deleted based on inventory history
-            boolean shouldBeDeleted = apiGetInventoryHistory.checkProductCanBeDeleted(productId);
+    private void verifyProductDeletionStatus(Map<Integer, ProductConsistencyChecker.ConsistencyReport> reports, Map<Integer, Boolean> expectedDeletionById) {
+        reports.forEach((productId, report) -> {
+            boolean shouldBeDeleted = expectedDeletionById.get(productId);
 
             // Verify deletion status in ItemService
             Assert.assertEquals(
-                    productInfo.isDeleted(), shouldBeDeleted,
+                    report.isDeletedInItemService(), shouldBeDeleted,
                     "[ItemService] Product deletion status mismatch: expected '%s', found '%s', productId: %d"
-                            .formatted(shouldBeDeleted, productInfo.isDeleted(), productId)
+                            .formatted(shouldBeDeleted, report.isDeletedInItemService(), productId)
             );
 
             // Verify deletion status in Elasticsearch
+            Assert.assertTrue(report.isElasticsearchChecked(),
+                    "[Elasticsearch] Product deletion status not checked, no name to search with, productId: %d".formatted(productId));
             Assert.assertEquals(
-                    apiGetProductList.isProductDeletedFromElasticsearch(productId), shouldBeDeleted,
+                    report.isDeletedInElasticsearch(), shouldBeDeleted,
                     "[Elasticsearch] Product deletion status mismatch: expected '%s', found '%s', productId: %d"
-                            .formatted(shouldBeDeleted, apiGetProductList.isProductDeletedFromElasticsearch(productId), productId)
+                            .formatted(shouldBeDeleted, report.isDeletedInElasticsearch(), productId)
             );
 
             // Log verification result
@@ -478,22 +545,22 @@ public class ProductManagementPage {
      * This method checks whether the product status matches the expected status for a list of products
      * in both systems and logs the results for each product.
      *
-     * @param productIds     The list of product IDs to verify.
+     * @param reports        The consistency reports of the products after the bulk action.
      * @param expectedStatus The expected status of the product (e.g., "INACTIVE" or "ACTIVE").
      */
-    private void verifyProductStatus(List<Integer> productIds, String expectedStatus) {
-        productIds.stream().map(productId -> apiGetProductDetail.getProductInformation(productId))
-                .filter(productInfo -> !productInfo.isDeleted())
-                .forEach(productInfo -> {
+    private void verifyProductStatus(Map<Integer, ProductConsistencyChecker.ConsistencyReport> reports, String expectedStatus) {
+        reports.values().stream()
+                .filter(report -> !report.isDeletedInItemService())
+                .forEach(report -> {
                     // Get product information
-                    int productId = productInfo.getId();
+                    int productId = report.getProductId();
 
                     // Verify in ItemService
-                    Assert.assertEquals(productInfo.getBhStatus(), expectedStatus,
+                    Assert.assertEquals(report.getItemServiceStatus(), expectedStatus,
                             "[ItemService] Product status must be updated to '%s', productId: %d".formatted(expectedStatus, productId));
 
                     // Verify in Elasticsearch
-                    Assert.assertEquals(apiGetProductList.fetchElasticsearchProductStatus(productId), expectedStatus,
+                    Assert.assertEquals(report.getElasticsearchStatus(), expectedStatus,
                             "[Elasticsearch] Product status must be updated to '%s', productId: %d".formatted(expectedStatus, productId));
 
                     logger.info("Verify product status, productId: {}", productId);
@@ -519,10 +586,12 @@ public class ProductManagementPage {
         webUtils.click(confirmButton);
 
         // Wait for the status update to complete
-        waitBulkUpdated();
+        var reports = waitBulkUpdated(actionDescription, productIds, report -> report.isDeletedInItemService()
+                                                                             || (expectedStatus.equals(report.getItemServiceStatus())
+                                                                                 && expectedStatus.equals(report.getElasticsearchStatus())));
 
         // Verify product status in both ItemService and Elasticsearch
-        verifyProductStatus(productIds, expectedStatus);
+        verifyProductStatus(reports, expectedStatus);
 
         // Log the result
         logger.info("Check product status after bulk actions: {}.", actionDescription);
@@ -562,8 +631,8 @@ public class ProductManagementPage {
         // Confirm the tax update
         webUtils.click(loc_dlgUpdateTax_btnOK);
 
-        // Wait for the status update to complete
-        waitBulkUpdated();
+        // Wait for the tax update to complete
+        waitItemServiceUpdated("UPDATE TAX", productIds, productInfo -> productInfo.getTaxId() == newTaxId);
 
         // Verify the updated tax ID for each product
         verifyProductTaxIdUpdate(productIds, newTaxId);
@@ -600,13 +669,14 @@ public class ProductManagementPage {
     /**
      * Bulk updates the display setting for products when they are out of stock.
      *
+     * @param productIds  the IDs of the selected products.
      * @param optionIndex the option to select:
      *                    <ul>
      *                      <li>0: Display products when out of stock</li>
      *                      <li>1: Hide products when out of stock</li>
      *                    </ul>
      */
-    private void bulkDisplayOutOfStock(int optionIndex) {
+    private void bulkDisplayOutOfStock(List<Integer> productIds, int optionIndex) {
         // Open the display out of stock popup from bulk actions
         selectBulkAction(6);
 
@@ -617,7 +687,8 @@ public class ProductManagementPage {
         webUtils.click(loc_dlgDisplayOutOfStockProduct_btnYes);
 
         // Wait for the bulk action to complete
-        waitBulkUpdated();
+        boolean shouldShow = optionIndex == 0;
+        waitItemServiceUpdated("DISPLAY OUT OF STOCK", productIds, productInfo -> productInfo.isShowOutOfStock() == shouldShow);
     }
 
     /**
@@ -658,12 +729,12 @@ public class ProductManagementPage {
         List<Integer> productIds = fetchSelectedProductIds();
 
         // Display products when out of stock
-        bulkDisplayOutOfStock(0);
+        bulkDisplayOutOfStock(productIds, 0);
         verifyOutOfStockDisplay(productIds, true);
         logger.info("Check product after bulk actions: DISPLAY OUT OF STOCK PRODUCT.");
 
         // Hide products when out of stock
-        bulkDisplayOutOfStock(1);
+        bulkDisplayOutOfStock(productIds, 1);
         verifyOutOfStockDisplay(productIds, false);
         logger.info("Check product after bulk actions: DO NOT DISPLAY OUT OF STOCK PRODUCT.");
     }
@@ -688,7 +759,11 @@ public class ProductManagementPage {
         webUtils.click(loc_dlgUpdateSellingPlatform_btnConfirm);
 
         // Wait for the update to complete
-        waitBulkUpdated();
+        waitItemServiceUpdated("UPDATE SELLING PLATFORM", productIds, productInfo ->
+                productInfo.isOnApp() == platformStates.get("App")
+                && productInfo.isOnWeb() == platformStates.get("Web")
+                && productInfo.isInStore() == platformStates.get("InStore")
+                && productInfo.isInGosocial() == platformStates.get("GoSocial"));
 
         // Verify the selling platform configuration for each product
         verifySellingPlatformConfiguration(productIds, platformStates);
@@ -830,7 +905,10 @@ public class ProductManagementPage {
         logger.info("Input cost price: %,d.".formatted(costPrice));
 
         // Wait for the update to complete
-        waitBulkUpdated();
+        waitItemServiceUpdated("UPDATE PRICE", productIds, productInfo ->
+                APIGetProductDetail.getVariationListingPrice(productInfo).stream().allMatch(price -> price == listingPrice)
+                && APIGetProductDetail.getVariationSellingPrice(productInfo).stream().allMatch(price -> price == sellingPrice)
+                && APIGetProductDetail.getVariationCostPrice(productInfo).stream().allMatch(price -> price == costPrice));
 
         verifyProductPrices(productIds, listingPrice, sellingPrice, costPrice);
     }
@@ -928,25 +1006,33 @@ public class ProductManagementPage {
 
         // Confirm and complete the update
         webUtils.click(loc_dlgSetStockAlert_btnUpdate);
-        waitBulkUpdated();
+
+        // Stock alerts are only served by their own endpoint, keep the last ones read for the verification
+        Map<Integer, List<Integer>> stockAlerts = new HashMap<>();
+        var reports = waitItemServiceUpdated("SET STOCK ALERT", productIds, productInfo -> {
+            List<Integer> stockAlert = apiGetStockAlert.getProductStockAlert(productInfo.getId());
+            stockAlerts.put(productInfo.getId(), stockAlert);
+            return stockAlert.stream().allMatch(alert -> alert == stockAlertValue);
+        });
 
         // Verify that the stock alert value has been updated
-        verifyStockAlert(productIds, stockAlertValue);
+        verifyStockAlert(reports, stockAlerts, stockAlertValue);
     }
 
     /**
      * Verifies that the stock alert value has been updated correctly for all products.
      *
-     * @param productIds         the list of product IDs to verify.
+     * @param reports            the consistency reports of the products after the bulk action.
+     * @param stockAlerts        the stock alerts of each product, as last read while waiting for the update.
      * @param expectedStockAlert the expected stock alert value.
      */
-    private void verifyStockAlert(List<Integer> productIds, int expectedStockAlert) {
-        productIds.stream().map(productId -> apiGetProductDetail.getProductInformation(productId))
+    private void verifyStockAlert(Map<Integer, ProductConsistencyChecker.ConsistencyReport> reports, Map<Integer, List<Integer>> stockAlerts, int expectedStockAlert) {
+        reports.values().stream().map(ProductConsistencyChecker.ConsistencyReport::getProductInformation)
                 .filter(productInfo -> !productInfo.isDeleted())
                 .forEach(productInfo -> {
                     // Get product information
                     int productId = productInfo.getId();
-                    List<Integer> stockAlert = apiGetStockAlert.getProductStockAlert(productId);
+                    List<Integer> stockAlert = stockAlerts.get(productId);
                     Assert.assertTrue(stockAlert.parallelStream().allMatch(alert -> alert == expectedStockAlert), "[ItemService] Product stock alert must be '%,d', productId: %d".formatted(expectedStockAlert, productId));
                     logger.info("Verify product stock alert, productId: {}", productId);
                 });
@@ -960,8 +1046,18 @@ public class ProductManagementPage {
         List<Integer> productIds = fetchSelectedProductIds();
 
         // Get current product lot date status
-        List<Boolean> beforeLot = fetchLotAvailability(productIds);
-        List<Boolean> beforeExpiredQuality = fetchExpiredQualityStatus(productIds);
+        var beforeReports = productConsistencyChecker.check(productIds, ProductConsistencyChecker.Sources.ITEM_SERVICE).values().stream()
+                .filter(report -> !report.isDeletedInItemService())
+                .toList();
+
+        // Determine which products can be managed by lot date
+        Map<Integer, Boolean> expectedLotAvailable = new HashMap<>();
+        beforeReports.forEach(report -> {
+            var productInfo = report.getProductInformation();
+            expectedLotAvailable.put(report.getProductId(), productInfo.isLotAvailable()
+                                                            || (!productInfo.getInventoryManageType().equals("IMEI_SERIAL_NUMBER")
+                                                                && apiGetInventoryHistory.checkProductCanBeManagedByLotDate(report.getProductId())));
+        });
 
         // Open the bulk actions menu and select the 'Manage stock by Lot-date' action
         selectBulkAction(10);
@@ -972,58 +1068,43 @@ public class ProductManagementPage {
             webUtils.clickJS(loc_dlgManageProductByLotDate_chkExcludeExpireQuantity);
         logger.info("Exclude expired quantity from remaining stock: {}.", isExpiredQuality);
 
+        // Only products newly managed by lot date take the option, the others keep their setting
+        Map<Integer, Boolean> expectedExpiredQuality = new HashMap<>();
+        beforeReports.forEach(report -> {
+            var productInfo = report.getProductInformation();
+            boolean beforeLot = productInfo.isLotAvailable();
+            expectedExpiredQuality.put(report.getProductId(), ((!beforeLot && expectedLotAvailable.get(report.getProductId())) && isExpiredQuality)
+                                                              || (beforeLot && productInfo.isExpiredQuality()));
+        });
+
         // Confirm the bulk update
         webUtils.click(loc_dlgManageProductByLotDate_btnYes);
-        waitBulkUpdated();
+        var reports = waitItemServiceUpdated("MANAGE STOCK BY LOT DATE", productIds, productInfo ->
+                !expectedLotAvailable.containsKey(productInfo.getId())
+                || (productInfo.isLotAvailable() == expectedLotAvailable.get(productInfo.getId())
+                    && productInfo.isExpiredQuality() == expectedExpiredQuality.get(productInfo.getId())));
 
         // Verify that the stock lot and expired quality statuses have been updated correctly
-        verifyStockLotAndQuality(productIds, beforeLot, beforeExpiredQuality, isExpiredQuality);
-    }
-
-    /**
-     * Fetches the lot availability status for a list of products.
-     *
-     * @param productIds the list of product IDs to fetch status for.
-     * @return a list of boolean values indicating lot availability.
-     */
-    private List<Boolean> fetchLotAvailability(List<Integer> productIds) {
-        return productIds.stream()
-                .map(productId -> apiGetProductDetail.getProductInformation(productId))
-                .map(APIGetProductDetail.ProductInformation::isLotAvailable)
-                .toList();
-    }
-
-    /**
-     * Fetches the expired quality status for a list of products.
-     *
-     * @param productIds the list of product IDs to fetch status for.
-     * @return a list of boolean values indicating expired quality status.
-     */
-    private List<Boolean> fetchExpiredQualityStatus(List<Integer> productIds) {
-        return productIds.stream()
-                .map(productId -> apiGetProductDetail.getProductInformation(productId))
-                .map(APIGetProductDetail.ProductInformation::isExpiredQuality)
-                .toList();
+        verifyStockLotAndQuality(reports, expectedLotAvailable, expectedExpiredQuality);
     }
 
     /**
      * Verifies that the stock lot and expired quality statuses have been updated correctly.
      *
-     * @param productIds           the list of product IDs to verify.
-     * @param beforeLot            the list of lot availability statuses before the update.
-     * @param beforeExpiredQuality the list of expired quality statuses before the update.
-     * @param isExpiredQuality     the value indicating whether expired quality should be excluded.
+     * @param reports                The consistency reports of the products after the bulk action.
+     * @param expectedLotAvailable   The expected lot availability of each product.
+     * @param expectedExpiredQuality The expected expired quality status of each product.
      */
-    private void verifyStockLotAndQuality(List<Integer> productIds, List<Boolean> beforeLot, List<Boolean> beforeExpiredQuality, boolean isExpiredQuality) {
-        IntStream.range(0, productIds.size()).forEach(productIndex -> {
-            int productId = productIds.get(productIndex);
-            var productInfo = apiGetProductDetail.getProductInformation(productId);
-            if (!productInfo.isDeleted()) {
-                boolean expectedLotAvailable = beforeLot.get(productIndex) || (!productInfo.getInventoryManageType().equals("IMEI_SERIAL_NUMBER") && apiGetInventoryHistory.checkProductCanBeManagedByLotDate(productId));
-                Assert.assertEquals(productInfo.isLotAvailable(), expectedLotAvailable, "[ItemService] Product stock lot must be '%s' but found '%s', productId: %d".formatted(expectedLotAvailable, productInfo.isLotAvailable(), productId));
-
-                boolean expectedExpiredQuality = ((!beforeLot.get(productIndex) && expectedLotAvailable) && isExpiredQuality) || (beforeLot.get(productIndex) && beforeExpiredQuality.get(productIndex));
-                Assert.assertEquals(productInfo.isExpiredQuality(), expectedExpiredQuality, "[ItemService] Product expired quality must be '%s' but found '%s', productId: %d".formatted(expectedExpiredQuality, productInfo.isExpiredQuality(), productId));
+    private void verifyStockLotAndQuality(Map<Integer, ProductConsistencyChecker.ConsistencyReport> reports,
+                                          Map<Integer, Boolean> expectedLotAvailable, Map<Integer, Boolean> expectedExpiredQuality) {
+        reports.forEach((productId, report) -> {
+            var productInfo = report.getProductInformation();
+            if (!productInfo.isDeleted() && expectedLotAvailable.containsKey(productId)) {
+                boolean expectedLot = expectedLotAvailable.get(productId);
+                Assert.assertEquals(productInfo.isLotAvailable(), expectedLot, "[ItemService] Product stock lot must be '%s' but found '%s', productId: %d".formatted(expectedLot, productInfo.isLotAvailable(), productId));
+
+                boolean expectedExpired = expectedExpiredQuality.get(productId);
+                Assert.assertEquals(productInfo.isExpiredQuality(), expectedExpired, "[ItemService] Product expired quality must be '%s' but found '%s', productId: %d".formatted(expectedExpired, productInfo.isExpiredQuality(), productId));
             }
             logger.info("Verify product lot, productId: {}", productId);
         });
@@ -3,6 +3,7 @@ package pages.web.seller.suppliers.all_suppliers;
 import api.seller.supplier.APIGetSupplierDetail;
 import api.seller.supplier.APIGetSupplierDetail.SupplierInformation;
 import api.seller.supplier.APIGetSupplierList;
+import io.restassured.path.json.JsonPath;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
@@ -22,6 +23,9 @@ import static api.seller.login.APISellerLogin.Credentials;
  * saving the supplier data, and verifying that the supplier data is correctly saved.
  */
 public class BaseSupplierPage extends BaseSupplierElement {
+    // Create-supplier request sent by the dashboard
+    private static final String CREATE_SUPPLIER_URL_PATTERN = "/itemservice/api/suppliers(\\?|$)";
+
     private final WebDriver driver;
     private final WebUtils webUtils;
 
@@ -243,15 +247,23 @@ public class BaseSupplierPage extends BaseSupplierElement {
      * Completes the process of creating or updating a supplier by clicking the "Save" button.
      */
     void saveChanges() {
+        // Record the create-supplier response to read the new supplier's ID
+        boolean isCreate = supplierInfo.getId() == null;
+        if (isCreate) webUtils.captureResponses("POST", CREATE_SUPPLIER_URL_PATTERN);
+
         webUtils.click(loc_btnHeaderSave);
         logger.info("Completed save changes to supplier information");
 
         // If it's an update, no need to fetch the supplier ID again.
-        if (supplierInfo.getId() != null) return;
-
-        // Wait for the API response to retrieve the new supplier's ID
-        WebUtils.sleep(3000);
-        int supplierId = new APIGetSupplierList(credentials).searchSupplierIdByName(supplierInfo.getName());
+        if (!isCreate) return;
+
+        // Read the new supplier's ID from the captured response, or search it by name if it was not captured
+        int supplierId = webUtils.waitForCapturedResponse(10_000)
+                .map(body -> JsonPath.from(body).getInt("id"))
+                .orElseGet(() -> {
+                    logger.warn("Create supplier response was not captured, searching the supplier by name.");
+                    return new APIGetSupplierList(credentials).searchSupplierIdByName(supplierInfo.getName());
+                });
 
         // Log the creation of the new supplier
         logger.info("Completed creation of supplier, ID: {}", supplierId);
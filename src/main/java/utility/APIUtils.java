@@ -1,11 +1,42 @@
 package utility;
 
-import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.apache.http.HttpHost;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
 
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static io.restassured.RestAssured.given;
 
@@ -13,38 +44,137 @@ import static io.restassured.RestAssured.given;
  * Utility class for interacting with APIs using RestAssured.
  * It supports GET, POST, PUT, and DELETE requests with optional OAuth2 authentication and headers.
  * This class also handles proxy configuration and base URI settings.
+ * <p>
+ * All instances share one thread-safe HTTP client backed by a keep-alive connection pool,
+ * so parallel callers reuse open (already TLS-negotiated) connections instead of opening a new one per request.
+ * The pool size and timeouts are configurable through {@link PropertiesUtils}.
+ * <p>
+ * The {@code *Async} methods run requests on virtual threads, limited per host,
+ * so callers can overlap many lookups without occupying the ForkJoin common pool.
  */
 public class APIUtils {
 
-    private String uri;
+    // Number of physical connections opened by the shared pool (each one costs a TCP/TLS handshake)
+    private static final AtomicLong createdConnections = new AtomicLong();
+
+    // RestAssured drives the client through the HttpClient 4.0 API (AbstractHttpClient and its scheme registry,
+    // e.g. for relaxed HTTPS validation), so the shared client must be a DefaultHttpClient
+    private static final PoolingClientConnectionManager connectionManager = createConnectionManager();
+    private static final DefaultHttpClient sharedHttpClient = createHttpClient();
+    private static final RestAssuredConfig sharedConfig = RestAssuredConfig.config()
+            .httpClient(HttpClientConfig.httpClientConfig()
+                    .httpClientFactory(() -> sharedHttpClient)
+                    // A reused client is never shut down by RestAssured, so the pool lives for the whole JVM
+                    .reuseHttpClientInstance());
+
+    // Base request specifications, built once per base URI
+    private static final Map<String, RequestSpecification> baseSpecifications = new ConcurrentHashMap<>();
+
+    // Executor for asynchronous requests; every request gets its own virtual thread
+    private static final ExecutorService asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Limits the number of in-flight asynchronous requests per host
+    private static final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    private final String uri;
+
+    /**
+     * Snapshot of the shared connection pool usage.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class PoolStatistics {
+        private int leased;    // Connections currently in use
+        private int idle;      // Open connections kept alive for reuse
+        private int pending;   // Requests waiting for a free connection
+        private int max;       // Maximum total pool size
+        private long created;  // Connections opened since startup
+    }
+
+    /**
+     * Creates the connection pool shared by every request, counting the physical connections it opens.
+     *
+     * @return The pooling connection manager, sized from the properties.
+     */
+    private static PoolingClientConnectionManager createConnectionManager() {
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager(SchemeRegistryFactory.createDefault(), 60, TimeUnit.SECONDS) {
+            @Override
+            protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+                return new DefaultClientConnectionOperator(schemeRegistry) {
+                    @Override
+                    public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local,
+                                               HttpContext context, HttpParams params) throws IOException {
+                        createdConnections.incrementAndGet();
+                        super.openConnection(conn, target, local, context, params);
+                    }
+                };
+            }
+        };
+        manager.setMaxTotal(PropertiesUtils.getAPIPoolMaxTotal());
+        manager.setDefaultMaxPerRoute(PropertiesUtils.getAPIPoolMaxPerRoute());
+        return manager;
+    }
+
+    /**
+     * Creates the HTTP client shared by every request, over the shared pool.
+     * Connections are kept alive for as long as the server allows, see {@link DefaultConnectionKeepAliveStrategy}.
+     *
+     * @return The shared HTTP client, with the timeouts from the properties.
+     */
+    private static DefaultHttpClient createHttpClient() {
+        HttpParams params = new BasicHttpParams();
+        params.setIntParameter(CoreConnectionPNames.CONNECTION_TIMEOUT, PropertiesUtils.getAPIConnectTimeout());
+        params.setIntParameter(CoreConnectionPNames.SO_TIMEOUT, PropertiesUtils.getAPISocketTimeout());
+        params.setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT, PropertiesUtils.getAPIConnectTimeout());
+
+        DefaultHttpClient httpClient = new DefaultHttpClient(connectionManager, params);
+        httpClient.setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE);
+        return httpClient;
+    }
 
     /**
      * Initializes the APIUtils class.
-     * Configures RestAssured proxy settings if enabled, and sets the base URI.
      * If a URI is provided, it is used as the base URI; otherwise, the base URI is retrieved from the properties.
      *
      * @param uri an optional URI to override the default base URI. If no URI is provided, the base URI is fetched from the properties.
      */
     public APIUtils(String... uri) {
-        configureProxy(); // Configure proxy settings if enabled
-        setBaseURI(uri.length == 0 ? PropertiesUtils.getAPIHost() : uri[0]); // Set base URI based on provided URI or default property value
+        this.uri = uri.length == 0 ? PropertiesUtils.getAPIHost() : uri[0]; // Set base URI based on provided URI or default property value
     }
 
     /**
-     * Configures proxy settings if the 'enableProxy' property is set to true.
-     * The proxy is set to 'localhost' on port 8888.
+     * Returns the current usage of the shared connection pool.
+     * A low {@code created} count compared to the number of requests sent proves that connections are reused.
+     *
+     * @return A {@link PoolStatistics} snapshot.
      */
-    private void configureProxy() {
-        if (PropertiesUtils.getEnableProxy()) {
-            RestAssured.proxy("localhost", 8888);
-        }
+    public static PoolStatistics getPoolStatistics() {
+        PoolStats stats = connectionManager.getTotalStats();
+        return new PoolStatistics(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax(), createdConnections.get());
     }
 
     /**
-     * Sets the base URI for API requests using the 'apiHost' property.
+     * Returns the cached base request specification for the given base URI, building it on first use.
+     * The proxy is configured on the specification when the 'enableProxy' property is set to true,
+     * so the global RestAssured state is never mutated.
+     *
+     * @param baseUri The base URI of the API.
+     * @return The shared base {@link RequestSpecification}.
      */
-    private void setBaseURI(String uri) {
-        this.uri = uri;
+    private static RequestSpecification getBaseSpecification(String baseUri) {
+        return baseSpecifications.computeIfAbsent(baseUri, key -> {
+            RequestSpecBuilder builder = new RequestSpecBuilder()
+                    .setConfig(sharedConfig)
+                    .setRelaxedHTTPSValidation()
+                    .setBaseUri(key)
+                    .setContentType(ContentType.JSON);
+
+            if (PropertiesUtils.getEnableProxy()) {
+                builder.setProxy("localhost", 8888);
+            }
+
+            return builder.build();
+        });
     }
 
     /**
@@ -55,10 +185,7 @@ public class APIUtils {
      * @return A RequestSpecification object for making API requests.
      */
     private RequestSpecification buildRequest(String token, Map<String, Object> headers) {
-        RequestSpecification request = given()
-                .relaxedHTTPSValidation()
-                .baseUri(uri)
-                .contentType(ContentType.JSON);
+        RequestSpecification request = given().spec(getBaseSpecification(uri));
 
         if (token != null) {
             request.auth().oauth2(token);
@@ -97,6 +224,67 @@ public class APIUtils {
         };
     }
 
+    /**
+     * Sends an HTTP request asynchronously on a virtual thread.
+     * The request waits for a permit of its host before being sent, so at most
+     * {@link PropertiesUtils#getAPIMaxConcurrentRequestsPerHost()} requests run against one host at a time.
+     *
+     * @param method  The HTTP method to use (GET, POST, PUT, DELETE).
+     * @param path    The API endpoint path.
+     * @param token   The OAuth2 token for authentication (can be null).
+     * @param body    The request body (can be null).
+     * @param headers Optional headers to include in the request.
+     * @return A future completed with the API response.
+     */
+    private CompletableFuture<Response> sendRequestAsync(String method, String path, String token, Object body, Map<String, Object> headers) {
+        Semaphore permits = hostPermits.computeIfAbsent(Objects.requireNonNullElse(URI.create(uri).getHost(), uri),
+                _ -> new Semaphore(PropertiesUtils.getAPIMaxConcurrentRequestsPerHost()));
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt(); // Restore the interrupted status
+                throw new RuntimeException("Thread interrupted while waiting for a request permit", e);
+            }
+
+            try {
+                return sendRequest(method, path, token, body, headers);
+            } finally {
+                permits.release();
+            }
+        }, asyncExecutor);
+    }
+
+    /**
+     * Returns the executor used for asynchronous requests.
+     * API classes use it to run follow-up work (such as pagination) on virtual threads.
+     *
+     * @return The shared virtual-thread executor.
+     */
+    public static ExecutorService getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Waits for the given future and returns its result.
+     * Unlike {@link CompletableFuture#join()}, the original exception (e.g. a failed status code assertion)
+     * is rethrown instead of being wrapped in a {@link CompletionException}.
+     *
+     * @param future The future to wait for.
+     * @param <T>    The result type.
+     * @return The result of the future.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (ex.getCause() instanceof Error error) throw error;
+            throw ex;
+        }
+    }
+
     /**
      * Performs a GET request to the specified path with optional OAuth2 authentication and headers.
      *
@@ -193,4 +381,101 @@ public class APIUtils {
     public Response delete(String path, String token) {
         return delete(path, token, null, null);
     }
+
+    /**
+     * Performs an asynchronous GET request to the specified path with optional OAuth2 authentication and headers.
+     *
+     * @param path    The API endpoint path.
+     * @param token   The OAuth2 token for authentication (can be null).
+     * @param headers Optional headers to include in the request.
+     * @return A future completed with the API response.
+     */
+    public CompletableFuture<Response> getAsync(String path, String token, Map<String, Object> headers) {
+        return sendRequestAsync("GET", path, token, null, headers);
+    }
+
+    /**
+     * Performs an asynchronous GET request to the specified path with optional OAuth2 authentication.
+     *
+     * @param path  The API endpoint path.
+     * @param token The OAuth2 token for authentication (can be null).
+     * @return A future completed with the API response.
+     */
+    public CompletableFuture<Response> getAsync(String path, String token) {
+        return getAsync(path, token, null);
+    }
+
+    /**
+     * Performs an asynchronous POST request to the specified path with optional OAuth2 authentication, body, and headers.
+     *
+     * @param path    The API endpoint path.
+     * @param token   The OAuth2 token for authentication (can be null).
+     * @param body    The request body to send (can be null).
+     * @param headers Optional headers to include in the request.
+     * @return A future completed with the API response.
+     */
+    public CompletableFuture<Response> postAsync(String path, String token, Object body, Map<String, Object> headers) {
+        return sendRequestAsync("POST", path, token, body, headers);
+    }
+
+    /**
+     * Performs an asynchronous POST request to the specified path with optional OAuth2 authentication and body.
+     *
+     * @param path  The API endpoint path.
+     * @param token The OAuth2 token for authentication (can be null).
+     * @param body  The request body to send (can be null).
+     * @return A future completed with the API response.
+     */
+    public CompletableFuture<Response> postAsync(String path, String token, Object body) {
+        return postAsync(path, token, body, null);
+    }
+
+    /**
+     * Performs an asynchronous PUT request to the specified path with optional OAuth2 authentication, body, and headers.
+     *
+     * @param path    The API endpoint path.
+     * @param token   The OAuth2 token for authentication (can be null).
+     * @param body    The request body to send (can be null).
+     * @param headers Optional headers to include in the request.
+     * @return A future completed with the API response.
+     */
+    public CompletableFuture<Response> putAsync(String path, String token, Object body, Map<String, Object> headers) {
+        return sendRequestAsync("PUT", path, token, body, headers);
+    }
+
+    /**
+     * Performs an asynchronous PUT request to the specified path with optional OAuth2 authentication and body.
+     *
+     * @param path  The API endpoint path.
+     * @param token The OAuth2 token for authentication (can be null).
+     * @param body  The request body to send (can be null).
+     * @return A future completed with the API response.
+     */
+    public CompletableFuture<Response> putAsync(String path, String token, Object body) {
+        return putAsync(path, token, body, null);
+    }
+
+    /**
+     * Performs an asynchronous DELETE request to the specified path with optional OAuth2 authentication, body, and headers.
+     *
+     * @param path    The API endpoint path.
+     * @param token   The OAuth2 token for authentication (can be null).
+     * @param body    The request body to send (can be null).
+     * @param headers Optional headers to include in the request.
+     * @return A future completed with the API response.
+     */
+    public CompletableFuture<Response> deleteAsync(String path, String token, Object body, Map<String, Object> headers) {
+        return sendRequestAsync("DELETE", path, token, body, headers);
+    }
+
+    /**
+     * Performs an asynchronous DELETE request to the specified path with optional OAuth2 authentication.
+     *
+     * @param path  The API endpoint path.
+     * @param token The OAuth2 token for authentication (can be null).
+     * @return A future completed with the API response.
+     */
+    public CompletableFuture<Response> deleteAsync(String path, String token) {
+        return deleteAsync(path, token, null, null);
+    }
 }
@@ -6,6 +6,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.remote.RemoteWebElement;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -14,9 +15,10 @@ import java.io.File;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import static io.appium.java_client.AppiumBy.androidUIAutomator;
-import static utility.WebDriverManager.appBundleId;
+import static utility.DriverContext.getAppBundleId;
 
 /**
  * Provides utility functions for interacting with Android devices in an Appium-based
@@ -28,16 +30,19 @@ public class AndroidUtils {
 
     private static final Logger logger = LogManager.getLogger(AndroidUtils.class);
 
+    // Scroll gestures after which a search gives up on screens that keep loading content
+    private static final int MAX_SCROLL_GESTURES = 15;
+
     public static By getLocatorById(String id) {
-        return By.id(id.formatted(appBundleId));
+        return By.id(id.formatted(getAppBundleId()));
     }
 
     public static By getLocatorByResourceId(String resourceId) {
-        return AppiumBy.androidUIAutomator("new UiScrollable(new UiSelector().scrollable(true)).scrollIntoView(new UiSelector().resourceId(\"%s\"))".formatted(resourceId.formatted(appBundleId)));
+        return AppiumBy.androidUIAutomator("new UiScrollable(new UiSelector().scrollable(true)).scrollIntoView(new UiSelector().resourceId(\"%s\"))".formatted(resourceId.formatted(getAppBundleId())));
     }
 
     public static By getLocatorByResourceIdAndInstance(String resourceId, int index) {
-        return AppiumBy.androidUIAutomator("new UiScrollable(new UiSelector().scrollable(true)).scrollIntoView(new UiSelector().resourceId(\"%s\").instance(%d))".formatted(resourceId.formatted(appBundleId), index));
+        return AppiumBy.androidUIAutomator("new UiScrollable(new UiSelector().scrollable(true)).scrollIntoView(new UiSelector().resourceId(\"%s\").instance(%d))".formatted(resourceId.formatted(getAppBundleId()), index));
     }
 
     public static By getLocatorByText(String text) {
@@ -81,6 +86,7 @@ public class AndroidUtils {
         try {
             driver.findElement(androidUIAutomator(
                     "new UiScrollable(new UiSelector().scrollable(true)).scrollBackward().scrollToBeginning(1000)"));
+            ScrollPositions.setCurrentPosition(driver, ScrollPositions.getScreen(), 0);
             logger.info("Scrolled to the top of the screen.");
         } catch (NoSuchElementException e) {
             logger.warn("Failed to scroll to the top of the screen: {}", e.getMessage());
@@ -91,6 +97,7 @@ public class AndroidUtils {
         try {
             driver.findElement(androidUIAutomator(
                     "new UiScrollable(new UiSelector().scrollable(true)).scrollForward()"));
+            ScrollPositions.setCurrentPosition(driver, ScrollPositions.getScreen(), null);
             logger.info("Scrolled down.");
         } catch (NoSuchElementException e) {
             logger.warn("Failed to scrolled down: {}", e.getMessage());
@@ -104,6 +111,7 @@ public class AndroidUtils {
         try {
             driver.findElement(androidUIAutomator(
                     "new UiScrollable(new UiSelector().scrollable(true)).scrollForward().scrollToEnd(1000)"));
+            ScrollPositions.setCurrentPosition(driver, ScrollPositions.getScreen(), null);
             logger.info("Scrolled to the end of the screen.");
         } catch (NoSuchElementException e) {
             logger.warn("Failed to scroll to the end of the screen: {}", e.getMessage());
@@ -114,6 +122,7 @@ public class AndroidUtils {
         try {
             driver.findElement(androidUIAutomator(
                     "new UiScrollable(new UiSelector().scrollable(true)).scrollBackward()"));
+            ScrollPositions.setCurrentPosition(driver, ScrollPositions.getScreen(), null);
             logger.info("Scrolled up.");
         } catch (NoSuchElementException e) {
             logger.warn("Failed to scrolled up: {}", e.getMessage());
@@ -156,51 +165,160 @@ public class AndroidUtils {
         );
     }
 
+    /**
+     * Finds an element of a scrollable screen with native scroll gestures.
+     * <p>
+     * The element is first looked up on the current screen, after scrolling to the position it was last found at
+     * on this screen ({@link ScrollPositions}). Otherwise, the screen is scrolled down from the current position with
+     * {@code mobile: scrollGesture} until the element shows up or the end of the screen is reached, then from the top
+     * down to where the search started, and its position is remembered.
+     * Each step looks the target {@code UiSelector} up on the displayed hierarchy only.
+     *
+     * @param locator The {@code UiScrollable.scrollIntoView} or {@code UiSelector} locator of the element.
+     * @return The first matching element.
+     * @throws RuntimeException If the element is not found after scrolling through the screen.
+     */
     private WebElement findElementWithScroll(By locator) {
-        List<WebElement> elements = getListElement(locator);
+        String selector = getTargetSelector(locator);
+        if (selector == null) {
+            List<WebElement> elements = getListElement(locator);
+            if (!elements.isEmpty()) return elements.getFirst();
+            throw new RuntimeException("Element not found: " + locator);
+        }
+
+        By target = androidUIAutomator(selector);
+        String screen = ScrollPositions.getScreen();
+        Integer currentPosition = ScrollPositions.getCurrentPosition(driver, screen);
+        Integer knownPosition = ScrollPositions.getKnownPosition(driver, screen, selector);
+
+        // Go straight to where the element was last found
+        if (knownPosition != null && currentPosition != null && !knownPosition.equals(currentPosition)) {
+            String direction = knownPosition > currentPosition ? "down" : "up";
+            WebElement scrollable = getScrollableContainer();
+            for (int gesture = 0; gesture < Math.abs(knownPosition - currentPosition) && scrollable != null; gesture++) {
+                scrollGesture(scrollable, direction);
+            }
+            currentPosition = knownPosition;
+            ScrollPositions.setCurrentPosition(driver, screen, currentPosition);
+        }
 
+        List<WebElement> elements = driver.findElements(target);
         if (!elements.isEmpty()) {
-            return elements.getFirst(); // Return first found element
+            ScrollPositions.remember(driver, screen, selector, currentPosition);
+            return elements.getFirst();
         }
 
-        String keyword = extractKeywordFromLocator(locator);
-        String xpathString = constructXPathString(locator, keyword);
+        // Search the screen below, then above the current position, counting the gestures
+        WebElement element = searchDownward(target, screen, currentPosition);
+        if (element != null) {
+            ScrollPositions.remember(driver, screen, selector, ScrollPositions.getCurrentPosition(driver, screen));
+            return element;
+        }
 
-        // Try scrolling down
-        for (int index = 0; index < 2; index++) {
-            scrollDown();
-            elements = driver.findElements(By.xpath(xpathString));
-            if (!elements.isEmpty()) {
-                return elements.getFirst();
-            }
+        // The screen may still be rendering: wait for the native UiScrollable search
+        elements = getListElement(locator);
+        ScrollPositions.setCurrentPosition(driver, screen, null);
+        if (!elements.isEmpty()) {
+            return elements.getFirst();
         }
 
-        // Try scrolling up
-        for (int index = 0; index < 4; index++) {
-            scrollUp();
-            elements = driver.findElements(By.xpath(xpathString));
+        throw new RuntimeException("Element not found after scrolling attempts: " + locator);
+    }
+
+    /**
+     * Scrolls down from the current position one gesture at a time until the element is displayed.
+     * If the end of the screen is reached first, scrolls to the top and down again to where the search started.
+     *
+     * @param target        The {@code UiSelector} locator of the element, without scrolling.
+     * @param screen        The screen, whose current position is updated.
+     * @param startPosition The current position of the screen, where the element is not displayed, or {@code null} if unknown.
+     * @return The element, or {@code null} if the whole screen is searched without finding it.
+     */
+    private WebElement searchDownward(By target, String screen, Integer startPosition) {
+        WebElement scrollable = getScrollableContainer();
+        if (scrollable == null) return null;
+
+        // Fields are mostly visited in screen order, so look below first
+        WebElement element = scrollDownTo(target, scrollable, screen, startPosition, MAX_SCROLL_GESTURES);
+        if (element != null || Integer.valueOf(0).equals(startPosition)) return element;
+
+        // Then above, from the top of the screen
+        scrollToTopOfScreen();
+        List<WebElement> elements = driver.findElements(target);
+        if (!elements.isEmpty()) return elements.getFirst();
+
+        scrollable = getScrollableContainer();
+        if (scrollable == null) return null;
+        return scrollDownTo(target, scrollable, screen, 0, startPosition == null ? MAX_SCROLL_GESTURES : startPosition);
+    }
+
+    /**
+     * Scrolls a container down one gesture at a time until the element is displayed.
+     *
+     * @param target      The {@code UiSelector} locator of the element, without scrolling.
+     * @param scrollable  The scrollable container.
+     * @param screen      The screen, whose current position is updated.
+     * @param position    The current position of the screen, or {@code null} if unknown.
+     * @param maxGestures The maximum number of gestures.
+     * @return The element, or {@code null} if it is not displayed within {@code maxGestures} or the end of the screen.
+     */
+    private WebElement scrollDownTo(By target, WebElement scrollable, String screen, Integer position, int maxGestures) {
+        for (int gesture = 0; gesture < maxGestures; gesture++) {
+            boolean canScrollMore = scrollGesture(scrollable, "down");
+            if (position != null) position++;
+
+            List<WebElement> elements = driver.findElements(target);
             if (!elements.isEmpty()) {
+                ScrollPositions.setCurrentPosition(driver, screen, position);
                 return elements.getFirst();
             }
+            if (!canScrollMore) break;
         }
+        ScrollPositions.setCurrentPosition(driver, screen, position);
+        return null;
+    }
 
-        throw new RuntimeException("Element not found after scrolling attempts: " + locator);
+    /**
+     * @return The first scrollable container of the screen, or {@code null} if the screen does not scroll.
+     */
+    private WebElement getScrollableContainer() {
+        List<WebElement> scrollables = driver.findElements(androidUIAutomator("new UiSelector().scrollable(true)"));
+        return scrollables.isEmpty() ? null : scrollables.getFirst();
     }
 
-    private String extractKeywordFromLocator(By locator) {
-        // Extract the keyword from the locator in a more robust way
-        return locator.toString().split("\"")[1];
+    /**
+     * Scrolls a container by 75% of its height with {@code mobile: scrollGesture}.
+     *
+     * @param scrollable The scrollable container.
+     * @param direction  {@code down} to reveal the content below, {@code up} for the content above.
+     * @return {@code true} if the container can scroll further in this direction.
+     */
+    private boolean scrollGesture(WebElement scrollable, String direction) {
+        Object canScrollMore = ((JavascriptExecutor) driver).executeScript("mobile: scrollGesture", Map.of(
+                "elementId", ((RemoteWebElement) scrollable).getId(),
+                "direction", direction,
+                "percent", 0.75));
+        return Boolean.TRUE.equals(canScrollMore);
     }
 
-    private String constructXPathString(By locator, String keyword) {
-        if (locator.toString().contains("resourceId")) {
-            return "//*[contains(@resourceId, '%s')]".formatted(keyword);
-        } else {
-            return "//*[contains(@text, '%s')]".formatted(keyword);
+    /**
+     * Extracts the {@code UiSelector} of the element a locator looks for, e.g. the argument of {@code scrollIntoView}.
+     *
+     * @param locator The locator.
+     * @return The UiSelector expression, or {@code null} if the locator is not a UiAutomator selector.
+     */
+    private String getTargetSelector(By locator) {
+        if (!(locator instanceof By.Remotable remotable)
+            || !remotable.getRemoteParameters().using().equals("-android uiautomator")) return null;
+
+        String expression = String.valueOf(remotable.getRemoteParameters().value());
+        int scrollIntoView = expression.indexOf("scrollIntoView(");
+        if (scrollIntoView >= 0) {
+            return expression.substring(scrollIntoView + "scrollIntoView(".length(), expression.lastIndexOf(')'));
         }
+        return expression.startsWith("new UiSelector()") ? expression : null;
     }
 
-
     /**
      * Clicks the element located by the specified locator.
      *
@@ -281,6 +399,40 @@ public class AndroidUtils {
         return getElement(locator).getText();
     }
 
+    /**
+     * Returns the page source snapshot of the current screen. It is taken with a single round trip and reused
+     * until the driver sends a command that may change the screen, such as a click, typing or a scroll.
+     *
+     * @return The {@link PageSourceSnapshot} of the current screen.
+     */
+    public PageSourceSnapshot getSnapshot() {
+        return PageSourceSnapshot.of(driver);
+    }
+
+    /**
+     * Checks whether an element is on the screen, answering from the page source snapshot when it contains the element.
+     * An element missing from the snapshot is looked up live, as it may still be rendering or need scrolling.
+     *
+     * @param locator      The locator for the element.
+     * @param milliseconds Optional timeout of the live lookup in milliseconds. Defaults to 3000 if not provided.
+     * @return True if the element is present, false otherwise.
+     */
+    public boolean isPresent(By locator, int... milliseconds) {
+        return getSnapshot().contains(locator) || !getListElement(locator, milliseconds).isEmpty();
+    }
+
+    /**
+     * Retrieves the text of the element located by the specified locator from the page source snapshot,
+     * or with {@link #getText(By)} if the snapshot does not contain the element.
+     *
+     * @param locator The locator for the element.
+     * @return The text of the element.
+     */
+    public String getTextFromSnapshot(By locator) {
+        String text = getSnapshot().getText(locator);
+        return text != null ? text : getText(locator);
+    }
+
     /**
      * Waits until the specified screen activity is loaded.
      *
@@ -323,9 +475,10 @@ public class AndroidUtils {
      * Relaunches the app by terminating and then activating it again.
      */
     public void relaunchApp() {
-        ((AndroidDriver) driver).terminateApp(appBundleId);
-        ((AndroidDriver) driver).activateApp(appBundleId);
-        logger.info("Relaunched app with package: {}", appBundleId);
+        ((AndroidDriver) driver).terminateApp(getAppBundleId());
+        ((AndroidDriver) driver).activateApp(getAppBundleId());
+        ScrollPositions.reset(driver);
+        logger.info("Relaunched app with package: {}", getAppBundleId());
     }
 
     /**
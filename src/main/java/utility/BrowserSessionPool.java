@@ -0,0 +1,306 @@
+package utility;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of browser sessions reused across test classes.
+ * <p>
+ * Launching a browser dominates the duration of short web suites, so a released session is kept open
+ * instead of being quit. Before it is handed out again, its windows are closed, and the cookies,
+ * localStorage and sessionStorage of the dashboard and storefront are cleared, so the next test starts
+ * logged out and re-injects the auth of its own credentials
+ * (e.g. {@code DashboardLoginPage.loginDashboardByJs} or {@code StorefrontLoginPage.loginStorefrontByJS}).
+ * Sessions that crashed, cannot be reset, or were used {@code browserSessionReuseBudget} times are evicted.
+ * The startup time saved by reuse is reported by {@link #getStatistics()}.
+ */
+public class BrowserSessionPool {
+
+    private static final Logger logger = LogManager.getLogger();
+    private static final String BLANK_PAGE = "about:blank";
+
+    // Most recently released first, so the warmest sessions are reused
+    private static final BlockingDeque<PooledSession> idleSessions = new LinkedBlockingDeque<>();
+    private static final Map<WebDriver, PooledSession> leasedSessions = new ConcurrentHashMap<>();
+    private static final AtomicBoolean warmUpStarted = new AtomicBoolean();
+
+    private static final AtomicLong launchedSessions = new AtomicLong();
+    private static final AtomicLong reusedSessions = new AtomicLong();
+    private static final AtomicLong evictedSessions = new AtomicLong();
+    private static final AtomicLong totalStartupMillis = new AtomicLong();
+
+    // Storefront origin, resolved by API on the first reset that needs it
+    private static volatile String storefrontOrigin;
+
+    static {
+        // Idle sessions live until the end of the run, across suites
+        Runtime.getRuntime().addShutdownHook(new Thread(BrowserSessionPool::shutdown));
+    }
+
+    /**
+     * Usage of the browser session pool since startup.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class SessionPoolStatistics {
+        private long launched;            // Browsers started
+        private long reused;              // Sessions handed out again instead of starting a browser
+        private long evicted;             // Sessions quit because they crashed or exceeded the reuse budget
+        private int idle;                 // Sessions currently waiting in the pool
+        private long averageStartupMillis;
+        private long savedStartupMillis;  // Reused sessions times the average startup time
+    }
+
+    /**
+     * A pooled browser and the number of test classes it has served.
+     */
+    private static class PooledSession {
+        private final WebDriver driver;
+        private int uses;
+
+        private PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+
+    private BrowserSessionPool() {
+    }
+
+    /**
+     * Hands out a browser session with no cookies or storage, launching a browser if no idle session is healthy.
+     * The first call also pre-launches {@code browserPoolWarmUp} sessions in the background.
+     *
+     * @return The {@link WebDriver} of the session, showing a blank page.
+     */
+    public static WebDriver acquire() {
+        warmUp();
+
+        PooledSession session;
+        while ((session = idleSessions.pollFirst()) != null) {
+            if (isAlive(session)) {
+                // The session may come from a suite with another blocking profile
+                NetworkProfile.apply(session.driver);
+                reusedSessions.incrementAndGet();
+                break;
+            }
+            evict(session, "crashed");
+        }
+        if (session == null) {
+            session = launch();
+        }
+
+        session.uses++;
+        leasedSessions.put(session.driver, session);
+        return session.driver;
+    }
+
+    /**
+     * Checks whether a driver was handed out by the pool and not released yet.
+     *
+     * @param driver The driver to check.
+     * @return {@code true} if the driver must be returned with {@link #release(WebDriver)} instead of quit.
+     */
+    public static boolean isLeased(WebDriver driver) {
+        return leasedSessions.containsKey(driver);
+    }
+
+    /**
+     * Returns a session to the pool after resetting its state.
+     * The session is quit instead if it exceeded the reuse budget, cannot be reset, or the pool is full.
+     *
+     * @param driver The driver handed out by {@link #acquire()}.
+     */
+    public static void release(WebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) {
+            driver.quit();
+            return;
+        }
+
+        if (session.uses >= PropertiesUtils.getBrowserSessionReuseBudget()) {
+            evict(session, "reuse budget exceeded");
+        } else if (idleSessions.size() >= PropertiesUtils.getBrowserPoolSize()) {
+            evict(session, "pool is full");
+        } else if (!reset(session)) {
+            evict(session, "reset failed");
+        } else {
+            idleSessions.offerFirst(session);
+        }
+    }
+
+    /**
+     * Returns the usage of the pool, including the browser startup time saved by reuse.
+     *
+     * @return A {@link SessionPoolStatistics} snapshot.
+     */
+    public static SessionPoolStatistics getStatistics() {
+        long launched = launchedSessions.get();
+        long reused = reusedSessions.get();
+        long averageStartupMillis = launched == 0 ? 0 : totalStartupMillis.get() / launched;
+        return new SessionPoolStatistics(launched, reused, evictedSessions.get(), idleSessions.size(),
+                averageStartupMillis, reused * averageStartupMillis);
+    }
+
+    /**
+     * Quits every idle session. Leased sessions are quit by their owners.
+     */
+    public static void shutdown() {
+        PooledSession session;
+        while ((session = idleSessions.pollFirst()) != null) {
+            quit(session.driver);
+        }
+    }
+
+    /**
+     * Pre-launches the configured number of sessions in the background, once per run.
+     * Mobile suites never acquire a browser, so no browser is started for them.
+     */
+    private static void warmUp() {
+        int warmUpSize = PropertiesUtils.getBrowserPoolWarmUp();
+        if (warmUpSize <= 0 || !warmUpStarted.compareAndSet(false, true)) return;
+
+        for (int i = 0; i < warmUpSize; i++) {
+            Thread.ofVirtual().name("browser-warm-up-" + i).start(() -> {
+                try {
+                    idleSessions.offerLast(launch());
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to pre-launch browser session: {}", e.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * Launches a browser and records its startup time.
+     *
+     * @return The new {@link PooledSession}.
+     */
+    private static PooledSession launch() {
+        long startTime = System.nanoTime();
+        WebDriver driver = WebDriverManager.getWebDriver();
+        long startupMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        launchedSessions.incrementAndGet();
+        totalStartupMillis.addAndGet(startupMillis);
+        logger.info("Launched browser session in {} ms", startupMillis);
+        return new PooledSession(driver);
+    }
+
+    /**
+     * Checks that the browser of an idle session still responds.
+     *
+     * @param session The idle session.
+     * @return {@code true} if the session can be handed out.
+     */
+    private static boolean isAlive(PooledSession session) {
+        try {
+            return !session.driver.getWindowHandles().isEmpty();
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Closes the extra windows of a session and clears the cookies and storage of every origin the tests use.
+     *
+     * @param session The released session.
+     * @return {@code true} if the session was reset and can be reused.
+     */
+    private static boolean reset(PooledSession session) {
+        WebDriver driver = session.driver;
+        try {
+            // Keep one window, close the tabs and popups opened by the test
+            List<String> windowHandles = new ArrayList<>(driver.getWindowHandles());
+            for (String handle : windowHandles.subList(1, windowHandles.size())) {
+                driver.switchTo().window(handle).close();
+            }
+            driver.switchTo().window(windowHandles.getFirst());
+
+            // Cookies and storage are scoped to an origin, so clear them on each origin
+            for (String origin : getOriginsToReset(driver.getCurrentUrl())) {
+                driver.get(origin);
+                driver.manage().deleteAllCookies();
+                ((JavascriptExecutor) driver).executeScript("localStorage.clear(); sessionStorage.clear();");
+            }
+
+            driver.get(BLANK_PAGE);
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to reset browser session: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Returns the origins whose cookies and storage must be cleared: the page the test ended on,
+     * the dashboard and the storefront.
+     *
+     * @param currentUrl The URL the session is showing.
+     * @return The distinct origins, e.g. {@code https://admin.example.com}.
+     */
+    private static Set<String> getOriginsToReset(String currentUrl) {
+        if (storefrontOrigin == null) {
+            storefrontOrigin = getOrigin(PropertiesUtils.getStoreURL());
+        }
+
+        Set<String> origins = new LinkedHashSet<>();
+        if (currentUrl != null && currentUrl.startsWith("http")) {
+            origins.add(getOrigin(currentUrl));
+        }
+        origins.add(getOrigin(PropertiesUtils.getDomain()));
+        origins.add(storefrontOrigin);
+        return origins;
+    }
+
+    /**
+     * Extracts the origin (scheme, host and port) of a URL.
+     *
+     * @param url The URL.
+     * @return The origin of the URL.
+     */
+    private static String getOrigin(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    /**
+     * Quits an evicted session.
+     *
+     * @param session The session to evict.
+     * @param reason  The reason, for logging.
+     */
+    private static void evict(PooledSession session, String reason) {
+        evictedSessions.incrementAndGet();
+        logger.info("Evicted browser session after {} uses: {}", session.uses, reason);
+        quit(session.driver);
+    }
+
+    /**
+     * Quits a browser, ignoring a session that is already gone.
+     *
+     * @param driver The driver to quit.
+     */
+    private static void quit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to quit browser session: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package utility;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of the Android and iOS devices mobile tests run on.
+ * <p>
+ * Devices are listed in the {@code androidDevices} and {@code iosDevices} properties as comma-separated entries
+ * of {@code udid|appiumUrl|port}, where the port is the UiAutomator2 {@code systemPort} on Android and the
+ * WebDriverAgent {@code wdaLocalPort} on iOS, e.g.
+ * {@code emulator-5554|http://127.0.0.1:4723|8200,emulator-5556|http://127.0.0.1:4724|8201}.
+ * The Appium URL and port are optional. Without these properties, the pool holds the single device of
+ * {@code androidEmulatorUdid} or {@code iosSimulatorUdid} on the local Appium server.
+ * <p>
+ * A test class leases a device for its whole run, so a suite running classes in parallel
+ * ({@code parallel="classes"}) spreads them across the devices; classes wait while every device is leased,
+ * for up to {@code deviceLeaseTimeoutMinutes}, so a class that never releases its device fails the next ones
+ * instead of hanging the suite.
+ */
+public class DevicePool {
+
+    private static final Logger logger = LogManager.getLogger();
+    private static final String DEFAULT_APPIUM_URL = "http://127.0.0.1:4723/wd/hub";
+
+    // Free devices of each platform, created on first lease
+    private static final Map<String, BlockingQueue<Device>> freeDevices = new ConcurrentHashMap<>();
+
+    /**
+     * A device and the Appium server that drives it.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Device {
+        private String platform;   // ANDROID or IOS
+        private String udid;
+        private String appiumUrl;
+        private Integer port;      // systemPort on Android, wdaLocalPort on iOS, or null to let Appium choose
+    }
+
+    private DevicePool() {
+    }
+
+    /**
+     * Leases a free device of a platform, waiting until one is released if all are in use.
+     *
+     * @param platform The platform, ANDROID or IOS.
+     * @return The leased {@link Device}, to return with {@link #release(Device)}.
+     * @throws IllegalStateException if no device is released before the lease timeout, or the thread is interrupted while waiting.
+     */
+    public static Device lease(String platform) {
+        BlockingQueue<Device> devices = freeDevices.computeIfAbsent(platform, DevicePool::loadDevices);
+        long timeoutMinutes = PropertiesUtils.getDeviceLeaseTimeoutMinutes();
+        try {
+            Device device = devices.poll(timeoutMinutes, TimeUnit.MINUTES);
+            if (device == null) {
+                throw new IllegalStateException(("No %s device was released within %d minutes; "
+                        + "check that every test class leasing one calls quitDrivers() after its tests.").formatted(platform, timeoutMinutes));
+            }
+            logger.info("Leased {} device {} to thread '{}'", platform, device.getUdid(), Thread.currentThread().getName());
+            return device;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a free %s device.".formatted(platform), e);
+        }
+    }
+
+    /**
+     * Returns a leased device to the pool.
+     *
+     * @param device The device returned by {@link #lease(String)}.
+     */
+    public static void release(Device device) {
+        freeDevices.get(device.getPlatform()).offer(device);
+        logger.info("Released {} device {}", device.getPlatform(), device.getUdid());
+    }
+
+    /**
+     * Reads the devices of a platform from the properties.
+     *
+     * @param platform The platform, ANDROID or IOS.
+     * @return The devices, all free.
+     * @throws IllegalArgumentException if the platform is unsupported or no device is configured.
+     */
+    private static BlockingQueue<Device> loadDevices(String platform) {
+        String devices = switch (platform) {
+            case "ANDROID" -> PropertiesUtils.getAndroidDevices();
+            case "IOS" -> PropertiesUtils.getIOSDevices();
+            default -> throw new IllegalArgumentException("Unsupported platform: " + platform);
+        };
+        if (devices == null || devices.isBlank()) {
+            devices = platform.equals("ANDROID") ? PropertiesUtils.getAndroidEmulatorUdid() : PropertiesUtils.getIOSSimulatorUdid();
+        }
+        if (devices == null || devices.isBlank()) {
+            throw new IllegalArgumentException("No %s device is configured.".formatted(platform));
+        }
+
+        List<Device> parsedDevices = Arrays.stream(devices.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .map(entry -> parseDevice(platform, entry))
+                .toList();
+        logger.info("{} device pool: {}", platform, parsedDevices);
+        return new LinkedBlockingQueue<>(parsedDevices);
+    }
+
+    /**
+     * Parses a {@code udid|appiumUrl|port} entry.
+     *
+     * @param platform The platform of the device.
+     * @param entry    The entry, where the Appium URL and port are optional.
+     * @return The {@link Device}.
+     */
+    private static Device parseDevice(String platform, String entry) {
+        String[] fields = entry.split("\\|");
+        String appiumUrl = fields.length > 1 && !fields[1].isBlank() ? fields[1].trim() : DEFAULT_APPIUM_URL;
+        Integer port = fields.length > 2 && !fields[2].isBlank() ? Integer.valueOf(fields[2].trim()) : null;
+        return new Device(platform, fields[0].trim(), appiumUrl, port);
+    }
+}
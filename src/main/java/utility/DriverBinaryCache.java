@@ -0,0 +1,222 @@
+package utility;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the driver binary of a browser once per JVM and remembers it across runs.
+ * <p>
+ * {@code io.github.bonigarcia.wdm.WebDriverManager.setup()} detects the browser version and may query the network
+ * on every call. The resolved binary path and version are kept in memory for the rest of the run and persisted
+ * to {@code ~/.cache/selenium/resolved-drivers.properties}, with the version of the browser they were resolved for.
+ * A persisted entry younger than {@code driverCacheTtlHours} is used without calling WebDriverManager as long as
+ * the installed browser is still the same version, and an older one is still used when the resolution fails,
+ * e.g. on air-gapped runners. An entry the browser rejects is dropped with {@link #invalidate(String)}.
+ */
+public class DriverBinaryCache {
+
+    private static final Logger logger = LogManager.getLogger();
+    private static final Path CACHE_FILE = Path.of(System.getProperty("user.home"), ".cache", "selenium", "resolved-drivers.properties");
+    private static final Duration BROWSER_VERSION_TIMEOUT = Duration.ofSeconds(10);
+
+    // Browsers already resolved by this JVM
+    private static final Map<String, String> resolvedBrowsers = new ConcurrentHashMap<>();
+
+    private DriverBinaryCache() {
+    }
+
+    /**
+     * Makes the driver binary of a browser available to Selenium, resolving it on first use.
+     *
+     * @param browser The browser, as in the 'browser' property: chrome, firefox, edge or safari.
+     */
+    public static void resolve(String browser) {
+        resolvedBrowsers.computeIfAbsent(browser, DriverBinaryCache::load);
+    }
+
+    /**
+     * Drops the resolution of a browser, in memory and on disk, so the next {@link #resolve(String)}
+     * asks WebDriverManager again. Used when the browser refuses to start a session with the cached driver.
+     *
+     * @param browser The browser name.
+     */
+    public static synchronized void invalidate(String browser) {
+        resolvedBrowsers.remove(browser);
+
+        Properties cache = readCache();
+        if (cache.remove(browser + ".resolvedAt") != null) {
+            writeCache(cache);
+        }
+    }
+
+    /**
+     * Resolves the driver binary of a browser from the persisted cache or WebDriverManager,
+     * and points the Selenium system property at it.
+     *
+     * @param browser The browser name.
+     * @return The path of the driver binary, or an empty string if the browser ships its own driver.
+     */
+    private static String load(String browser) {
+        long startTime = System.nanoTime();
+        String systemProperty = getSystemProperty(browser);
+
+        // Safari uses the driver bundled with macOS
+        if (systemProperty == null) {
+            getDriverManager(browser).setup();
+            return "";
+        }
+
+        Properties cache = readCache();
+        String cachedPath = cache.getProperty(browser + ".path");
+        String cachedVersion = cache.getProperty(browser + ".version");
+        boolean cachedBinaryExists = cachedPath != null && Files.isRegularFile(Path.of(cachedPath));
+        Instant resolvedAt = Instant.ofEpochMilli(Long.parseLong(cache.getProperty(browser + ".resolvedAt", "0")));
+        Duration ttl = Duration.ofHours(PropertiesUtils.getDriverCacheTtlHours());
+
+        // A browser update makes the cached driver incompatible, whatever its age
+        String browserVersion = detectBrowserVersion(browser);
+        boolean sameBrowser = browserVersion == null || browserVersion.equals(cache.getProperty(browser + ".browserVersion"));
+
+        String path;
+        String source;
+        if (cachedBinaryExists && sameBrowser && resolvedAt.plus(ttl).isAfter(Instant.now())) {
+            path = cachedPath;
+            source = "cache";
+        } else {
+            try {
+                var driverManager = getDriverManager(browser);
+                driverManager.setup();
+                path = driverManager.getDownloadedDriverPath();
+                cachedVersion = driverManager.getDownloadedDriverVersion();
+                source = "WebDriverManager";
+
+                cache.setProperty(browser + ".path", path);
+                cache.setProperty(browser + ".version", cachedVersion);
+                if (browserVersion != null) cache.setProperty(browser + ".browserVersion", browserVersion);
+                cache.setProperty(browser + ".resolvedAt", String.valueOf(Instant.now().toEpochMilli()));
+                writeCache(cache);
+            } catch (RuntimeException e) {
+                if (!cachedBinaryExists) throw e;
+
+                // Offline or the resolution failed, the last resolved binary is better than no driver
+                logger.warn("Failed to resolve {} driver, falling back to cached binary: {}", browser, e.getMessage());
+                path = cachedPath;
+                source = "offline cache";
+            }
+        }
+
+        System.setProperty(systemProperty, path);
+        logger.info("Resolved {} driver {} from {} in {} ms: {}",
+                browser, cachedVersion, source, (System.nanoTime() - startTime) / 1_000_000, path);
+        return path;
+    }
+
+    /**
+     * Detects the version of the installed browser by running its binary with {@code --version}.
+     * This stays local, unlike a WebDriverManager resolution. Windows browsers do not print their version this way,
+     * so there a browser update is only caught when the session fails to start, see {@link #invalidate(String)}.
+     *
+     * @param browser The browser name.
+     * @return The version output, e.g. {@code Google Chrome 126.0.6478.126}, or {@code null} if it cannot be detected.
+     */
+    private static String detectBrowserVersion(String browser) {
+        if (System.getProperty("os.name").startsWith("Windows")) return null;
+
+        try {
+            Path browserPath = getDriverManager(browser).getBrowserPath().orElse(null);
+            if (browserPath == null) return null;
+
+            Process process = new ProcessBuilder(browserPath.toString(), "--version").redirectErrorStream(true).start();
+            if (!process.waitFor(BROWSER_VERSION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                return null;
+            }
+            String version = new String(process.getInputStream().readAllBytes()).trim();
+            return version.isEmpty() ? null : version;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to detect {} version: {}", browser, e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Restore the interrupted status
+            return null;
+        }
+    }
+
+    /**
+     * Returns the Selenium system property that points at the driver binary of a browser.
+     *
+     * @param browser The browser name.
+     * @return The system property name, or {@code null} for Safari.
+     */
+    private static String getSystemProperty(String browser) {
+        return switch (browser) {
+            case "firefox" -> "webdriver.gecko.driver";
+            case "edge" -> "webdriver.edge.driver";
+            case "safari" -> null;
+            default -> "webdriver.chrome.driver";
+        };
+    }
+
+    /**
+     * Returns the WebDriverManager instance of a browser.
+     *
+     * @param browser The browser name.
+     * @return The WebDriverManager that downloads the driver of the browser.
+     */
+    private static io.github.bonigarcia.wdm.WebDriverManager getDriverManager(String browser) {
+        return switch (browser) {
+            case "firefox" -> io.github.bonigarcia.wdm.WebDriverManager.firefoxdriver();
+            case "edge" -> io.github.bonigarcia.wdm.WebDriverManager.edgedriver();
+            case "safari" -> io.github.bonigarcia.wdm.WebDriverManager.safaridriver();
+            default -> io.github.bonigarcia.wdm.WebDriverManager.chromedriver();
+        };
+    }
+
+    /**
+     * Reads the persisted resolutions.
+     *
+     * @return The cached entries, empty if the cache file does not exist or cannot be read.
+     */
+    private static Properties readCache() {
+        Properties cache = new Properties();
+        if (Files.isRegularFile(CACHE_FILE)) {
+            try (InputStream input = Files.newInputStream(CACHE_FILE)) {
+                cache.load(input);
+            } catch (IOException e) {
+                logger.warn("Failed to read driver cache {}: {}", CACHE_FILE, e.getMessage());
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Persists the resolutions, replacing the cache file atomically so concurrent runs never read a partial file.
+     *
+     * @param cache The entries to persist.
+     */
+    private static void writeCache(Properties cache) {
+        try {
+            Files.createDirectories(CACHE_FILE.getParent());
+            Path tempFile = Files.createTempFile(CACHE_FILE.getParent(), "resolved-drivers", ".tmp");
+            try (OutputStream output = Files.newOutputStream(tempFile)) {
+                cache.store(output, "Driver binaries resolved by WebDriverManager");
+            }
+            Files.move(tempFile, CACHE_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to write driver cache {}: {}", CACHE_FILE, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package utility;
+
+import org.apache.logging.log4j.LogManager;
+import org.openqa.selenium.WebDriver;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Holds the driver of each test thread, so TestNG can run test methods and data-provider rows in parallel.
+ * <p>
+ * Every thread owns one driver, the app bundle ID of its mobile session and the page objects bound to that driver.
+ * Tests open a driver with {@link #setDriver(WebDriver)}, page objects are created with {@link #page(Function)},
+ * and the listener reads the driver of the thread that ran the test with {@link #getDriver()}.
+ */
+public class DriverContext {
+
+    private static final ThreadLocal<Session> currentSession = new ThreadLocal<>();
+
+    // Sessions of all threads, keyed by driver, so a test class can close the drivers its threads opened
+    private static final Map<WebDriver, Session> openSessions = new ConcurrentHashMap<>();
+
+    /**
+     * The driver of a thread and the state bound to it.
+     */
+    private static class Session {
+        private final WebDriver driver;
+        private final String appBundleId;
+        private final Map<Function<WebDriver, ?>, Object> pages = new HashMap<>();
+        private volatile boolean closed;
+
+        private Session(WebDriver driver, String appBundleId) {
+            this.driver = driver;
+            this.appBundleId = appBundleId;
+        }
+    }
+
+    private DriverContext() {
+    }
+
+    /**
+     * Binds a browser driver to the current thread, closing the driver previously bound to it.
+     *
+     * @param driver The driver to bind.
+     */
+    public static void setDriver(WebDriver driver) {
+        setDriver(driver, null);
+    }
+
+    /**
+     * Binds a driver to the current thread, closing the driver previously bound to it.
+     *
+     * @param driver      The driver to bind.
+     * @param appBundleId The bundle ID (Android package) of the app under test, or {@code null} for a browser.
+     */
+    public static void setDriver(WebDriver driver, String appBundleId) {
+        quitDriver();
+
+        Session session = new Session(driver, appBundleId);
+        currentSession.set(session);
+        openSessions.put(driver, session);
+    }
+
+    /**
+     * Returns the driver bound to the current thread.
+     *
+     * @return The {@link WebDriver}, or {@code null} if the thread has no driver.
+     */
+    public static WebDriver getDriver() {
+        Session session = currentSession();
+        return session == null ? null : session.driver;
+    }
+
+    /**
+     * Checks whether a driver is bound to the current thread.
+     *
+     * @return {@code true} if the thread has a driver.
+     */
+    public static boolean hasDriver() {
+        return currentSession() != null;
+    }
+
+    /**
+     * Returns the bundle ID (Android package) of the app under test in the current thread's session.
+     *
+     * @return The app bundle ID, or {@code null} if the thread has no mobile session.
+     */
+    public static String getAppBundleId() {
+        Session session = currentSession();
+        return session == null ? null : session.appBundleId;
+    }
+
+    /**
+     * Returns the page object created by the factory for the current thread's driver, creating it on first use.
+     * Page objects are cached per thread and per factory instance, so keep the factory in a constant,
+     * such as {@code Function<WebDriver, BaseProductPage> PRODUCT_PAGE = BaseProductPage::new}.
+     *
+     * @param factory The page object constructor taking a {@link WebDriver}.
+     * @param <T>     The page object type.
+     * @return The page object bound to the current thread's driver.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T page(Function<WebDriver, T> factory) {
+        Session session = requireSession();
+        return (T) session.pages.computeIfAbsent(factory, _ -> factory.apply(session.driver));
+    }
+
+    /**
+     * Quits the driver bound to the current thread, if any.
+     */
+    public static void quitDriver() {
+        Session session = currentSession();
+        if (session == null) return;
+
+        currentSession.remove();
+        quitDriver(session.driver);
+    }
+
+    /**
+     * Quits a driver opened by any thread, used when a test class finishes.
+     * A session handed out by {@link BrowserSessionPool} or {@link MobileSessionPool} is returned to its pool instead.
+     * The thread the driver was bound to sees no driver from then on.
+     *
+     * @param driver The driver to quit.
+     */
+    public static void quitDriver(WebDriver driver) {
+        Session session = openSessions.remove(driver);
+        if (session == null) return;
+
+        session.closed = true;
+        try {
+            if (BrowserSessionPool.isLeased(driver)) {
+                BrowserSessionPool.release(driver);
+            } else if (MobileSessionPool.isLeased(driver)) {
+                MobileSessionPool.release(driver);
+            } else {
+                driver.quit();
+            }
+        } catch (RuntimeException e) {
+            LogManager.getLogger().warn("Failed to quit driver: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the open session of the current thread, dropping it if another thread closed it.
+     *
+     * @return The current {@link Session}, or {@code null} if there is none.
+     */
+    private static Session currentSession() {
+        Session session = currentSession.get();
+        if (session != null && session.closed) {
+            currentSession.remove();
+            return null;
+        }
+        return session;
+    }
+
+    /**
+     * Returns the session of the current thread.
+     *
+     * @return The current {@link Session}.
+     * @throws IllegalStateException if no driver is bound to the current thread.
+     */
+    private static Session requireSession() {
+        Session session = currentSession();
+        if (session == null) {
+            throw new IllegalStateException("No driver is bound to thread '%s'.".formatted(Thread.currentThread().getName()));
+        }
+        return session;
+    }
+}
@@ -7,6 +7,7 @@ import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.PointerInput;
 import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.remote.RemoteWebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
@@ -15,8 +16,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import static utility.WebDriverManager.appBundleId;
+import static utility.DriverContext.getAppBundleId;
 
 /**
  * Provides utility functions for interacting with iOS devices in an Appium-based
@@ -246,6 +248,40 @@ public class IOSUtils {
         return WebUtils.retryOnStaleElement(() -> getElement(locator).getText());
     }
 
+    /**
+     * Returns the page source snapshot of the current screen. It is taken with a single round trip and reused
+     * until the driver sends a command that may change the screen, such as a tap, typing or a swipe.
+     *
+     * @return The {@link PageSourceSnapshot} of the current screen.
+     */
+    public PageSourceSnapshot getSnapshot() {
+        return PageSourceSnapshot.of(driver);
+    }
+
+    /**
+     * Checks whether an element is on the screen, answering from the page source snapshot when it contains the element.
+     * An element missing from the snapshot is looked up live, as it may still be rendering.
+     *
+     * @param locator    The locator for the element.
+     * @param waitMillis Optional timeout of the live lookup in milliseconds. Default is 3000 ms.
+     * @return True if the element is present, false otherwise.
+     */
+    public boolean isPresent(By locator, int... waitMillis) {
+        return getSnapshot().contains(locator) || !getListElement(locator, waitMillis).isEmpty();
+    }
+
+    /**
+     * Retrieves the text of the element located by the specified locator from the page source snapshot,
+     * or with {@link #getText(By)} if the snapshot does not contain the element.
+     *
+     * @param locator The locator for the element.
+     * @return The text of the element.
+     */
+    public String getTextFromSnapshot(By locator) {
+        String text = getSnapshot().getText(locator);
+        return text != null ? text : getText(locator);
+    }
+
     /**
      * Checks if the specified WebElement is checked based on its type and attributes.
      *
@@ -275,27 +311,79 @@ public class IOSUtils {
         });
     }
 
+    /**
+     * Checks if the specified element is checked, reading its attributes from the page source snapshot.
+     * Elements of type {@code XCUIElementTypeOther} and elements missing from the snapshot are checked
+     * with {@link #isChecked(By)}.
+     *
+     * @param locator The locator to check.
+     * @return True if the element is checked, false otherwise.
+     */
+    public boolean isCheckedFromSnapshot(By locator) {
+        PageSourceSnapshot snapshot = getSnapshot();
+        String type = snapshot.getAttribute(locator, "type");
+        if (type == null || type.equals("XCUIElementTypeOther")) {
+            return isChecked(locator);
+        }
+
+        // Check the "name" attribute
+        String name = snapshot.getAttribute(locator, "name");
+        if (name != null) {
+            if (name.equals("ic_green_rectangle_unselected")) return false;
+            if (name.equals("ic_green_rectangle_selected")) return true;
+        }
+
+        // Fallback: Check the "value" attribute
+        return "1".equals(snapshot.getAttribute(locator, "value"));
+    }
+
     /**
      * Relaunches the app by terminating and then activating it again.
      */
     public void relaunchApp() {
-        ((IOSDriver) driver).terminateApp(appBundleId);
-        ((IOSDriver) driver).activateApp(appBundleId);
+        ((IOSDriver) driver).terminateApp(getAppBundleId());
+        ((IOSDriver) driver).activateApp(getAppBundleId());
+        ScrollPositions.reset(driver);
         logger.info("Relaunch app.");
 
         WebUtils.sleep(3_000);
         logger.info("Waiting 3 seconds for application to launch");
     }
 
+    /**
+     * Scrolls until the element located by the specified locator is in the middle 60% of the screen.
+     * <p>
+     * The scroll is native: {@code mobile: scroll} with the predicate of the element for predicate locators,
+     * otherwise with the element and {@code toVisible}. Swipes only adjust an element left near the screen edges.
+     * An element already scrolled to on this screen is not scrolled to again while no other scroll happened since
+     * ({@link ScrollPositions}) and it is still displayed. Only a call that actually moves the screen starts a new
+     * position, so fields already in view can be visited in any order without invalidating each other.
+     *
+     * @param locator The locator for the element.
+     */
     public void swipeToElement(By locator) {
+        String screen = ScrollPositions.getScreen();
+        String key = locator.toString();
+        Integer currentPosition = ScrollPositions.getCurrentPosition(driver, screen);
         WebElement element = getElement(locator);
+        if (currentPosition != null && currentPosition.equals(ScrollPositions.getKnownPosition(driver, screen, key)) && element.isDisplayed()) {
+            return;
+        }
+
         Dimension screenSize = driver.manage().window().getSize();
 
         int screenHeight = screenSize.getHeight();
         int minY = (int) (screenHeight * 0.2); // 10% of screen height
         int maxY = (int) (screenHeight * 0.8); // 100% of screen height
 
-        int elementY = element.getLocation().getY();
+        int startY = element.getLocation().getY();
+        int elementY = startY;
+
+        // An element already displayed in the middle of the screen needs no scroll
+        if (!element.isDisplayed() || elementY < minY || elementY > maxY) {
+            scrollToVisible(locator, element);
+            elementY = driver.findElement(locator).getLocation().getY();
+        }
 
         while (elementY < minY || elementY > maxY) {
             if (elementY < minY) {
@@ -305,6 +393,44 @@ public class IOSUtils {
             }
             elementY = driver.findElement(locator).getLocation().getY();
         }
+
+        // A scroll moves the screen to a new position, where this element is in view
+        Integer newPosition = currentPosition;
+        if (elementY != startY) {
+            newPosition = currentPosition == null ? 1 : currentPosition + 1;
+            ScrollPositions.setCurrentPosition(driver, screen, newPosition);
+        }
+        ScrollPositions.remember(driver, screen, key, newPosition);
+    }
+
+    /**
+     * Scrolls the element into view with {@code mobile: scroll}.
+     *
+     * @param locator The locator for the element.
+     * @param element The element.
+     */
+    private void scrollToVisible(By locator, WebElement element) {
+        Object value = locator instanceof By.Remotable remotable && remotable.getRemoteParameters().using().equals("-ios predicate string")
+                ? remotable.getRemoteParameters().value()
+                : null;
+        WebElement scrollView = value == null ? null
+                : driver.findElements(AppiumBy.iOSNsPredicateString("type IN {'XCUIElementTypeTable', 'XCUIElementTypeCollectionView', 'XCUIElementTypeScrollView'}"))
+                .stream().findFirst().orElse(null);
+
+        try {
+            if (scrollView != null) {
+                // Let the scroll view search for the element matching the predicate
+                ((IOSDriver) driver).executeScript("mobile: scroll", Map.of(
+                        "elementId", ((RemoteWebElement) scrollView).getId(),
+                        "predicateString", value));
+            } else {
+                ((IOSDriver) driver).executeScript("mobile: scroll", Map.of(
+                        "elementId", ((RemoteWebElement) element).getId(),
+                        "toVisible", true));
+            }
+        } catch (WebDriverException e) {
+            logger.warn("Native scroll to {} failed, swiping instead: {}", locator, e.getMessage());
+        }
     }
 
     private void swipeUp() {
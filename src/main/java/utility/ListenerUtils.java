@@ -1,8 +1,10 @@
 package utility;
 
+import api.seller.product.ProductConvergenceWaiter;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -22,6 +24,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -30,8 +34,9 @@ import java.util.Objects;
  */
 public class ListenerUtils implements ITestListener, ISuiteListener {
     private ExtentReports extent;
-    private ExtentTest test;
-    private String testName;  // Global variable to store the test name
+    // Test and test name of each test thread, so parallel data-provider rows report to their own entry
+    private final ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    private final ThreadLocal<String> testName = new ThreadLocal<>();
     private String reportFilePath;
 
     // Logger instance for logging to the console
@@ -39,16 +44,13 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
 
     /**
      * Retrieves the WebDriver instance used in the current test method.
+     * Listener callbacks run on the test thread, so this is the driver bound to that thread.
      *
      * @param iTestResult The {@code ITestResult} object containing information about the executed test method.
-     * @return The {@code WebDriver} instance used in the test, or {@code null} if the driver cannot be accessed.
+     * @return The {@code WebDriver} instance used in the test, or {@code null} if the thread has no driver.
      */
     public WebDriver getDriver(ITestResult iTestResult) {
-        try {
-            return (WebDriver) iTestResult.getTestClass().getRealClass().getField("driver").get(iTestResult.getInstance());
-        } catch (IllegalAccessException | NoSuchFieldException e) {
-            return null;
-        }
+        return DriverContext.getDriver();
     }
 
     /**
@@ -58,6 +60,9 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
      */
     @Override
     public void onStart(ISuite suite) {
+        // Block the network resources this suite does not need
+        NetworkProfile.configure(suite.getParameter("networkBlockingProfile"), suite.getParameter("networkBlockedUrls"));
+
         String workingDir = System.getProperty("user.dir");
         reportFilePath = workingDir + File.separator + "target" + File.separator + "ExtentReport.html";
         ExtentSparkReporter reporter = new ExtentSparkReporter(reportFilePath);
@@ -77,8 +82,35 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
      */
     @Override
     public void onFinish(ISuite suite) {
+        // Log the shared API connection pool usage to track connection reuse
+        logger.info("API connection pool statistics: {}", APIUtils.getPoolStatistics());
+
+        // Log how much browser startup time was saved by reusing sessions
+        logger.info("Browser session pool statistics: {}", BrowserSessionPool.getStatistics());
+
+        // Log how much Appium bootstrap time was saved by reusing sessions
+        logger.info("Mobile session pool statistics: {}", MobileSessionPool.getStatistics());
+
+        // Log the WebDriver commands sent per WebUtils action
+        WebDriverCommandCounter.getStatistics()
+                .forEach((action, statistics) -> logger.info("WebUtils '{}' WebDriver commands per call: {}", action, statistics));
+
+        // Log the requests and bytes loaded per page to measure the blocking profile
+        NetworkProfile.getPageStatistics()
+                .forEach((page, statistics) -> logger.info("Page '{}' network usage: {}", page, statistics));
+
+        // Log how long bulk actions took to be applied by the backend
+        ProductConvergenceWaiter.getConvergenceStatistics()
+                .forEach((action, statistics) -> logger.info("Bulk action '{}' time to convergence (ms): {}", action, statistics));
+
+        // Save where the WebDriver time went
+        Path hotspotReportPath = WebDriverCommandRecorder.writeReport();
+
         if (extent == null) return;
 
+        // Attach the WebDriver hotspots to the report
+        addHotspotReport(hotspotReportPath);
+
         // Flushes the ExtentReports
         extent.flush();
 
@@ -140,13 +172,14 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
     public void onTestStart(ITestResult result) {
         if (result == null || extent == null) return;
 
-        // Store testName globally
-        testName = result.getParameters().length > 0 ? result.getParameters()[0].toString() : result.getName();
-
-        test = extent.createTest(testName);
+        // Store testName for the current thread
+        String name = result.getParameters().length > 0 ? result.getParameters()[0].toString() : result.getName();
+        testName.set(name);
+        test.set(extent.createTest(name));
+        WebDriverCommandRecorder.startTest(name);
 
         // Logger
-        logger.info("Test Started: {} ", testName);
+        logger.info("Test Started: {} ", name);
     }
 
     /**
@@ -156,8 +189,9 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
      */
     @Override
     public void onTestSuccess(ITestResult result) {
-        if (test == null || result == null) return;
-        test.pass("Test Passed: " + testName);
+        logRoundTrips();
+        if (test.get() == null || result == null) return;
+        test.get().pass("Test Passed: " + testName.get());
     }
 
     /**
@@ -167,9 +201,10 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
      */
     @Override
     public void onTestFailure(ITestResult result) {
-        if (test == null || result == null) return;
+        logRoundTrips();
+        if (test.get() == null || result == null) return;
 
-        test.log(Status.FAIL, result.getThrowable());
+        test.get().log(Status.FAIL, result.getThrowable());
 
         // Capture screenshot on test failure and add it to ExtentReport
         takeScreenshotToDebug(result);
@@ -182,10 +217,61 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
      */
     @Override
     public void onTestSkipped(ITestResult result) {
-        if (test == null || result == null) return;
+        logRoundTrips();
+        if (test.get() == null || result == null) return;
         // Capture screenshot on test failure and add it to ExtentReport
         takeScreenshotToDebug(result);
-        test.skip("Test Skipped: " + testName);
+        test.get().skip("Test Skipped: " + testName.get());
+    }
+
+    /**
+     * Ends the WebDriver command recording of the current test and logs its round trips to the test entry.
+     */
+    private void logRoundTrips() {
+        WebDriverCommandRecorder.CommandStatistics statistics = WebDriverCommandRecorder.endTest();
+        if (statistics == null || test.get() == null) return;
+
+        test.get().info("WebDriver round trips: %d (%d ms)".formatted(statistics.getCalls(), statistics.getTotalNanos() / 1_000_000));
+    }
+
+    /**
+     * Adds an entry with the commands and page-object methods that took the most time, and the round trips per test.
+     *
+     * @param jsonReportPath The path of the JSON report, or {@code null} if it was not written.
+     */
+    private void addHotspotReport(Path jsonReportPath) {
+        WebDriverCommandRecorder.HotspotReport report = WebDriverCommandRecorder.getReport();
+        if (report.getRoundTripsPerTest().isEmpty()) return;
+
+        ExtentTest hotspots = extent.createTest("WebDriver hotspots");
+        hotspots.info("Top commands by cumulative time");
+        hotspots.info(MarkupHelper.createTable(toTable(report.getTopCommands())));
+        hotspots.info("Top page-object methods by cumulative time");
+        hotspots.info(MarkupHelper.createTable(toTable(report.getTopPageMethods())));
+        hotspots.info("Round trips per test");
+        hotspots.info(MarkupHelper.createTable(report.getRoundTripsPerTest().entrySet().stream()
+                .map(entry -> new String[]{entry.getKey(), String.valueOf(entry.getValue())})
+                .toArray(String[][]::new)));
+        if (jsonReportPath != null) {
+            hotspots.info("JSON report: " + jsonReportPath);
+        }
+    }
+
+    /**
+     * Converts hotspots to table rows, with a header row.
+     *
+     * @param hotspots The hotspots.
+     * @return The table cells.
+     */
+    private static String[][] toTable(List<WebDriverCommandRecorder.Hotspot> hotspots) {
+        String[][] table = new String[hotspots.size() + 1][];
+        table[0] = new String[]{"Name", "Calls", "Total (ms)", "Average (ms)", "Max (ms)"};
+        for (int index = 0; index < hotspots.size(); index++) {
+            WebDriverCommandRecorder.Hotspot hotspot = hotspots.get(index);
+            table[index + 1] = new String[]{hotspot.getName(), String.valueOf(hotspot.getCalls()), String.valueOf(hotspot.getTotalMillis()),
+                    "%.1f".formatted(hotspot.getAverageMillis()), String.valueOf(hotspot.getMaxMillis())};
+        }
+        return table;
     }
 
     private void takeScreenshotToDebug(ITestResult result) {
@@ -196,9 +282,9 @@ public class ListenerUtils implements ITestListener, ISuiteListener {
         try {
             // Capture screenshot and save it as Base64 string
             String base64Image = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
-            test.addScreenCaptureFromBase64String(base64Image);
+            test.get().addScreenCaptureFromBase64String(base64Image);
         } catch (Exception e) {
-            logger.error("Failed to capture screenshot for {}", testName, e);
+            logger.error("Failed to capture screenshot for {}", testName.get(), e);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,299 @@
+package utility;
+
+import io.appium.java_client.InteractsWithApps;
+import io.appium.java_client.android.AndroidDriver;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one Appium session per device alive across test classes.
+ * <p>
+ * A test class acquires a session on a device leased from {@link DevicePool}; the device returns to the pool
+ * when the session is released.
+ * <p>
+ * Creating a session installs or fast-resets the app and bootstraps UiAutomator2 or WebDriverAgent,
+ * which dominates the duration of a mobile test class. A released session is kept open instead: its app is
+ * terminated, its data cleared ({@code mobile: clearApp}, the equivalent of {@code pm clear} on Android)
+ * and relaunched, so the next class starts logged out as on a fresh install. The app is only reinstalled
+ * when its build changes: app paths come from the content-addressed artifact cache, so a new path means
+ * a new build, and a new session is created with it. The bootstrap time saved by reuse is reported by
+ * {@link #getStatistics()}.
+ */
+public class MobileSessionPool {
+
+    private static final Logger logger = LogManager.getLogger();
+
+    // At most one idle session per device, keyed by UDID
+    private static final Map<String, PooledSession> idleSessions = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, PooledSession> leasedSessions = new ConcurrentHashMap<>();
+
+    private static final AtomicLong launchedSessions = new AtomicLong();
+    private static final AtomicLong reusedSessions = new AtomicLong();
+    private static final AtomicLong evictedSessions = new AtomicLong();
+    private static final AtomicLong totalBootstrapMillis = new AtomicLong();
+    private static final AtomicLong resetSessions = new AtomicLong();
+    private static final AtomicLong totalResetMillis = new AtomicLong();
+
+    static {
+        // Idle sessions live until the end of the run, across suites
+        Runtime.getRuntime().addShutdownHook(new Thread(MobileSessionPool::shutdown));
+    }
+
+    /**
+     * Usage of the mobile session pool since startup.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class MobileSessionStatistics {
+        private long launched;              // Sessions bootstrapped
+        private long reused;                // Sessions handed out again instead of bootstrapping one
+        private long evicted;               // Sessions quit because they crashed, changed build or exceeded the reuse budget
+        private long averageBootstrapMillis;
+        private long averageResetMillis;    // Time to reset the app state of a released session
+        private long savedBootstrapMillis;  // Reused sessions times the average bootstrap time, minus the reset time
+    }
+
+    /**
+     * A pooled session, its device, the app it runs and the number of test classes it has served.
+     */
+    private static class PooledSession {
+        private final WebDriver driver;
+        private final DevicePool.Device device;
+        private final String udid;
+        private final String appPath;
+        private final String appBundleId;
+        private int uses;
+
+        private PooledSession(WebDriver driver, DevicePool.Device device, String appPath, String appBundleId) {
+            this.driver = driver;
+            this.device = device;
+            this.udid = device.getUdid();
+            this.appPath = appPath;
+            this.appBundleId = appBundleId;
+        }
+    }
+
+    private MobileSessionPool() {
+    }
+
+    /**
+     * Hands out the session of a leased device with the app in its initial state, bootstrapping one if the device
+     * has no idle session running the same build. The device is returned to {@link DevicePool} if no session
+     * can be created.
+     *
+     * @param device  The device leased from {@link DevicePool}.
+     * @param appPath The path of the app build, from the artifact cache.
+     * @return The driver of the session.
+     * @throws MalformedURLException If the Appium server URL is malformed.
+     * @throws URISyntaxException    If the Appium server URI syntax is incorrect.
+     */
+    public static WebDriver acquire(DevicePool.Device device, String appPath) throws MalformedURLException, URISyntaxException {
+        PooledSession session = idleSessions.remove(device.getUdid());
+        if (session != null) {
+            if (!session.appPath.equals(appPath)) {
+                evict(session, "app build changed");
+                session = null;
+            } else if (!isAlive(session)) {
+                evict(session, "crashed");
+                session = null;
+            } else {
+                reusedSessions.incrementAndGet();
+            }
+        }
+        if (session == null) {
+            try {
+                session = launch(device, appPath);
+            } catch (MalformedURLException | URISyntaxException | RuntimeException e) {
+                DevicePool.release(device);
+                throw e;
+            }
+        }
+
+        session.uses++;
+        leasedSessions.put(session.driver, session);
+        return session.driver;
+    }
+
+    /**
+     * Checks whether a driver was handed out by the pool and not released yet.
+     *
+     * @param driver The driver to check.
+     * @return {@code true} if the driver must be returned with {@link #release(WebDriver)} instead of quit.
+     */
+    public static boolean isLeased(WebDriver driver) {
+        return leasedSessions.containsKey(driver);
+    }
+
+    /**
+     * Returns the bundle ID (Android package) of the app run by a pooled session.
+     * It is read once when the session is created, as the iOS server logs it only then.
+     *
+     * @param driver The driver handed out by {@link #acquire(DevicePool.Device, String)}.
+     * @return The app bundle ID, or {@code null} if the driver is not leased from the pool.
+     */
+    public static String getAppBundleId(WebDriver driver) {
+        PooledSession session = leasedSessions.get(driver);
+        return session == null ? null : session.appBundleId;
+    }
+
+    /**
+     * Returns a session to the pool after resetting its app state, and its device to {@link DevicePool}.
+     * The session is quit instead if it exceeded the reuse budget or its app cannot be reset.
+     *
+     * @param driver The driver handed out by {@link #acquire(DevicePool.Device, String)}.
+     */
+    public static void release(WebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) {
+            driver.quit();
+            return;
+        }
+
+        try {
+            if (session.uses >= PropertiesUtils.getMobileSessionReuseBudget()) {
+                evict(session, "reuse budget exceeded");
+            } else if (!reset(session)) {
+                evict(session, "reset failed");
+            } else {
+                idleSessions.put(session.udid, session);
+            }
+        } finally {
+            DevicePool.release(session.device);
+        }
+    }
+
+    /**
+     * Returns the usage of the pool, including the bootstrap time saved by reuse.
+     *
+     * @return A {@link MobileSessionStatistics} snapshot.
+     */
+    public static MobileSessionStatistics getStatistics() {
+        long launched = launchedSessions.get();
+        long reused = reusedSessions.get();
+        long resets = resetSessions.get();
+        long averageBootstrapMillis = launched == 0 ? 0 : totalBootstrapMillis.get() / launched;
+        long averageResetMillis = resets == 0 ? 0 : totalResetMillis.get() / resets;
+        return new MobileSessionStatistics(launched, reused, evictedSessions.get(), averageBootstrapMillis, averageResetMillis,
+                reused * (averageBootstrapMillis - averageResetMillis));
+    }
+
+    /**
+     * Quits every idle session. Leased sessions are quit by their owners.
+     */
+    public static void shutdown() {
+        idleSessions.keySet().forEach(udid -> {
+            PooledSession session = idleSessions.remove(udid);
+            if (session != null) quit(session.driver);
+        });
+    }
+
+    /**
+     * Bootstraps a session with the app installed and records its bootstrap time.
+     *
+     * @param device  The device to run on.
+     * @param appPath The path of the app build.
+     * @return The new {@link PooledSession}.
+     * @throws MalformedURLException If the Appium server URL is malformed.
+     * @throws URISyntaxException    If the Appium server URI syntax is incorrect.
+     */
+    private static PooledSession launch(DevicePool.Device device, String appPath) throws MalformedURLException, URISyntaxException {
+        long startTime = System.nanoTime();
+        WebDriver driver = switch (device.getPlatform()) {
+            case "ANDROID" -> WebDriverManager.getAndroidDriver(device, appPath);
+            case "IOS" -> WebDriverManager.getIOSDriver(device, appPath);
+            default -> throw new IllegalArgumentException("Unsupported platform: " + device.getPlatform());
+        };
+        String appBundleId = WebDriverManager.getAppBundleId(driver);
+        long bootstrapMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        launchedSessions.incrementAndGet();
+        totalBootstrapMillis.addAndGet(bootstrapMillis);
+        logger.info("Bootstrapped {} session on device {} in {} ms", device.getPlatform(), device.getUdid(), bootstrapMillis);
+        return new PooledSession(driver, device, appPath, appBundleId);
+    }
+
+    /**
+     * Checks that the session of an idle device still responds.
+     *
+     * @param session The idle session.
+     * @return {@code true} if the session can be handed out.
+     */
+    private static boolean isAlive(PooledSession session) {
+        try {
+            ((InteractsWithApps) session.driver).queryAppState(session.appBundleId);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Terminates the app, clears its data and relaunches it, as a fresh install would start.
+     *
+     * @param session The released session.
+     * @return {@code true} if the app was reset and the session can be reused.
+     */
+    private static boolean reset(PooledSession session) {
+        if (session.appBundleId == null) return false;
+
+        long startTime = System.nanoTime();
+        try {
+            InteractsWithApps apps = (InteractsWithApps) session.driver;
+            JavascriptExecutor executor = (JavascriptExecutor) session.driver;
+            apps.terminateApp(session.appBundleId);
+            executor.executeScript("mobile: clearApp", Map.of(
+                    session.driver instanceof AndroidDriver ? "appId" : "bundleId", session.appBundleId));
+
+            // Clearing the data revokes the permissions granted at install
+            if (session.driver instanceof AndroidDriver) {
+                executor.executeScript("mobile: changePermissions", Map.of(
+                        "permissions", "all", "appPackage", session.appBundleId, "action", "grant"));
+            }
+            apps.activateApp(session.appBundleId);
+            ScrollPositions.reset(session.driver);
+
+            resetSessions.incrementAndGet();
+            totalResetMillis.addAndGet((System.nanoTime() - startTime) / 1_000_000);
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to reset app {} on device {}: {}", session.appBundleId, session.udid, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Quits an evicted session.
+     *
+     * @param session The session to evict.
+     * @param reason  The reason, for logging.
+     */
+    private static void evict(PooledSession session, String reason) {
+        evictedSessions.incrementAndGet();
+        logger.info("Evicted session on device {} after {} uses: {}", session.udid, session.uses, reason);
+        quit(session.driver);
+    }
+
+    /**
+     * Quits a session, ignoring a session that is already gone.
+     *
+     * @param driver The driver to quit.
+     */
+    private static void quit(WebDriver driver) {
+        ScrollPositions.reset(driver);
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to quit mobile session: {}", e.getMessage());
+        }
+    }
+}
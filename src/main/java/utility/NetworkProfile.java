@@ -0,0 +1,165 @@
+package utility;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Blocks the network resources that assertions never look at, and measures what each page loads.
+ * <p>
+ * A blocking profile is a comma-separated list of categories ({@code images}, {@code fonts}, {@code analytics},
+ * {@code chat}) plus extra URL patterns where {@code *} matches any characters. The profile comes from the
+ * {@code networkBlockingProfile} and {@code networkBlockedUrls} suite parameters, or the properties of the same
+ * name when a suite does not set them. It is applied to Chrome and Edge sessions through the DevTools
+ * {@code Network.setBlockedURLs} command; other browsers load everything.
+ * <p>
+ * Pages call {@link #recordPageLoad(WebDriver, String)} once loaded to count the requests and bytes
+ * reported by the Resource Timing API, see {@link #getPageStatistics()}.
+ */
+public class NetworkProfile {
+
+    private static final Logger logger = LogManager.getLogger();
+
+    private static final Map<String, List<String>> categories = Map.of(
+            "images", List.of("*.png*", "*.jpg*", "*.jpeg*", "*.gif*", "*.webp*", "*.svg*", "*.ico*"),
+            "fonts", List.of("*.woff*", "*.woff2*", "*.ttf*", "*.otf*", "*.eot*", "*fonts.googleapis.com*", "*fonts.gstatic.com*"),
+            "analytics", List.of("*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*",
+                    "*connect.facebook.net*", "*hotjar.com*", "*clarity.ms*"),
+            "chat", List.of("*tawk.to*", "*zopim.com*", "*livechatinc.com*", "*crisp.chat*", "*sp.zalo.me*", "*chat-plugin*")
+    );
+
+    // Page loads of this run, keyed by page name
+    private static final Map<String, PageNetworkStatistics> pageStatistics = new ConcurrentHashMap<>();
+
+    private static volatile List<String> blockedUrlPatterns =
+            toPatterns(PropertiesUtils.getNetworkBlockingProfile(), PropertiesUtils.getNetworkBlockedUrls());
+
+    /**
+     * Requests and bytes loaded by a page, summed over its loads.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class PageNetworkStatistics {
+        private long loads;     // Times the page was loaded
+        private long requests;  // Resources requested, including the document
+        private long bytes;     // Bytes transferred; cross-origin resources without Timing-Allow-Origin count as 0
+
+        /**
+         * @param other The statistics to add.
+         * @return New statistics with the sum of both.
+         */
+        private PageNetworkStatistics plus(PageNetworkStatistics other) {
+            return new PageNetworkStatistics(loads + other.loads, requests + other.requests, bytes + other.bytes);
+        }
+    }
+
+    private NetworkProfile() {
+    }
+
+    /**
+     * Selects the blocking profile of a suite. A {@code null} argument keeps the value of the property.
+     *
+     * @param profile     The comma-separated categories to block, or {@code null}.
+     * @param blockedUrls The comma-separated extra URL patterns to block, or {@code null}.
+     */
+    public static void configure(String profile, String blockedUrls) {
+        blockedUrlPatterns = toPatterns(
+                profile == null ? PropertiesUtils.getNetworkBlockingProfile() : profile,
+                blockedUrls == null ? PropertiesUtils.getNetworkBlockedUrls() : blockedUrls);
+        logger.info("Network blocking profile: {}", blockedUrlPatterns);
+    }
+
+    /**
+     * Applies the current blocking profile to a browser session, replacing the profile it had.
+     *
+     * @param driver The browser driver.
+     */
+    public static void apply(WebDriver driver) {
+        if (!(driver instanceof ChromiumDriver chromiumDriver)) {
+            if (!blockedUrlPatterns.isEmpty()) {
+                logger.warn("Network blocking is only supported on Chrome and Edge, loading all resources.");
+            }
+            return;
+        }
+
+        chromiumDriver.executeCdpCommand("Network.enable", Map.of());
+        chromiumDriver.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", blockedUrlPatterns));
+    }
+
+    /**
+     * Records the requests and bytes loaded by the current page.
+     *
+     * @param driver   The browser driver, once the page has fetched its resources, e.g. after {@link WebUtils#waitForNetworkIdle()}.
+     * @param pageName The page name the statistics are grouped by.
+     */
+    public static void recordPageLoad(WebDriver driver, String pageName) {
+        try {
+            @SuppressWarnings("unchecked")
+            List<Number> usage = (List<Number>) ((JavascriptExecutor) driver).executeScript("""
+                    const entries = performance.getEntriesByType('navigation').concat(performance.getEntriesByType('resource'));
+                    return [entries.length, entries.reduce((total, entry) => total + (entry.transferSize || 0), 0)];
+                    """);
+            PageNetworkStatistics load = new PageNetworkStatistics(1, usage.get(0).longValue(), usage.get(1).longValue());
+            pageStatistics.merge(pageName, load, PageNetworkStatistics::plus);
+            logger.debug("Page '{}' loaded {} requests, {} bytes", pageName, load.getRequests(), load.getBytes());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to record network usage of page '{}': {}", pageName, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the requests and bytes loaded per page so far.
+     *
+     * @return A snapshot of the statistics, sorted by page name.
+     */
+    public static Map<String, PageNetworkStatistics> getPageStatistics() {
+        return new TreeMap<>(pageStatistics);
+    }
+
+    /**
+     * Builds the URL patterns of a profile.
+     *
+     * @param profile     The comma-separated categories.
+     * @param blockedUrls The comma-separated extra URL patterns.
+     * @return The patterns to block.
+     * @throws IllegalArgumentException if a category is unknown.
+     */
+    private static List<String> toPatterns(String profile, String blockedUrls) {
+        List<String> patterns = new ArrayList<>();
+        for (String category : split(profile)) {
+            List<String> categoryPatterns = categories.get(category);
+            if (categoryPatterns == null) {
+                throw new IllegalArgumentException("Unknown network blocking category: %s, expected one of %s"
+                        .formatted(category, categories.keySet()));
+            }
+            patterns.addAll(categoryPatterns);
+        }
+        patterns.addAll(split(blockedUrls));
+        return List.copyOf(patterns);
+    }
+
+    /**
+     * Splits a comma-separated value, ignoring blanks.
+     *
+     * @param value The value, possibly {@code null}.
+     * @return The trimmed items.
+     */
+    private static List<String> split(String value) {
+        if (value == null) return List.of();
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,531 @@
+package utility;
+
+import io.appium.java_client.android.AndroidDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.CommandPayload;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The element tree of a mobile screen, fetched with a single {@code getPageSource()} call and queried locally.
+ * <p>
+ * Verifiers reading many fields of a screen pay one Appium round trip per {@code findElement} or {@code getText}.
+ * A snapshot answers these queries from the parsed page source instead, with elements indexed by resource-id
+ * (name on iOS) and text (label on iOS). Supported locators are {@code By.id}, accessibility ids, XPath,
+ * {@code UiSelector} chains (including the selector of {@code UiScrollable.scrollIntoView}), and the subset of
+ * iOS class chains and predicates made of {@code ==}, {@code BEGINSWITH}, {@code CONTAINS} and {@code ENDSWITH}
+ * comparisons joined by {@code AND}/{@code OR}. Other locators are reported as unsupported, so callers fall back
+ * to a live lookup.
+ * <p>
+ * A snapshot is kept per driver until the driver sends a command that may change the screen: drivers created
+ * by {@link WebDriverManager} pass every command through {@link #invalidate(WebDriver, CommandPayload)}, which
+ * keeps the snapshot only for read-only commands, so clicks, typing, gestures, scripts and scrolling lookups
+ * all cause the next query to take a new snapshot.
+ */
+public class PageSourceSnapshot {
+
+    private static final Logger logger = LogManager.getLogger();
+
+    // Commands that only read the screen and keep the snapshot valid
+    private static final Set<String> READ_ONLY_COMMANDS = Set.of("getPageSource", "findElement", "findElements",
+            "findChildElement", "findChildElements", "getElementText", "getElementAttribute", "getElementProperty",
+            "getElementRect", "getElementLocation", "getElementSize", "getElementTagName", "isElementDisplayed",
+            "isElementEnabled", "isElementSelected", "screenshot", "elementScreenshot", "getCurrentActivity",
+            "getCurrentPackage", "isKeyboardShown", "queryAppState");
+
+    // Comparison of an iOS predicate, e.g. name == "Done" or label BEGINSWITH 'Branch'
+    private static final Pattern PREDICATE_CONDITION = Pattern.compile(
+            "\\s*(\\w+)\\s+(==|BEGINSWITH|CONTAINS|ENDSWITH)\\s+(?:'([^']*)'|\"([^\"]*)\")\\s*(AND|OR|&&|\\|\\|)?",
+            Pattern.CASE_INSENSITIVE);
+
+    // Method of a UiSelector chain, e.g. .resourceId("...") or .instance(1)
+    private static final Pattern UI_SELECTOR_METHOD = Pattern.compile("\\.(\\w+)\\((?:\"([^\"]*)\"|(\\d+))\\)");
+
+    // Segment of an iOS class chain, e.g. XCUIElementTypeCell[`name == "..."`][1]
+    private static final Pattern CLASS_CHAIN_SEGMENT = Pattern.compile("(\\*|\\w+)((?:\\[(?:`[^`]*`|-?\\d+)])*)");
+    private static final Pattern CLASS_CHAIN_FILTER = Pattern.compile("\\[(?:`([^`]*)`|(-?\\d+))]");
+
+    // Latest snapshot of each driver
+    private static final Map<WebDriver, PageSourceSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    private final boolean android;
+    private final Document document;
+    private final List<Element> elements;
+    private final Map<String, List<Element>> elementsById = new HashMap<>();
+    private final Map<String, List<Element>> elementsByText = new HashMap<>();
+
+    /**
+     * Parses a page source and indexes its elements.
+     *
+     * @param pageSource The XML page source of the screen.
+     * @param android    {@code true} for a UiAutomator2 page source, {@code false} for an XCUITest one.
+     * @throws IllegalStateException If the page source cannot be parsed.
+     */
+    PageSourceSnapshot(String pageSource, boolean android) {
+        this.android = android;
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            this.document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(pageSource)));
+        } catch (ParserConfigurationException | SAXException | IOException e) {
+            throw new IllegalStateException("Failed to parse page source: " + e.getMessage(), e);
+        }
+
+        NodeList nodes = document.getElementsByTagName("*");
+        List<Element> allElements = new ArrayList<>(nodes.getLength());
+        for (int index = 0; index < nodes.getLength(); index++) {
+            Element element = (Element) nodes.item(index);
+            allElements.add(element);
+            String id = element.getAttribute(android ? "resource-id" : "name");
+            if (!id.isEmpty()) elementsById.computeIfAbsent(id, _ -> new ArrayList<>()).add(element);
+            String text = getText(element);
+            if (!text.isEmpty()) elementsByText.computeIfAbsent(text, _ -> new ArrayList<>()).add(element);
+        }
+        this.elements = List.copyOf(allElements);
+    }
+
+    /**
+     * Returns the snapshot of the current screen of a driver, taking one if the screen may have changed
+     * since the last snapshot.
+     *
+     * @param driver The Android or iOS driver.
+     * @return The {@link PageSourceSnapshot} of the current screen.
+     */
+    public static PageSourceSnapshot of(WebDriver driver) {
+        PageSourceSnapshot snapshot = snapshots.get(driver);
+        if (snapshot != null) return snapshot;
+
+        // Taken outside of the map, as the page source command passes through invalidate()
+        long startTime = System.nanoTime();
+        snapshot = new PageSourceSnapshot(driver.getPageSource(), driver instanceof AndroidDriver);
+        snapshots.put(driver, snapshot);
+        logger.debug("Took page source snapshot of {} elements in {} ms", snapshot.elements.size(), (System.nanoTime() - startTime) / 1_000_000);
+        return snapshot;
+    }
+
+    /**
+     * Discards the snapshot of a driver before it sends a command that may change the screen.
+     * Lookups with {@code UiScrollable} scroll the screen and count as such commands.
+     *
+     * @param driver  The driver sending the command.
+     * @param payload The command.
+     */
+    static void invalidate(WebDriver driver, CommandPayload payload) {
+        if (snapshots.isEmpty() || (READ_ONLY_COMMANDS.contains(payload.getName()) && !isScrollingLookup(payload))) return;
+        snapshots.remove(driver);
+    }
+
+    /**
+     * Discards the snapshot of a driver, e.g. after an animation that changes the screen without a command.
+     *
+     * @param driver The driver whose snapshot is discarded.
+     */
+    public static void invalidate(WebDriver driver) {
+        snapshots.remove(driver);
+    }
+
+    /**
+     * Checks whether a locator can be answered from a snapshot.
+     *
+     * @param locator The locator to check.
+     * @return {@code true} if {@link #findElements(By)} supports the locator.
+     */
+    public boolean supports(By locator) {
+        return createLookup(locator) != null;
+    }
+
+    /**
+     * Finds the elements of the snapshot that match a locator, in document order.
+     *
+     * @param locator The locator, one of the supported kinds.
+     * @return The matching elements, or an empty list if none match.
+     * @throws UnsupportedOperationException If the locator is not supported.
+     */
+    public List<Element> findElements(By locator) {
+        Lookup lookup = createLookup(locator);
+        if (lookup == null) {
+            throw new UnsupportedOperationException("Locator cannot be answered from a page source snapshot: " + locator);
+        }
+        return lookup.find();
+    }
+
+    /**
+     * Checks whether an element matching a locator is on the screen.
+     *
+     * @param locator The locator.
+     * @return {@code true} if an element matches, {@code false} if none does or the locator is not supported.
+     */
+    public boolean contains(By locator) {
+        return supports(locator) && !findElements(locator).isEmpty();
+    }
+
+    /**
+     * Retrieves the text of the first element matching a locator, as {@code getText()} would return it:
+     * the {@code text} attribute on Android, the value or else the label on iOS.
+     *
+     * @param locator The locator.
+     * @return The text, or {@code null} if no element matches or the locator is not supported.
+     */
+    public String getText(By locator) {
+        if (!supports(locator)) return null;
+        List<Element> matches = findElements(locator);
+        return matches.isEmpty() ? null : getText(matches.getFirst());
+    }
+
+    /**
+     * Retrieves an attribute of the first element matching a locator.
+     *
+     * @param locator   The locator.
+     * @param attribute The page source attribute, e.g. {@code checked} or {@code value}.
+     * @return The attribute value, or {@code null} if no element matches, the element has no such attribute
+     * or the locator is not supported.
+     */
+    public String getAttribute(By locator, String attribute) {
+        if (!supports(locator)) return null;
+        List<Element> matches = findElements(locator);
+        return matches.isEmpty() || !matches.getFirst().hasAttribute(attribute) ? null : matches.getFirst().getAttribute(attribute);
+    }
+
+    /**
+     * Deferred lookup of a supported locator.
+     */
+    @FunctionalInterface
+    private interface Lookup {
+        List<Element> find();
+    }
+
+    /**
+     * Translates a locator into a local lookup.
+     *
+     * @param locator The locator.
+     * @return The lookup, or {@code null} if the locator is not supported.
+     */
+    private Lookup createLookup(By locator) {
+        if (!(locator instanceof By.Remotable remotable)) return null;
+        String using = remotable.getRemoteParameters().using();
+        Object rawValue = remotable.getRemoteParameters().value();
+        if (!(rawValue instanceof String value)) return null;
+
+        return switch (using) {
+            case "id" -> () -> elementsById.getOrDefault(value, List.of());
+            case "accessibility id" -> android
+                    ? filter(element -> element.getAttribute("content-desc").equals(value))
+                    : () -> elementsById.getOrDefault(value, List.of());
+            case "xpath" -> createXPathLookup(value);
+            case "-android uiautomator" -> createUiSelectorLookup(value);
+            case "-ios predicate string" -> {
+                Predicate<Element> predicate = parsePredicate(value);
+                yield predicate == null ? null : filter(predicate);
+            }
+            case "-ios class chain" -> createClassChainLookup(value);
+            default -> null;
+        };
+    }
+
+    /**
+     * @param predicate The condition on an element.
+     * @return A lookup of the elements that satisfy the condition.
+     */
+    private Lookup filter(Predicate<Element> predicate) {
+        return () -> elements.stream().filter(predicate).toList();
+    }
+
+    /**
+     * Evaluates an XPath over the page source.
+     *
+     * @param xpath The XPath expression.
+     * @return The lookup, or {@code null} if the expression is not valid XPath 1.0.
+     */
+    private Lookup createXPathLookup(String xpath) {
+        try {
+            var expression = XPathFactory.newInstance().newXPath().compile(xpath);
+            return () -> {
+                try {
+                    NodeList nodes = (NodeList) expression.evaluate(document, XPathConstants.NODESET);
+                    List<Element> matches = new ArrayList<>(nodes.getLength());
+                    for (int index = 0; index < nodes.getLength(); index++) {
+                        if (nodes.item(index) instanceof Element element) matches.add(element);
+                    }
+                    return matches;
+                } catch (XPathExpressionException e) {
+                    throw new IllegalStateException("Failed to evaluate XPath %s on page source snapshot".formatted(xpath), e);
+                }
+            };
+        } catch (XPathExpressionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Matches the elements selected by a {@code UiSelector} chain. For {@code UiScrollable.scrollIntoView},
+     * only the target selector is matched, so an element that needs scrolling is not found.
+     *
+     * @param uiAutomator The UiAutomator expression.
+     * @return The lookup, or {@code null} if the expression uses other UiSelector methods or scrolls without a target.
+     */
+    private Lookup createUiSelectorLookup(String uiAutomator) {
+        if (uiAutomator.contains("UiScrollable") && !uiAutomator.contains("scrollIntoView(")) return null;
+        int selectorStart = uiAutomator.lastIndexOf("new UiSelector()");
+        if (selectorStart < 0) return null;
+        String selector = uiAutomator.substring(selectorStart + "new UiSelector()".length());
+
+        List<Predicate<Element>> conditions = new ArrayList<>();
+        Map<String, List<Element>> index = null;
+        String indexKey = null;
+        int instance = 0;
+        Matcher method = UI_SELECTOR_METHOD.matcher(selector);
+        while (method.find()) {
+            String argument = method.group(2) != null ? method.group(2) : method.group(3);
+            switch (method.group(1)) {
+                case "resourceId" -> {
+                    conditions.add(element -> element.getAttribute("resource-id").equals(argument));
+                    index = elementsById;
+                    indexKey = argument;
+                }
+                case "text" -> {
+                    conditions.add(element -> element.getAttribute("text").equals(argument));
+                    if (index == null) {
+                        index = elementsByText;
+                        indexKey = argument;
+                    }
+                }
+                case "textStartsWith" -> conditions.add(element -> element.getAttribute("text").startsWith(argument));
+                case "textContains" -> conditions.add(element -> element.getAttribute("text").contains(argument));
+                case "className" -> conditions.add(element -> element.getAttribute("class").equals(argument));
+                case "description" -> conditions.add(element -> element.getAttribute("content-desc").equals(argument));
+                case "instance" -> instance = Integer.parseInt(argument);
+                default -> {
+                    return null;
+                }
+            }
+        }
+        if (conditions.isEmpty()) return null;
+
+        Predicate<Element> predicate = conditions.stream().reduce(Predicate::and).orElseThrow();
+        // Exact resource-id and text selectors only scan the indexed elements
+        List<Element> candidates = index == null ? elements : index.getOrDefault(indexKey, List.of());
+        int selectedInstance = instance;
+        return () -> {
+            List<Element> matches = candidates.stream().filter(predicate).toList();
+            // instance() selects a single element among the matches
+            if (selectedInstance == 0 && !selector.contains(".instance(")) return matches;
+            return selectedInstance < matches.size() ? List.of(matches.get(selectedInstance)) : List.of();
+        };
+    }
+
+    /**
+     * Matches the elements selected by an iOS class chain of {@code Type}, {@code *} and {@code **} segments
+     * with predicate and index filters, e.g. {@code **}{@code /XCUIElementTypeCell/**}{@code /XCUIElementTypeStaticText[`name == "Size"`]}.
+     *
+     * @param classChain The class chain query, evaluated from the application element.
+     * @return The lookup, or {@code null} if the query uses unsupported syntax.
+     */
+    private Lookup createClassChainLookup(String classChain) {
+        List<String> segments = splitClassChain(classChain);
+        if (segments == null) return null;
+
+        List<Predicate<Element>> typeFilters = new ArrayList<>();
+        List<List<Object>> segmentFilters = new ArrayList<>();
+        List<Boolean> descendantAxes = new ArrayList<>();
+        boolean descendant = false;
+        for (String segment : segments) {
+            if (segment.equals("**")) {
+                descendant = true;
+                continue;
+            }
+            Matcher segmentMatcher = CLASS_CHAIN_SEGMENT.matcher(segment);
+            if (!segmentMatcher.matches()) return null;
+
+            String type = segmentMatcher.group(1);
+            typeFilters.add(element -> type.equals("*") || element.getTagName().equals(type));
+            List<Object> filters = new ArrayList<>();
+            Matcher filterMatcher = CLASS_CHAIN_FILTER.matcher(segmentMatcher.group(2));
+            while (filterMatcher.find()) {
+                if (filterMatcher.group(1) != null) {
+                    Predicate<Element> predicate = parsePredicate(filterMatcher.group(1));
+                    if (predicate == null) return null;
+                    filters.add(predicate);
+                } else {
+                    filters.add(Integer.parseInt(filterMatcher.group(2)));
+                }
+            }
+            segmentFilters.add(filters);
+            descendantAxes.add(descendant);
+            descendant = false;
+        }
+        if (typeFilters.isEmpty() || descendant) return null;
+
+        return () -> {
+            NodeList applications = document.getElementsByTagName("XCUIElementTypeApplication");
+            List<Element> context = applications.getLength() == 0
+                    ? List.of(document.getDocumentElement())
+                    : List.of((Element) applications.item(0));
+            for (int index = 0; index < typeFilters.size(); index++) {
+                Set<Element> next = new LinkedHashSet<>();
+                for (Element parent : context) {
+                    List<Element> candidates = descendantAxes.get(index) ? getDescendants(parent) : getChildren(parent);
+                    next.addAll(applyClassChainFilters(candidates.stream().filter(typeFilters.get(index)).toList(), segmentFilters.get(index)));
+                }
+                context = List.copyOf(next);
+            }
+            return context;
+        };
+    }
+
+    /**
+     * Splits a class chain on the {@code /} outside predicates.
+     *
+     * @param classChain The class chain query.
+     * @return The segments, or {@code null} if a predicate is not closed.
+     */
+    private static List<String> splitClassChain(String classChain) {
+        List<String> segments = new ArrayList<>();
+        StringBuilder segment = new StringBuilder();
+        boolean inPredicate = false;
+        for (char character : classChain.toCharArray()) {
+            if (character == '`') inPredicate = !inPredicate;
+            if (character == '/' && !inPredicate) {
+                segments.add(segment.toString());
+                segment.setLength(0);
+            } else {
+                segment.append(character);
+            }
+        }
+        segments.add(segment.toString());
+        return inPredicate || segments.contains("") ? null : segments;
+    }
+
+    /**
+     * Applies the predicate and index filters of a class chain segment in order.
+     *
+     * @param candidates The elements of the segment type.
+     * @param filters    The predicates and 1-based indexes, negative from the end.
+     * @return The remaining elements.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Element> applyClassChainFilters(List<Element> candidates, List<Object> filters) {
+        List<Element> remaining = candidates;
+        for (Object filter : filters) {
+            if (filter instanceof Integer position) {
+                int index = position > 0 ? position - 1 : remaining.size() + position;
+                remaining = index >= 0 && index < remaining.size() ? List.of(remaining.get(index)) : List.of();
+            } else {
+                remaining = remaining.stream().filter((Predicate<Element>) filter).toList();
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Parses an iOS predicate made of comparisons joined by {@code AND} or {@code OR}, where {@code AND} binds tighter.
+     *
+     * @param predicate The predicate, e.g. {@code label == 'A' or label == 'B'}.
+     * @return The condition on an element, or {@code null} if the predicate uses unsupported syntax.
+     */
+    private static Predicate<Element> parsePredicate(String predicate) {
+        List<Predicate<Element>> alternatives = new ArrayList<>();
+        Predicate<Element> conjunction = null;
+        Matcher condition = PREDICATE_CONDITION.matcher(predicate);
+        int position = 0;
+        String operator = null;
+        while (position < predicate.length() && condition.find(position) && condition.start() == position) {
+            Predicate<Element> comparison = createComparison(condition.group(1), condition.group(2).toUpperCase(),
+                    condition.group(3) != null ? condition.group(3) : condition.group(4));
+            if (comparison == null) return null;
+
+            conjunction = conjunction == null ? comparison : conjunction.and(comparison);
+            operator = condition.group(5);
+            if (operator == null || operator.equalsIgnoreCase("OR") || operator.equals("||")) {
+                alternatives.add(conjunction);
+                conjunction = null;
+            }
+            position = condition.end();
+        }
+        if (position != predicate.length() || operator != null || alternatives.isEmpty()) return null;
+        return alternatives.stream().reduce(Predicate::or).orElseThrow();
+    }
+
+    /**
+     * @param attribute  The element attribute, one of {@code name}, {@code label}, {@code value} or {@code type}.
+     * @param comparison The comparison operator, upper case.
+     * @param expected   The value compared against.
+     * @return The comparison, or {@code null} if the attribute is not supported.
+     */
+    private static Predicate<Element> createComparison(String attribute, String comparison, String expected) {
+        if (!Set.of("name", "label", "value", "type").contains(attribute)) return null;
+        return element -> {
+            String actual = element.getAttribute(attribute);
+            return switch (comparison) {
+                case "==" -> actual.equals(expected);
+                case "BEGINSWITH" -> actual.startsWith(expected);
+                case "CONTAINS" -> actual.contains(expected);
+                default -> actual.endsWith(expected);
+            };
+        };
+    }
+
+    /**
+     * @param element An element of the snapshot.
+     * @return The text the driver would return for it, or an empty string if it has none.
+     */
+    private String getText(Element element) {
+        if (android) return element.getAttribute("text");
+        String value = element.getAttribute("value");
+        return value.isEmpty() ? element.getAttribute("label") : value;
+    }
+
+    /**
+     * @param parent An element of the snapshot.
+     * @return Its child elements, in document order.
+     */
+    private static List<Element> getChildren(Element parent) {
+        List<Element> children = new ArrayList<>();
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element element) children.add(element);
+        }
+        return children;
+    }
+
+    /**
+     * @param parent An element of the snapshot.
+     * @return Its descendant elements, in document order.
+     */
+    private static List<Element> getDescendants(Element parent) {
+        NodeList nodes = parent.getElementsByTagName("*");
+        List<Element> descendants = new ArrayList<>(nodes.getLength());
+        for (int index = 0; index < nodes.getLength(); index++) {
+            descendants.add((Element) nodes.item(index));
+        }
+        return descendants;
+    }
+
+    /**
+     * @param payload A command.
+     * @return {@code true} if the command is a lookup that scrolls the screen with {@code UiScrollable}.
+     */
+    private static boolean isScrollingLookup(CommandPayload payload) {
+        Object value = payload.getParameters().get("value");
+        return value instanceof String expression && expression.contains("UiScrollable");
+    }
+}
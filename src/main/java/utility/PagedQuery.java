@@ -0,0 +1,194 @@
+package utility;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams the items of a paginated list endpoint that reports its size in the {@code X-Total-Count} header.
+ * <p>
+ * Page 0 is fetched first to read the total count and is reused as the first page of results.
+ * Following pages are requested asynchronously once the consumer asks for more than page 0, at most
+ * {@code prefetchDepth} pages ahead of the consumer, and parsed straight from the response bytes. Items are emitted as soon as their page arrives,
+ * so a consumer that stops early (e.g. {@code findFirst}) does not download the remaining pages.
+ *
+ * @param <T> The type of the items in a page.
+ */
+public class PagedQuery<T> {
+
+    private static final int DEFAULT_PREFETCH_DEPTH = 4;
+
+    // Shared, thread-safe mapper used to parse every page
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final int pageSize;
+    private final JavaType pageType;
+    private final IntFunction<CompletableFuture<Response>> pageFetcher;
+    private int prefetchDepth = DEFAULT_PREFETCH_DEPTH;
+
+    /**
+     * Creates a paged query.
+     *
+     * @param pageSize    The page size used by the endpoint (the {@code size} query parameter).
+     * @param itemType    The class of the items in a page.
+     * @param pageFetcher A function that sends the request for a page index.
+     */
+    public PagedQuery(int pageSize, Class<T> itemType, IntFunction<CompletableFuture<Response>> pageFetcher) {
+        this.pageSize = pageSize;
+        this.pageType = mapper.getTypeFactory().constructCollectionType(List.class, itemType);
+        this.pageFetcher = pageFetcher;
+    }
+
+    /**
+     * Sets the maximum number of pages requested ahead of the consumer.
+     *
+     * @param prefetchDepth The number of pages to prefetch; must be at least 1.
+     * @return The current instance for method chaining.
+     */
+    public PagedQuery<T> prefetch(int prefetchDepth) {
+        if (prefetchDepth < 1) {
+            throw new IllegalArgumentException("Prefetch depth must be at least 1.");
+        }
+        this.prefetchDepth = prefetchDepth;
+        return this;
+    }
+
+    /**
+     * Returns a lazy stream of all items, in page order.
+     *
+     * @return A sequential {@link Stream} of items.
+     */
+    public Stream<T> stream() {
+        Iterator<List<T>> pages = new PageIterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .flatMap(List::stream);
+    }
+
+    /**
+     * Fetches all pages and returns every item.
+     *
+     * @return A list of all items.
+     */
+    public List<T> toList() {
+        return stream().toList();
+    }
+
+    /**
+     * Fetches all pages asynchronously and returns every item.
+     *
+     * @return A future completed with the list of all items.
+     */
+    public CompletableFuture<List<T>> toListAsync() {
+        return CompletableFuture.supplyAsync(this::toList, APIUtils.getAsyncExecutor());
+    }
+
+    /**
+     * Returns the first item matching the predicate, stopping at the page that contains it.
+     *
+     * @param predicate The condition to match.
+     * @return The first matching item, or an empty {@link Optional} if none matches.
+     */
+    public Optional<T> findFirst(Predicate<T> predicate) {
+        return stream().filter(predicate).findFirst();
+    }
+
+    /**
+     * Sends the request for a page and checks that it succeeded.
+     *
+     * @param pageIndex The page index.
+     * @return A future completed with the page response.
+     */
+    private CompletableFuture<Response> fetchPage(int pageIndex) {
+        return pageFetcher.apply(pageIndex)
+                .thenApply(response -> response.then()
+                        .statusCode(200)
+                        .extract()
+                        .response());
+    }
+
+    /**
+     * Parses the items of a page directly from the response bytes.
+     *
+     * @param response The page response.
+     * @return The items of the page.
+     */
+    private List<T> parsePage(Response response) {
+        try {
+            return mapper.readValue(response.asByteArray(), pageType);
+        } catch (IOException e) {
+            throw new RuntimeException("Error parsing JSON response", e);
+        }
+    }
+
+    /**
+     * Iterates over the pages, keeping up to {@code prefetchDepth} page requests in flight.
+     */
+    private class PageIterator implements Iterator<List<T>> {
+        private final Deque<CompletableFuture<Response>> inFlight = new ArrayDeque<>();
+        private final int numberOfPages;
+        private Response firstPage;
+        private int nextPageToRequest = 1;
+        private int nextPageToReturn = 0;
+
+        PageIterator() {
+            // Page 0 tells the total count and is reused as the first page
+            firstPage = APIUtils.await(fetchPage(0));
+            String totalCount = firstPage.getHeader("X-Total-Count");
+            numberOfPages = totalCount == null ? 1 : (Integer.parseInt(totalCount) + pageSize - 1) / pageSize;
+        }
+
+        /**
+         * Requests the next pages until the prefetch depth is reached.
+         */
+        private void requestAhead() {
+            while (nextPageToRequest < numberOfPages && inFlight.size() < prefetchDepth) {
+                inFlight.add(fetchPage(nextPageToRequest++));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            // Look ahead only once the consumer wants more than page 0
+            if (nextPageToReturn > 0) requestAhead();
+            return nextPageToReturn < numberOfPages;
+        }
+
+        @Override
+        public List<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Response response;
+            if (nextPageToReturn == 0) {
+                response = firstPage;
+                firstPage = null;
+            } else {
+                requestAhead();
+                response = APIUtils.await(inFlight.poll());
+
+                // Keep the pipeline full while this page is parsed and consumed
+                requestAhead();
+            }
+            nextPageToReturn++;
+            return parsePage(response);
+        }
+    }
+}
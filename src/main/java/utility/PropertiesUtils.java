@@ -175,6 +175,166 @@ public class PropertiesUtils {
         return Boolean.parseBoolean(getProperty("enableProxy"));
     }
 
+    /**
+     * Retrieves the maximum number of pooled API connections shared by all routes. Defaults to 100.
+     *
+     * @return The maximum total size of the API connection pool.
+     */
+    public static int getAPIPoolMaxTotal() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("apiPoolMaxTotal")).orElse("100"));
+    }
+
+    /**
+     * Retrieves the maximum number of pooled API connections per host. Defaults to 50.
+     *
+     * @return The maximum number of connections kept for a single host.
+     */
+    public static int getAPIPoolMaxPerRoute() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("apiPoolMaxPerRoute")).orElse("50"));
+    }
+
+    /**
+     * Retrieves the API connect timeout in milliseconds. Defaults to 30 seconds.
+     *
+     * @return The connect timeout in milliseconds.
+     */
+    public static int getAPIConnectTimeout() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("apiConnectTimeout")).orElse("30000"));
+    }
+
+    /**
+     * Retrieves the API socket (read) timeout in milliseconds. Defaults to 120 seconds.
+     *
+     * @return The socket timeout in milliseconds.
+     */
+    public static int getAPISocketTimeout() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("apiSocketTimeout")).orElse("120000"));
+    }
+
+    /**
+     * Retrieves the maximum number of asynchronous API requests sent to one host at the same time.
+     * Defaults to the per-host connection pool size.
+     *
+     * @return The per-host concurrency limit for asynchronous requests.
+     */
+    public static int getAPIMaxConcurrentRequestsPerHost() {
+        return Optional.ofNullable(getProperty("apiMaxConcurrentRequestsPerHost"))
+                .map(Integer::parseInt)
+                .orElse(getAPIPoolMaxPerRoute());
+    }
+
+    /**
+     * Retrieves whether WebUtils runs in fast mode: no element highlighting, the aware mode disabled once per page
+     * load on Chrome and Edge, and one element lookup per click. Defaults to the "headless" property.
+     *
+     * @return {@code true} if fast mode is enabled.
+     */
+    public static boolean getFastMode() {
+        return Optional.ofNullable(getProperty("fastMode")).map(Boolean::parseBoolean).orElseGet(PropertiesUtils::getHeadless);
+    }
+
+    /**
+     * Retrieves whether {@link WebUtils#fillFields(String, java.util.List)} sets a whole form section in one script
+     * instead of typing each field. Defaults to false.
+     *
+     * @return {@code true} if fast input is enabled.
+     */
+    public static boolean getFastInput() {
+        return Boolean.parseBoolean(getProperty("fastInput"));
+    }
+
+    /**
+     * Retrieves the comma-separated categories of network resources blocked in browser sessions
+     * (images, fonts, analytics, chat). Defaults to none.
+     *
+     * @return The network blocking profile.
+     */
+    public static String getNetworkBlockingProfile() {
+        return Optional.ofNullable(getProperty("networkBlockingProfile")).orElse("");
+    }
+
+    /**
+     * Retrieves the comma-separated extra URL patterns blocked in browser sessions. Defaults to none.
+     *
+     * @return The blocked URL patterns.
+     */
+    public static String getNetworkBlockedUrls() {
+        return Optional.ofNullable(getProperty("networkBlockedUrls")).orElse("");
+    }
+
+    /**
+     * Retrieves how long a resolved browser driver binary is reused before WebDriverManager resolves it again.
+     * Defaults to 24 hours.
+     *
+     * @return The driver cache time-to-live in hours.
+     */
+    public static long getDriverCacheTtlHours() {
+        return Long.parseLong(Optional.ofNullable(getProperty("driverCacheTtlHours")).orElse("24"));
+    }
+
+    /**
+     * Retrieves the maximum number of idle browser sessions kept for reuse. Defaults to 2.
+     *
+     * @return The maximum number of idle sessions in the browser pool.
+     */
+    public static int getBrowserPoolSize() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("browserPoolSize")).orElse("2"));
+    }
+
+    /**
+     * Retrieves the number of browser sessions pre-launched when the first web test starts. Defaults to 0.
+     *
+     * @return The number of sessions to pre-launch.
+     */
+    public static int getBrowserPoolWarmUp() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("browserPoolWarmUp")).orElse("0"));
+    }
+
+    /**
+     * Retrieves the number of test classes a browser session can serve before it is quit. Defaults to 10.
+     *
+     * @return The reuse budget of a browser session.
+     */
+    public static int getBrowserSessionReuseBudget() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("browserSessionReuseBudget")).orElse("10"));
+    }
+
+    /**
+     * Retrieves the number of test classes an Appium session can serve before it is quit. Defaults to 20.
+     *
+     * @return The reuse budget of a mobile session.
+     */
+    public static int getMobileSessionReuseBudget() {
+        return Integer.parseInt(Optional.ofNullable(getProperty("mobileSessionReuseBudget")).orElse("20"));
+    }
+
+    /**
+     * Retrieves the Android devices of the device pool, see {@link DevicePool}. Defaults to "androidEmulatorUdid".
+     *
+     * @return The comma-separated {@code udid|appiumUrl|systemPort} entries, or {@code null} if not set.
+     */
+    public static String getAndroidDevices() {
+        return getProperty("androidDevices");
+    }
+
+    /**
+     * Retrieves the iOS devices of the device pool, see {@link DevicePool}. Defaults to "iosSimulatorUdid".
+     *
+     * @return The comma-separated {@code udid|appiumUrl|wdaLocalPort} entries, or {@code null} if not set.
+     */
+    public static String getIOSDevices() {
+        return getProperty("iosDevices");
+    }
+
+    /**
+     * Retrieves how long a test class waits for a free device before failing. Defaults to 30 minutes.
+     *
+     * @return The device lease timeout in minutes.
+     */
+    public static long getDeviceLeaseTimeoutMinutes() {
+        return Long.parseLong(Optional.ofNullable(getProperty("deviceLeaseTimeoutMinutes")).orElse("30"));
+    }
+
     public static String getAndroidEmulatorUdid() {
         return getProperty("androidEmulatorUdid");
     }
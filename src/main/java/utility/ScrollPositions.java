@@ -0,0 +1,151 @@
+package utility;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers where the fields of mobile screens are, so that a field scrolled to once is reached again without a search.
+ * <p>
+ * A screen is the innermost page object on the call stack, e.g. {@code AndroidBaseProductScreen$ProductVariationScreen}.
+ * Each driver has a current position per screen, and each field a known position per screen and window size,
+ * set when it was found, so that devices with another layout do not share it. A page object that navigates to
+ * or opens a screen resets the current position of that screen, see {@link #resetScreen(WebDriver, Class)};
+ * nested screens do it when created, as their page object is created each time the screen is opened.
+ * What a position counts depends on the platform: {@link AndroidUtils} counts scroll gestures from the top of the screen,
+ * {@link IOSUtils} counts the scrolls performed on the screen, so that an unchanged position means the field is still
+ * in view. A position is {@code null} while it is unknown, e.g. after a scroll of unknown length.
+ */
+public class ScrollPositions {
+
+    private static final String PAGE_OBJECT_PACKAGE = "pages.";
+    private static final String NO_PAGE_OBJECT = "(no page object)";
+
+    private static final StackWalker stackWalker = StackWalker.getInstance();
+
+    // Position of each field found by scrolling, keyed by screen and window size then locator; shared by devices of the same size
+    private static final Map<Layout, Map<String, Integer>> knownPositions = new ConcurrentHashMap<>();
+
+    // Window size of each driver, read once
+    private static final Map<WebDriver, Dimension> windowSizes = new ConcurrentHashMap<>();
+
+    // Current position of each screen, per driver; a missing screen has not been scrolled and is at the top
+    private static final Map<WebDriver, Map<String, Position>> currentPositions = new ConcurrentHashMap<>();
+
+    /**
+     * Current position of a screen, which may be unknown.
+     *
+     * @param value The position, or {@code null} if unknown.
+     */
+    private record Position(Integer value) {
+    }
+
+    /**
+     * A screen as laid out on a window size.
+     *
+     * @param screen     The screen.
+     * @param windowSize The window size of the device.
+     */
+    private record Layout(String screen, Dimension windowSize) {
+    }
+
+    private ScrollPositions() {
+    }
+
+    /**
+     * Finds the screen the current thread is interacting with.
+     *
+     * @return The innermost page-object class on the call stack, or {@code (no page object)}.
+     */
+    public static String getScreen() {
+        return stackWalker.walk(frames -> frames
+                .map(StackWalker.StackFrame::getClassName)
+                .filter(className -> className.startsWith(PAGE_OBJECT_PACKAGE))
+                .findFirst()
+                .orElse(NO_PAGE_OBJECT));
+    }
+
+    /**
+     * Returns the position a field was last found at on a device of the same window size.
+     *
+     * @param driver  The driver.
+     * @param screen  The screen of the field.
+     * @param locator The locator of the field, as a string.
+     * @return The known position, or {@code null} if the field was never found by scrolling.
+     */
+    public static Integer getKnownPosition(WebDriver driver, String screen, String locator) {
+        return knownPositions.getOrDefault(getLayout(driver, screen), Map.of()).get(locator);
+    }
+
+    /**
+     * Records the position a field was found at.
+     *
+     * @param driver   The driver.
+     * @param screen   The screen of the field.
+     * @param locator  The locator of the field, as a string.
+     * @param position The position, ignored if {@code null}.
+     */
+    public static void remember(WebDriver driver, String screen, String locator, Integer position) {
+        if (position == null) return;
+        knownPositions.computeIfAbsent(getLayout(driver, screen), _ -> new ConcurrentHashMap<>()).put(locator, position);
+    }
+
+    /**
+     * Returns the current position of a screen of a driver.
+     *
+     * @param driver The driver.
+     * @param screen The screen.
+     * @return The position, {@code 0} if the screen was not scrolled, or {@code null} if unknown.
+     */
+    public static Integer getCurrentPosition(WebDriver driver, String screen) {
+        Position position = currentPositions.getOrDefault(driver, Map.of()).get(screen);
+        return position == null ? Integer.valueOf(0) : position.value();
+    }
+
+    /**
+     * Sets the current position of a screen of a driver.
+     *
+     * @param driver   The driver.
+     * @param screen   The screen.
+     * @param position The position, or {@code null} if it becomes unknown.
+     */
+    public static void setCurrentPosition(WebDriver driver, String screen, Integer position) {
+        currentPositions.computeIfAbsent(driver, _ -> new ConcurrentHashMap<>()).put(screen, new Position(position));
+    }
+
+    /**
+     * Forgets the current position of a screen and of the screens nested in its page object,
+     * which start again from the top once the screen is opened again.
+     *
+     * @param driver The driver.
+     * @param screen The page-object class of the screen.
+     */
+    public static void resetScreen(WebDriver driver, Class<?> screen) {
+        Map<String, Position> positions = currentPositions.get(driver);
+        if (positions == null) return;
+        positions.keySet().removeIf(name -> name.equals(screen.getName()) || name.startsWith(screen.getName() + "$"));
+    }
+
+    /**
+     * Forgets the current positions of a driver, whose screens start again from the top, e.g. after a relaunch.
+     *
+     * @param driver The driver.
+     */
+    public static void reset(WebDriver driver) {
+        currentPositions.remove(driver);
+        windowSizes.remove(driver);
+    }
+
+    /**
+     * Returns the layout of a screen on the window size of a driver.
+     *
+     * @param driver The driver.
+     * @param screen The screen.
+     * @return The {@link Layout}.
+     */
+    private static Layout getLayout(WebDriver driver, String screen) {
+        return new Layout(screen, windowSizes.computeIfAbsent(driver, _ -> driver.manage().window().getSize()));
+    }
+}
@@ -0,0 +1,94 @@
+package utility;
+
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Counts the WebDriver commands sent to the browser, per thread and per {@link WebUtils} action.
+ * <p>
+ * Drivers created by {@link WebDriverManager} report every command they execute, element commands included,
+ * through {@link WebDriverCommandRecorder}. Commands run on the calling thread, so an action measures its cost
+ * as the difference of the thread's counter before and after it, see {@link #count(String, Supplier)}.
+ */
+public class WebDriverCommandCounter {
+
+    // Commands executed by each thread
+    private static final ThreadLocal<long[]> threadCommands = ThreadLocal.withInitial(() -> new long[1]);
+
+    // Commands per action call, keyed by action
+    private static final Map<String, LongSummaryStatistics> actionStatistics = new ConcurrentHashMap<>();
+
+    private WebDriverCommandCounter() {
+    }
+
+    /**
+     * Records a command executed by the current thread.
+     */
+    static void increment() {
+        threadCommands.get()[0]++;
+    }
+
+    /**
+     * Returns the number of commands executed by the current thread so far.
+     *
+     * @return The command count.
+     */
+    public static long getCommandCount() {
+        return threadCommands.get()[0];
+    }
+
+    /**
+     * Runs an action and records the number of commands it sent.
+     *
+     * @param action The action name, e.g. {@code click}.
+     * @param body   The action.
+     * @param <T>    The result type of the action.
+     * @return The result of the action.
+     */
+    public static <T> T count(String action, Supplier<T> body) {
+        long before = getCommandCount();
+        try {
+            return body.get();
+        } finally {
+            long commands = getCommandCount() - before;
+            actionStatistics.compute(action, (_, statistics) -> {
+                LongSummaryStatistics updated = statistics == null ? new LongSummaryStatistics() : statistics;
+                updated.accept(commands);
+                return updated;
+            });
+        }
+    }
+
+    /**
+     * Runs an action without result and records the number of commands it sent.
+     *
+     * @param action The action name, e.g. {@code click}.
+     * @param body   The action.
+     */
+    public static void count(String action, Runnable body) {
+        count(action, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * Returns the number of commands per action call recorded so far.
+     *
+     * @return A snapshot of the statistics, sorted by action.
+     */
+    public static Map<String, LongSummaryStatistics> getStatistics() {
+        Map<String, LongSummaryStatistics> snapshot = new TreeMap<>();
+        actionStatistics.keySet().forEach(action -> actionStatistics.computeIfPresent(action, (_, statistics) -> {
+            // Copy under the entry lock, the recorded statistics keep changing
+            LongSummaryStatistics copy = new LongSummaryStatistics();
+            copy.combine(statistics);
+            snapshot.put(action, copy);
+            return statistics;
+        }));
+        return snapshot;
+    }
+}
@@ -0,0 +1,221 @@
+package utility;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.CommandPayload;
+import org.openqa.selenium.remote.Response;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Records every WebDriver command with its latency, the page-object method that sent it and the running test.
+ * <p>
+ * Web, Android and iOS drivers created by {@link WebDriverManager} pass each command, element commands included,
+ * through {@link #record(CommandPayload, Function)}. Listeners mark the running test with {@link #startTest(String)}
+ * and {@link #endTest()}; commands sent outside a test, e.g. by {@code @BeforeClass} methods, are grouped under
+ * {@code (configuration)}. At the end of the suite, {@link #getReport()} returns the commands and page-object methods
+ * with the highest cumulative time and the round trips of each test, which {@link #writeReport()} saves as JSON.
+ */
+public class WebDriverCommandRecorder {
+
+    private static final Logger logger = LogManager.getLogger();
+    private static final Path REPORT_FILE = Path.of(System.getProperty("user.dir"), "target", "webdriver-hotspots.json");
+    private static final String CONFIGURATION = "(configuration)";
+    private static final String NO_PAGE_OBJECT = "(no page object)";
+    private static final String PAGE_OBJECT_PACKAGE = "pages.";
+    private static final int TOP_HOTSPOTS = 10;
+
+    private static final StackWalker stackWalker = StackWalker.getInstance();
+
+    // Cumulative latency, keyed by command name, by page-object method and by test
+    private static final Map<String, CommandStatistics> commandStatistics = new ConcurrentHashMap<>();
+    private static final Map<String, CommandStatistics> pageMethodStatistics = new ConcurrentHashMap<>();
+    private static final Map<String, CommandStatistics> testStatistics = new ConcurrentHashMap<>();
+
+    // Test running on each thread and the commands it sent so far
+    private static final ThreadLocal<TestRun> currentTest = new ThreadLocal<>();
+
+    /**
+     * Number of commands and their latency, summed over the commands of a group.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class CommandStatistics {
+        private long calls;
+        private long totalNanos;
+        private long maxNanos;
+
+        /**
+         * @param other The statistics to add.
+         * @return New statistics with the sum of both.
+         */
+        private CommandStatistics plus(CommandStatistics other) {
+            return new CommandStatistics(calls + other.calls, totalNanos + other.totalNanos, Math.max(maxNanos, other.maxNanos));
+        }
+    }
+
+    /**
+     * A command or page-object method and its cumulative time, as reported.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Hotspot {
+        private String name;
+        private long calls;
+        private long totalMillis;
+        private double averageMillis;
+        private long maxMillis;
+    }
+
+    /**
+     * Where the WebDriver time of the suite went.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class HotspotReport {
+        private List<Hotspot> topCommands;        // Commands with the highest cumulative time
+        private List<Hotspot> topPageMethods;     // Page-object methods with the highest cumulative command time
+        private Map<String, Long> roundTripsPerTest;
+    }
+
+    /**
+     * The commands sent by the test running on a thread.
+     */
+    private static class TestRun {
+        private final String name;
+        private CommandStatistics statistics = new CommandStatistics(0, 0, 0);
+
+        private TestRun(String name) {
+            this.name = name;
+        }
+    }
+
+    private WebDriverCommandRecorder() {
+    }
+
+    /**
+     * Executes a command and records its latency.
+     *
+     * @param payload  The command.
+     * @param executor The driver method that sends the command.
+     * @return The response of the driver.
+     */
+    static Response record(CommandPayload payload, Function<CommandPayload, Response> executor) {
+        WebDriverCommandCounter.increment();
+        long startTime = System.nanoTime();
+        try {
+            return executor.apply(payload);
+        } finally {
+            long nanos = System.nanoTime() - startTime;
+            CommandStatistics command = new CommandStatistics(1, nanos, nanos);
+            commandStatistics.merge(payload.getName(), command, CommandStatistics::plus);
+            pageMethodStatistics.merge(findPageMethod(), command, CommandStatistics::plus);
+
+            TestRun testRun = currentTest.get();
+            if (testRun != null) {
+                testRun.statistics = testRun.statistics.plus(command);
+            } else {
+                testStatistics.merge(CONFIGURATION, command, CommandStatistics::plus);
+            }
+        }
+    }
+
+    /**
+     * Marks the start of a test on the current thread.
+     *
+     * @param testName The test name the commands are grouped by.
+     */
+    public static void startTest(String testName) {
+        currentTest.set(new TestRun(testName));
+    }
+
+    /**
+     * Marks the end of the test running on the current thread.
+     *
+     * @return The commands sent by the test, or {@code null} if no test was started.
+     */
+    public static CommandStatistics endTest() {
+        TestRun testRun = currentTest.get();
+        if (testRun == null) return null;
+
+        currentTest.remove();
+        testStatistics.merge(testRun.name, testRun.statistics, CommandStatistics::plus);
+        return testRun.statistics;
+    }
+
+    /**
+     * Returns the commands and page-object methods with the highest cumulative time and the round trips of each test.
+     *
+     * @return A {@link HotspotReport} of the commands recorded so far.
+     */
+    public static HotspotReport getReport() {
+        Map<String, Long> roundTripsPerTest = new TreeMap<>();
+        testStatistics.forEach((test, statistics) -> roundTripsPerTest.put(test, statistics.getCalls()));
+        return new HotspotReport(getTopHotspots(commandStatistics), getTopHotspots(pageMethodStatistics), roundTripsPerTest);
+    }
+
+    /**
+     * Saves the report as JSON to {@code target/webdriver-hotspots.json}.
+     *
+     * @return The path of the report, or {@code null} if it cannot be written.
+     */
+    public static Path writeReport() {
+        try {
+            Files.createDirectories(REPORT_FILE.getParent());
+            Files.writeString(REPORT_FILE, new Json().toJson(getReport()));
+            return REPORT_FILE;
+        } catch (IOException e) {
+            logger.warn("Failed to write WebDriver hotspot report {}: {}", REPORT_FILE, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Sorts the statistics of a group by cumulative time.
+     *
+     * @param statistics The statistics, keyed by name.
+     * @return The 10 entries with the highest cumulative time.
+     */
+    private static List<Hotspot> getTopHotspots(Map<String, CommandStatistics> statistics) {
+        return Map.copyOf(statistics).entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, CommandStatistics> entry) -> entry.getValue().getTotalNanos()).reversed())
+                .limit(TOP_HOTSPOTS)
+                .map(entry -> new Hotspot(entry.getKey(),
+                        entry.getValue().getCalls(),
+                        entry.getValue().getTotalNanos() / 1_000_000,
+                        entry.getValue().getTotalNanos() / 1_000_000.0 / entry.getValue().getCalls(),
+                        entry.getValue().getMaxNanos() / 1_000_000))
+                .toList();
+    }
+
+    /**
+     * Finds the innermost page-object method on the call stack of the current thread.
+     *
+     * @return The method as {@code ClassName.methodName}, or {@code (no page object)} if the command was sent directly.
+     */
+    private static String findPageMethod() {
+        return stackWalker.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(PAGE_OBJECT_PACKAGE))
+                .findFirst()
+                .map(frame -> {
+                    String className = frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1);
+                    // Name lambdas after the method that declares them, e.g. lambda$selectBranch$0
+                    String methodName = frame.getMethodName().startsWith("lambda$")
+                            ? frame.getMethodName().split("\\$")[1]
+                            : frame.getMethodName();
+                    return className + "." + methodName;
+                })
+                .orElse(NO_PAGE_OBJECT));
+    }
+}
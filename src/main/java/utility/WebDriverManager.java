@@ -5,9 +5,11 @@ import io.appium.java_client.android.options.UiAutomator2Options;
 import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.ios.options.XCUITestOptions;
 import org.apache.logging.log4j.LogManager;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
@@ -15,32 +17,35 @@ import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.logging.LogEntries;
 import org.openqa.selenium.logging.LogEntry;
 import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.remote.CommandPayload;
+import org.openqa.selenium.remote.Response;
 import org.openqa.selenium.safari.SafariDriver;
 
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Map;
 
 /**
  * WebDriverManager is a utility class for setting up and managing different types of WebDriver instances
  * for browser and mobile testing.
  */
 public class WebDriverManager {
-    public static String appBundleId;
-    private static final String url = "http://127.0.0.1:4723/wd/hub";
 
     /**
      * Initializes and returns an AndroidDriver instance.
      *
-     * @param udid    The unique device identifier.
+     * @param device  The device to run on, with its Appium server and UiAutomator2 system port.
      * @param appPath The path to the app to be tested.
      * @return An instance of AndroidDriver.
      * @throws MalformedURLException If the URL is malformed.
      * @throws URISyntaxException    If the URI syntax is incorrect.
      */
-    public static AndroidDriver getAndroidDriver(String udid, String appPath) throws MalformedURLException, URISyntaxException {
+    public static AndroidDriver getAndroidDriver(DevicePool.Device device, String appPath) throws MalformedURLException, URISyntaxException {
         UiAutomator2Options options = new UiAutomator2Options();
-        options.setUdid(udid);
+        options.setUdid(device.getUdid());
+        // Each device needs its own port on the Appium host to run in parallel
+        if (device.getPort() != null) options.setCapability("appium:systemPort", device.getPort());
         options.setCapability("platformName", "Android");
         options.setCapability("appium:automationName", "uiautomator2");
         options.setCapability("appium:autoGrantPermissions", "true");
@@ -53,26 +58,29 @@ public class WebDriverManager {
         options.setCapability("appium:adbExecTimeout", 500_000);
         options.setCapability("appium:app", appPath);
 
-        AndroidDriver driver = new AndroidDriver(new URI(url).toURL(), options);
-        appBundleId = driver.getCurrentPackage();
-        LogManager.getLogger().info("Android app bundle ID: {}", appBundleId);
-        return driver;
+        return new AndroidDriver(new URI(device.getAppiumUrl()).toURL(), options) {
+            @Override
+            protected Response execute(CommandPayload payload) {
+                PageSourceSnapshot.invalidate(this, payload);
+                return WebDriverCommandRecorder.record(payload, super::execute);
+            }
+        };
     }
 
     /**
      * Initializes and returns an IOSDriver instance.
-     * It also attempts to extract the app's bundle ID from the Appium server logs
-     * if the app is already installed on the device.
      *
-     * @param udid    The unique device identifier.
+     * @param device  The device to run on, with its Appium server and WebDriverAgent port.
      * @param appPath The path to the app to be tested.
      * @return An instance of IOSDriver.
      * @throws MalformedURLException If the URL is malformed.
      * @throws URISyntaxException    If the URI syntax is incorrect.
      */
-    public static IOSDriver getIOSDriver(String udid, String appPath) throws MalformedURLException, URISyntaxException {
+    public static IOSDriver getIOSDriver(DevicePool.Device device, String appPath) throws MalformedURLException, URISyntaxException {
         XCUITestOptions options = new XCUITestOptions();
-        options.setCapability("appium:udid", udid);
+        options.setCapability("appium:udid", device.getUdid());
+        // Each device needs its own WebDriverAgent port on the Appium host to run in parallel
+        if (device.getPort() != null) options.setCapability("appium:wdaLocalPort", device.getPort());
         options.setCapability("platformName", "iOS");
         options.setCapability("appium:newCommandTimeout", 500_000);
         options.setCapability("appium:wdaLaunchTimeout", 500_000);
@@ -80,59 +88,133 @@ public class WebDriverManager {
         options.setCapability("appium:automationName", "XCUITest");
         options.setCapability("appium:app", appPath);
 
-        IOSDriver driver = new IOSDriver(new URI(url).toURL(), options);
-        LogEntries serverLogs = driver.manage().logs().get(LogType.SERVER);
-        for (LogEntry log : serverLogs) {
-            if (log.getMessage().contains("CFBundleIdentifier: ")) {
-                appBundleId = log.getMessage().split("\"")[1];
-                break;
+        return new IOSDriver(new URI(device.getAppiumUrl()).toURL(), options) {
+            @Override
+            protected Response execute(CommandPayload payload) {
+                PageSourceSnapshot.invalidate(this, payload);
+                return WebDriverCommandRecorder.record(payload, super::execute);
             }
-        }
+        };
+    }
 
-        LogManager.getLogger().info("IOS app bundle ID: {}", appBundleId);
-        return driver;
+    /**
+     * Retrieves the bundle ID of the app under test of a mobile driver.
+     * On Android it is the current package; on iOS it is extracted from the Appium server logs
+     * if the app is already installed on the device.
+     *
+     * @param driver The Android or iOS driver, right after the session is created.
+     * @return The app bundle ID, or {@code null} if it cannot be found.
+     */
+    public static String getAppBundleId(WebDriver driver) {
+        String appBundleId = null;
+        if (driver instanceof AndroidDriver androidDriver) {
+            appBundleId = androidDriver.getCurrentPackage();
+            LogManager.getLogger().info("Android app bundle ID: {}", appBundleId);
+        } else if (driver instanceof IOSDriver iosDriver) {
+            LogEntries serverLogs = iosDriver.manage().logs().get(LogType.SERVER);
+            for (LogEntry log : serverLogs) {
+                if (log.getMessage().contains("CFBundleIdentifier: ")) {
+                    appBundleId = log.getMessage().split("\"")[1];
+                    break;
+                }
+            }
+            LogManager.getLogger().info("IOS app bundle ID: {}", appBundleId);
+        }
+        return appBundleId;
     }
 
     /**
      * Initializes and returns a WebDriver instance for the specified browser.
+     * The driver binary is resolved once per JVM, see {@link DriverBinaryCache},
+     * and resolved again once if the browser rejects it, e.g. after a browser update.
+     * The commands sent by the driver are recorded by {@link WebDriverCommandRecorder}.
      *
      * @return An instance of WebDriver for the specified browser.
      */
     public static WebDriver getWebDriver() {
         WebDriver driver;
         boolean headless = PropertiesUtils.getHeadless();
-        switch (PropertiesUtils.getBrowser()) {
+        String browser = PropertiesUtils.getBrowser();
+        DriverBinaryCache.resolve(browser);
+        try {
+            driver = createWebDriver(browser, headless);
+        } catch (SessionNotCreatedException e) {
+            LogManager.getLogger().warn("Failed to start {} with the cached driver, resolving it again: {}", browser, e.getMessage());
+            DriverBinaryCache.invalidate(browser);
+            DriverBinaryCache.resolve(browser);
+            driver = createWebDriver(browser, headless);
+        }
+
+        NetworkProfile.apply(driver);
+
+        // Track fetch/XHR requests from the start of every page, see WebUtils#waitForNetworkIdle
+        if (driver instanceof ChromiumDriver chromiumDriver) {
+            chromiumDriver.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", WebUtils.NETWORK_TRACKER_SCRIPT));
+
+            // In fast mode, disable the aware mode once per page load instead of before every element lookup
+            if (PropertiesUtils.getFastMode()) {
+                chromiumDriver.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", WebUtils.AWARE_MODE_SCRIPT));
+            }
+        }
+        driver.manage().window().maximize();
+        return driver;
+    }
+
+    /**
+     * Starts a browser session with the driver binary currently resolved.
+     *
+     * @param browser  The browser name.
+     * @param headless Whether the browser runs headless.
+     * @return The new driver.
+     */
+    private static WebDriver createWebDriver(String browser, boolean headless) {
+        WebDriver driver;
+        switch (browser) {
             case "firefox" -> {
-                io.github.bonigarcia.wdm.WebDriverManager.firefoxdriver().setup();
                 FirefoxOptions firefoxOptions = new FirefoxOptions();
                 if (headless) firefoxOptions.addArguments("--headless");
                 firefoxOptions.addArguments("--no-sandbox");
-                driver = new FirefoxDriver(firefoxOptions);
+                driver = new FirefoxDriver(firefoxOptions) {
+                    @Override
+                    protected Response execute(CommandPayload payload) {
+                        return WebDriverCommandRecorder.record(payload, super::execute);
+                    }
+                };
             }
             case "edge" -> {
-                io.github.bonigarcia.wdm.WebDriverManager.edgedriver().setup();
                 EdgeOptions edgeOptions = new EdgeOptions();
                 if (headless) edgeOptions.addArguments("--headless");
                 edgeOptions.addArguments("--no-sandbox");
-                driver = new EdgeDriver(edgeOptions);
+                driver = new EdgeDriver(edgeOptions) {
+                    @Override
+                    protected Response execute(CommandPayload payload) {
+                        return WebDriverCommandRecorder.record(payload, super::execute);
+                    }
+                };
             }
             case "safari" -> {
-                io.github.bonigarcia.wdm.WebDriverManager.safaridriver().setup();
-                driver = new SafariDriver();
+                driver = new SafariDriver() {
+                    @Override
+                    protected Response execute(CommandPayload payload) {
+                        return WebDriverCommandRecorder.record(payload, super::execute);
+                    }
+                };
             }
             default -> {
-                io.github.bonigarcia.wdm.WebDriverManager.chromedriver().setup();
                 ChromeOptions chromeOptions = new ChromeOptions();
                 if (headless) chromeOptions.addArguments("--headless");
                 chromeOptions.addArguments("--disable-site-isolation-trials");
                 chromeOptions.addArguments("--disable-dev-shm-usage");
                 chromeOptions.addArguments("--remote-allow-origins=*");
                 chromeOptions.addArguments("--no-sandbox");
-                driver = new ChromeDriver(chromeOptions);
+                driver = new ChromeDriver(chromeOptions) {
+                    @Override
+                    protected Response execute(CommandPayload payload) {
+                        return WebDriverCommandRecorder.record(payload, super::execute);
+                    }
+                };
             }
         }
-
-        driver.manage().window().maximize();
         return driver;
     }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package utility;
 
+import lombok.AllArgsConstructor;
+import lombok.Data;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
+import org.openqa.selenium.chromium.ChromiumDriver;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -11,8 +14,12 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * Utility class providing common methods for interacting with web elements
@@ -24,10 +31,103 @@ public class WebUtils {
 
     protected static final int DEFAULT_TIMEOUT_SECONDS = 10;
     protected static final int SHORT_TIMEOUT_MS = 3000;
+    protected static final int NETWORK_IDLE_QUIET_MS = 500;
+    protected static final int NETWORK_REQUEST_START_MS = 1500;
+
+    /**
+     * Disables the aware mode of the dashboard, which interferes with element interactions.
+     */
+    public static final String AWARE_MODE_SCRIPT = "try { localStorage.setItem('awareMode', '0'); } catch (e) {}";
+
+    // Sets the value of each input through the native setter, so React sees the change, then notifies the form
+    private static final String SET_FIELD_VALUES_SCRIPT = """
+            const [elements, values] = arguments;
+            elements.forEach((element, index) => {
+                const prototype = element instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;
+                Object.getOwnPropertyDescriptor(prototype, 'value').set.call(element, values[index]);
+                element.dispatchEvent(new Event('input', {bubbles: true}));
+                element.dispatchEvent(new Event('change', {bubbles: true}));
+                element.dispatchEvent(new FocusEvent('focusout', {bubbles: true}));
+                element.dispatchEvent(new FocusEvent('blur'));
+            });
+            """;
+
+    // Text of an element as WebElement.getText() returns it: empty when hidden, trimmed, non-breaking spaces as spaces
+    private static final String TEXT_OF_ELEMENT =
+            "(element.getClientRects().length ? element.innerText : '').replace(/\\u00a0/g, ' ').trim()";
+
+    /**
+     * Counts the fetch and XHR requests sent and in flight and the time of the last request activity,
+     * and records the responses matching the capture rules set by {@link #captureResponses(String, String)}.
+     * Captured responses are kept in sessionStorage, so they survive a navigation within the tab.
+     * Installed on every new document of Chromium sessions (see {@link WebDriverManager#getWebDriver()}),
+     * and on the current page by {@link #waitForNetworkIdle(int, int)} and {@link #captureResponses(String, String)}
+     * for other browsers.
+     */
+    public static final String NETWORK_TRACKER_SCRIPT = """
+            if (!window.__networkTracker) {
+                const tracker = window.__networkTracker = {
+                    sent: 0, inFlight: 0, lastActivity: Date.now(), resources: performance.getEntriesByType('resource').length
+                };
+                const start = () => { tracker.sent++; tracker.inFlight++; tracker.lastActivity = Date.now(); };
+                const end = () => { tracker.inFlight = Math.max(0, tracker.inFlight - 1); tracker.lastActivity = Date.now(); };
+                const record = (method, url, status, body) => {
+                    const rules = JSON.parse(sessionStorage.getItem('__captureRules') || '[]');
+                    method = String(method).toUpperCase();
+                    if (!rules.some(rule => rule.method === method && new RegExp(rule.url).test(url))) return;
+                    const captured = JSON.parse(sessionStorage.getItem('__capturedResponses') || '[]');
+                    captured.push({method, url, status, body});
+                    sessionStorage.setItem('__capturedResponses', JSON.stringify(captured));
+                };
+                const originalFetch = window.fetch;
+                if (originalFetch) {
+                    window.fetch = function (input, init) {
+                        start();
+                        const method = (init && init.method) || (input && input.method) || 'GET';
+                        const url = typeof input === 'string' ? input : (input && input.url) || String(input);
+                        return originalFetch.apply(this, arguments)
+                            .then(response => {
+                                response.clone().text().then(body => record(method, url, response.status, body)).catch(() => {});
+                                return response;
+                            })
+                            .finally(end);
+                    };
+                }
+                const originalOpen = XMLHttpRequest.prototype.open;
+                XMLHttpRequest.prototype.open = function (method, url) {
+                    this.__request = {method, url: String(url)};
+                    return originalOpen.apply(this, arguments);
+                };
+                const originalSend = XMLHttpRequest.prototype.send;
+                XMLHttpRequest.prototype.send = function () {
+                    start();
+                    this.addEventListener('loadend', () => {
+                        end();
+                        if (!this.__request) return;
+                        let body = '';
+                        try {
+                            body = this.responseType === '' || this.responseType === 'text' ? this.responseText : JSON.stringify(this.response);
+                        } catch (e) {
+                        }
+                        record(this.__request.method, this.__request.url, this.status, body);
+                    }, {once: true});
+                    return originalSend.apply(this, arguments);
+                };
+            }
+            """;
 
     protected WebDriver driver;
     protected WebDriverWait wait;
 
+    // Fast mode skips highlighting and reuses the located element across the steps of a click
+    private final boolean fastMode;
+
+    // The aware mode is disabled on every page load by the driver (Chromium in fast mode)
+    private final boolean awareModeDisabledOnLoad;
+
+    // Form sections are set in one script, see fillFields
+    private final boolean fastInput;
+
     /**
      * Constructs a WebUtils object with the specified WebDriver.
      *
@@ -36,6 +136,9 @@ public class WebUtils {
     public WebUtils(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS));
+        this.fastMode = PropertiesUtils.getFastMode();
+        this.awareModeDisabledOnLoad = fastMode && driver instanceof ChromiumDriver;
+        this.fastInput = PropertiesUtils.getFastInput();
     }
 
 
@@ -154,6 +257,106 @@ public class WebUtils {
         return null;
     }
 
+    /**
+     * Waits until the page has no fetch or XHR request in flight and no request activity for a quiet period.
+     * Use it instead of a fixed sleep after an action that calls the backend, so the step returns as soon as
+     * the app is quiet. On timeout, a warning is logged and the test continues, like a fixed sleep would.
+     * <p>
+     * The page is idle as soon as its last request is older than the quiet period, so an action whose request
+     * is debounced must use {@link #waitForNetworkIdle(long)} instead.
+     * When the tracker is installed by this wait (browsers other than Chromium), requests sent before are not
+     * counted, their completion is detected from the resource timing entries instead.
+     *
+     * @param quietMillis   The time without request activity that counts as idle, in milliseconds.
+     * @param timeoutMillis The maximum time to wait, in milliseconds.
+     */
+    public void waitForNetworkIdle(int quietMillis, int timeoutMillis) {
+        long startTime = System.currentTimeMillis();
+        try {
+            getWait(timeoutMillis).until(_ -> {
+                @SuppressWarnings("unchecked")
+                List<Object> state = (List<Object>) ((JavascriptExecutor) driver).executeScript(NETWORK_TRACKER_SCRIPT + """
+                        const tracker = window.__networkTracker;
+                        const resources = performance.getEntriesByType('resource').length;
+                        if (resources !== tracker.resources) {
+                            tracker.resources = resources;
+                            tracker.lastActivity = Date.now();
+                        }
+                        return [tracker.inFlight, Date.now() - tracker.lastActivity, document.readyState];
+                        """);
+                return ((Number) state.get(0)).longValue() == 0
+                        && ((Number) state.get(1)).longValue() >= quietMillis
+                        && "complete".equals(state.get(2));
+            });
+            logger.debug("Network idle after {} ms", System.currentTimeMillis() - startTime);
+        } catch (TimeoutException ex) {
+            logger.warn("Network still busy after {} ms, continuing.", timeoutMillis);
+        }
+    }
+
+    /**
+     * Waits until the page network is idle for {@value #NETWORK_IDLE_QUIET_MS} ms, for up to the default timeout.
+     */
+    public void waitForNetworkIdle() {
+        waitForNetworkIdle(NETWORK_IDLE_QUIET_MS, DEFAULT_TIMEOUT_SECONDS * 1000);
+    }
+
+    /**
+     * Waits up to {@value #NETWORK_REQUEST_START_MS} ms for the page to send a request after
+     * {@link #getNetworkRequestCount()} was read, then until its network is idle for {@value #NETWORK_IDLE_QUIET_MS} ms,
+     * for up to the default timeout. Use it after an action whose request is sent later, e.g. a debounced suggestion lookup.
+     * An action that sends no request only costs the short wait for the request.
+     *
+     * @param requestCount The request count read before the action.
+     */
+    public void waitForNetworkIdle(long requestCount) {
+        if (waitForCondition(_ -> getNetworkRequestCount() > requestCount, NETWORK_REQUEST_START_MS) == null) {
+            logger.debug("No request sent within {} ms.", NETWORK_REQUEST_START_MS);
+        }
+        waitForNetworkIdle(NETWORK_IDLE_QUIET_MS, DEFAULT_TIMEOUT_SECONDS * 1000);
+    }
+
+    /**
+     * Returns the number of fetch and XHR requests sent by the current page, installing the tracker if needed.
+     * Read it before an action, then pass it to {@link #waitForNetworkIdle(long)}.
+     *
+     * @return The number of requests sent since the tracker was installed on the page.
+     */
+    public long getNetworkRequestCount() {
+        return ((Number) ((JavascriptExecutor) driver).executeScript(NETWORK_TRACKER_SCRIPT + """
+                return window.__networkTracker.sent;
+                """)).longValue();
+    }
+
+    /**
+     * Starts recording the responses of the requests matching a method and URL pattern, and forgets the responses
+     * captured before. Call it right before the action that sends the request.
+     *
+     * @param method   The HTTP method, e.g. {@code POST}.
+     * @param urlRegex A regular expression found in the request URL, e.g. {@code /itemservice/api/suppliers(\?|$)}.
+     */
+    public void captureResponses(String method, String urlRegex) {
+        ((JavascriptExecutor) driver).executeScript(NETWORK_TRACKER_SCRIPT + """
+                sessionStorage.setItem('__captureRules', JSON.stringify([{method: arguments[0], url: arguments[1]}]));
+                sessionStorage.removeItem('__capturedResponses');
+                """, method.toUpperCase(), urlRegex);
+    }
+
+    /**
+     * Waits for the first successful response captured since {@link #captureResponses(String, String)}.
+     *
+     * @param timeoutMillis The maximum time to wait, in milliseconds.
+     * @return The response body, or an empty {@link Optional} if no successful response was captured in time.
+     */
+    public Optional<String> waitForCapturedResponse(int timeoutMillis) {
+        String body = waitForCondition(_ -> (String) ((JavascriptExecutor) driver).executeScript("""
+                const captured = JSON.parse(sessionStorage.getItem('__capturedResponses') || '[]');
+                const response = captured.find(entry => entry.status >= 200 && entry.status < 300);
+                return response ? response.body : null;
+                """), timeoutMillis);
+        return Optional.ofNullable(body);
+    }
+
     /**
      * Pauses the current thread for the specified duration.
      * <p>
@@ -233,7 +436,7 @@ public class WebUtils {
         // Determine the wait time, using the provided timeout or defaulting to 3000 ms
         int waitTime = (milliseconds.length != 0) ? milliseconds[0] : 3000;
 
-        ((JavascriptExecutor) driver).executeScript("localStorage.setItem('awareMode', '0')");
+        disableAwareMode();
 
         // Wait for the presence of at least one element matching the locator
         var result = waitForCondition(ExpectedConditions.presenceOfElementLocated(locator), waitTime);
@@ -264,7 +467,7 @@ public class WebUtils {
      * @return The WebElement.
      */
     public WebElement getElement(By locator, int index) {
-        ((JavascriptExecutor) driver).executeScript("localStorage.setItem('awareMode', '0')");
+        disableAwareMode();
         return retryOnStaleElement(() -> wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator)).get(index));
     }
 
@@ -300,17 +503,53 @@ public class WebUtils {
      * @throws StaleElementReferenceException If the element is no longer attached to the DOM when trying to click.
      */
     public void click(By locator, int index) {
-        // Ensure that at least one element is found
-        elementToBeClickable(locator, index);
+        WebDriverCommandCounter.count("click", () -> {
+            if (fastMode) {
+                clickFast(locator, index);
+                return;
+            }
 
-        // Highlight the element by adding a red border
-        highlightElement(locator, index);
+            // Ensure that at least one element is found
+            elementToBeClickable(locator, index);
 
-        // Wait for the element to be clickable
-        waitElementVisible(locator, index);
+            // Highlight the element by adding a red border
+            highlightElement(locator, index);
+
+            // Wait for the element to be clickable
+            waitElementVisible(locator, index);
 
-        // Retry to click the element
-        retryOnStaleElement(() -> retryOnClickIntercepted(locator, index));
+            // Retry to click the element
+            retryOnStaleElement(() -> retryOnClickIntercepted(locator, index));
+        });
+    }
+
+    /**
+     * Clicks a web element in fast mode: the element is located once and reused
+     * for the clickability check and the click, and it is not highlighted.
+     *
+     * @param locator The By locator used to find the web element on the page.
+     * @param index   The index of the element to be clicked if multiple elements match the locator.
+     */
+    private void clickFast(By locator, int index) {
+        retryOnStaleElement(() -> {
+            WebElement element = getElement(locator, index);
+            wait.until(ExpectedConditions.elementToBeClickable(element));
+            try {
+                element.click();
+            } catch (ElementClickInterceptedException ex) {
+                // If click is intercepted, perform the click using JavaScript
+                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+            }
+        });
+    }
+
+    /**
+     * Disables the aware mode before an element lookup, unless the driver already does it on every page load.
+     */
+    private void disableAwareMode() {
+        if (!awareModeDisabledOnLoad) {
+            ((JavascriptExecutor) driver).executeScript(AWARE_MODE_SCRIPT);
+        }
     }
 
     /**
@@ -361,13 +600,15 @@ public class WebUtils {
      *                Use 0 to click the first element.
      */
     public void clickJS(By locator, int index) {
-        // Highlight the element
-        highlightElement(locator, index);
-
-        // Retry click element by JavaScripts
-        retryOnStaleElement(() -> {
-            // Perform click using JavaScript
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click()", getElement(locator, index));
+        WebDriverCommandCounter.count("clickJS", () -> {
+            // Highlight the element
+            if (!fastMode) highlightElement(locator, index);
+
+            // Retry click element by JavaScripts
+            retryOnStaleElement(() -> {
+                // Perform click using JavaScript
+                ((JavascriptExecutor) driver).executeScript("arguments[0].click()", getElement(locator, index));
+            });
         });
     }
 
@@ -410,14 +651,85 @@ public class WebUtils {
      *                that can be converted to a string.
      */
     public void sendKeys(By locator, int index, Object content) {
-        retryUntil(5, 0, "Cannot input to field after 5 attempts",
-                () -> elementTextMatches(locator, index, getContent(content)),
-                () -> {
-                    clear(locator, index);
-                    click(locator, index);
-                    retryOnStaleElement(() -> retrySendKeysOnElementNotInteractable(locator, index, getContent(content)));
-                });
-        clickOutOfTextBox(locator, index);
+        WebDriverCommandCounter.count("sendKeys", () -> {
+            retryUntil(5, 0, "Cannot input to field after 5 attempts",
+                    () -> elementTextMatches(locator, index, getContent(content)),
+                    () -> {
+                        clear(locator, index);
+                        click(locator, index);
+                        retryOnStaleElement(() -> retrySendKeysOnElementNotInteractable(locator, index, getContent(content)));
+                    });
+            clickOutOfTextBox(locator, index);
+        });
+    }
+
+    /**
+     * An input field of a form section and the content to enter.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class FieldInput {
+        private By locator;
+        private int index;
+        private Object content;
+
+        /**
+         * @param locator The {@link By} locator of the input field.
+         * @param content The content to enter.
+         */
+        public FieldInput(By locator, Object content) {
+            this(locator, 0, content);
+        }
+    }
+
+    /**
+     * Enters the content of every input field of a form section.
+     * <p>
+     * With the {@code fastInput} property, all fields are set in one script through the native value setters,
+     * which controlled React inputs observe, followed by input, change and blur events. The section is then
+     * read back once, and the fields whose value does not match are typed with {@link #sendKeys(By, int, Object)}.
+     * Otherwise, every field is typed with {@link #sendKeys(By, int, Object)}.
+     *
+     * @param section The section name, for logging.
+     * @param fields  The input fields and their content.
+     */
+    public void fillFields(String section, List<FieldInput> fields) {
+        if (fields.isEmpty()) return;
+        if (!fastInput) {
+            fields.forEach(field -> sendKeys(field.getLocator(), field.getIndex(), field.getContent()));
+            return;
+        }
+
+        WebDriverCommandCounter.count("fillFields", () -> {
+            List<FieldInput> mismatchedFields = retryOnStaleElement(() -> {
+                // One lookup per locator, the fields of a section share a few locators
+                Map<By, List<WebElement>> elementsByLocator = new HashMap<>();
+                List<WebElement> elements = fields.stream().map(field -> {
+                    List<WebElement> matches = elementsByLocator.computeIfAbsent(field.getLocator(), this::getListElement);
+                    if (field.getIndex() >= matches.size()) {
+                        throw new NoSuchElementException("[%s] Field not found: %s, index %d".formatted(section, field.getLocator(), field.getIndex()));
+                    }
+                    return matches.get(field.getIndex());
+                }).toList();
+                List<String> values = fields.stream().map(field -> getContent(field.getContent()).toString()).toList();
+
+                JavascriptExecutor jsExecutor = (JavascriptExecutor) driver;
+                jsExecutor.executeScript(SET_FIELD_VALUES_SCRIPT, elements, values);
+
+                // Read back once the form has re-rendered, formatted numbers compare equal, e.g. 1,000 and 1000
+                @SuppressWarnings("unchecked")
+                List<String> actualValues = (List<String>) jsExecutor.executeScript("return arguments[0].map(element => element.value);", elements);
+                return IntStream.range(0, fields.size())
+                        .filter(index -> !compareStringsIgnoreCase(values.get(index), actualValues.get(index)))
+                        .mapToObj(fields::get)
+                        .toList();
+            });
+
+            if (!mismatchedFields.isEmpty()) {
+                logger.warn("[{}] {} of {} fields were not set by script, typing them.", section, mismatchedFields.size(), fields.size());
+                mismatchedFields.forEach(field -> sendKeys(field.getLocator(), field.getIndex(), field.getContent()));
+            }
+        });
     }
 
     /**
@@ -653,6 +965,80 @@ public class WebUtils {
         return getAttribute(locator, 0, attribute);
     }
 
+    /**
+     * Gets the texts of all WebElements located by the specified locator in a single script call.
+     * Like {@link WebElement#getText()}, hidden elements have an empty text.
+     *
+     * @param locator      The By locator.
+     * @param milliseconds Optional timeout to wait for the first element, 3000 ms by default.
+     * @return The trimmed texts in document order, empty if no element is found.
+     */
+    public List<String> getTexts(By locator, int... milliseconds) {
+        return readAll("getTexts", locator, "element => " + TEXT_OF_ELEMENT, null, milliseconds);
+    }
+
+    /**
+     * Gets an attribute of all WebElements located by the specified locator in a single script call.
+     *
+     * @param locator      The By locator.
+     * @param attribute    The attribute name.
+     * @param milliseconds Optional timeout to wait for the first element, 3000 ms by default.
+     * @return The attribute values in document order, {@code null} for elements without the attribute.
+     */
+    public List<String> getAttributes(By locator, String attribute, int... milliseconds) {
+        return readAll("getAttributes", locator, "element => element.getAttribute(argument)", attribute, milliseconds);
+    }
+
+    /**
+     * Gets the current value of all input WebElements located by the specified locator in a single script call.
+     *
+     * @param locator      The By locator.
+     * @param milliseconds Optional timeout to wait for the first element, 3000 ms by default.
+     * @return The values in document order.
+     */
+    public List<String> getValues(By locator, int... milliseconds) {
+        return readAll("getValues", locator, "element => element.value == null ? null : String(element.value)", null, milliseconds);
+    }
+
+    /**
+     * Reads a table in a single script call, instead of one read per column.
+     * A cell is the value of an input, select or textarea it contains, or its text otherwise.
+     *
+     * @param rowLocator   The By locator of the rows.
+     * @param cellSelector The CSS selector of the cells within a row, passed to the script as an argument.
+     * @param milliseconds Optional timeout to wait for the first row, 3000 ms by default.
+     * @return The cells of each row, rows × columns, empty if no row is found.
+     */
+    public List<List<String>> getTableSnapshot(By rowLocator, String cellSelector, int... milliseconds) {
+        return readAll("getTableSnapshot", rowLocator, """
+                row => Array.from(row.querySelectorAll(argument)).map(element => {
+                    const field = element.matches('input, select, textarea') ? element : element.querySelector('input, select, textarea');
+                    return field ? field.value : %s;
+                })""".formatted(TEXT_OF_ELEMENT), cellSelector, milliseconds);
+    }
+
+    /**
+     * Finds all WebElements located by the specified locator and maps them in a single script call.
+     *
+     * @param action       The action name, for {@link WebDriverCommandCounter}.
+     * @param locator      The By locator.
+     * @param mapper       The JavaScript function applied to each element, which can read {@code argument}.
+     * @param argument     The value passed to the script as {@code argument}, so it is never pasted into the code.
+     * @param milliseconds Optional timeout to wait for the first element.
+     * @param <T>          The type of the mapped values.
+     * @return The mapped values in document order.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> readAll(String action, By locator, String mapper, Object argument, int... milliseconds) {
+        return WebDriverCommandCounter.count(action, () -> retryOnStaleElement(() -> {
+            List<WebElement> elements = getListElement(locator, milliseconds);
+            if (elements.isEmpty()) return List.of();
+
+            return (List<T>) ((JavascriptExecutor) driver)
+                    .executeScript("const argument = arguments[1]; return arguments[0].map(%s);".formatted(mapper), elements, argument);
+        }));
+    }
+
     /**
      * Clears the text from a web element specified by the given locator and index.
      * This method attempts to clear the field using keyboard events (DELETE/END).
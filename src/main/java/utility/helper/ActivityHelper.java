@@ -1,6 +1,6 @@
 package utility.helper;
 
-import static utility.WebDriverManager.appBundleId;
+import static utility.DriverContext.getAppBundleId;
 
 public class ActivityHelper {
     // Seller
@@ -15,6 +15,14 @@ public class ActivityHelper {
     public final static String sellerSupplierMgmtActivity = "com.mediastep.gosellseller.modules.supplier.supplier_management.SupplierManagementActivity";
 
     // Buyer
-    public final static String buyerSplashActivity = "%s.ui.modules.splash.SplashScreenActivity".formatted(appBundleId);
     public final static String buyerHomeActivity = "com.mediastep.gosell.ui.MainActivity";
+
+    /**
+     * The splash activity of the buyer app, whose package depends on the app opened by the current thread.
+     *
+     * @return The fully qualified activity name.
+     */
+    public static String buyerSplashActivity() {
+        return "%s.ui.modules.splash.SplashScreenActivity".formatted(getAppBundleId());
+    }
 }
@@ -1,19 +1,59 @@
 package utility.helper;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 import java.io.BufferedInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A utility class for downloading files from a URL and saving them to a specified local path.
+ * <p>
+ * App builds are kept in a content-addressed cache under {@code ~/.cache/app-artifacts}, see
+ * {@link #getCachedFile(String, String)}: each build is stored once as {@code <sha256><extension>}
+ * and revalidated with a conditional GET, so it is downloaded once per machine.
  */
 public class FileDownloadHelper {
 
+    private static final Logger logger = LogManager.getLogger();
+    private static final Path CACHE_DIRECTORY = Path.of(System.getProperty("user.home"), ".cache", "app-artifacts");
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final long TRANSFER_CHUNK_SIZE = 64L << 20;
+
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    // Artifacts already revalidated by this JVM, keyed by URL
+    private static final Map<String, Path> cachedFiles = new ConcurrentHashMap<>();
+
     /**
      * Downloads a file from the given URL and saves it to the specified destination.
      *
@@ -27,17 +67,310 @@ public class FileDownloadHelper {
         Path destination = Paths.get(destinationPath);
         Files.createDirectories(destination.getParent());
 
-        // Open the URL stream and download the file
-        try (BufferedInputStream in = new BufferedInputStream(new URI(fileUrl).toURL().openStream());
-             FileOutputStream fileOutputStream = new FileOutputStream(destination.toFile())) {
-
-            byte[] dataBuffer = new byte[1024];
-            int bytesRead;
-            while ((bytesRead = in.read(dataBuffer)) != -1) {
-                fileOutputStream.write(dataBuffer, 0, bytesRead);
-            }
+        // Download next to the destination and rename, so readers never see a partial file
+        Path tempFile = Files.createTempFile(destination.getParent(), destination.getFileName().toString(), ".part");
+        try (InputStream in = new URI(fileUrl).toURL().openStream();
+             FileChannel file = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            transfer(in, file, 0);
         } catch (URISyntaxException e) {
+            Files.deleteIfExists(tempFile);
             throw new RuntimeException("Invalid URL format: " + fileUrl, e);
         }
+        Files.move(tempFile, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the local copy of a file, downloading it only if the server has a newer version.
+     * <p>
+     * The cache entry of a URL remembers the ETag and Last-Modified of the downloaded version, which are sent
+     * as {@code If-None-Match} and {@code If-Modified-Since}. An interrupted download is resumed with a
+     * {@code Range} request if the server still has the same version. The download is checked against the length
+     * announced by the server and stored under its SHA-256, whose match is checked again before a cached copy is reused.
+     * Concurrent threads and processes on the machine wait for a single download.
+     *
+     * @param fileUrl   The URL of the file to be downloaded.
+     * @param extension The extension the local copy must have, e.g. {@code .apk}.
+     * @return The path of the local copy, never modified once written.
+     * @throws IOException If the file cannot be downloaded and no valid copy is cached.
+     */
+    public static Path getCachedFile(String fileUrl, String extension) throws IOException {
+        try {
+            return cachedFiles.computeIfAbsent(fileUrl, url -> {
+                try {
+                    return revalidate(url, extension);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Revalidates the cached copy of a URL while holding the machine-wide lock of its cache entry.
+     *
+     * @param fileUrl   The URL of the file.
+     * @param extension The extension of the local copy.
+     * @return The path of the up-to-date local copy.
+     * @throws IOException If the file cannot be downloaded and no valid copy is cached.
+     */
+    private static Path revalidate(String fileUrl, String extension) throws IOException {
+        Files.createDirectories(CACHE_DIRECTORY);
+        String key = sha256(fileUrl.getBytes(StandardCharsets.UTF_8));
+
+        try (FileChannel lockChannel = FileChannel.open(CACHE_DIRECTORY.resolve(key + ".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = lockChannel.lock()) {
+            Path metadataFile = CACHE_DIRECTORY.resolve(key + ".properties");
+            Properties metadata = readMetadata(metadataFile);
+            Path cachedFile = getVerifiedFile(metadata, extension);
+
+            try {
+                return download(fileUrl, extension, key, metadataFile, metadata, cachedFile);
+            } catch (IOException | InterruptedException e) {
+                if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+                if (cachedFile == null) throw new IOException("Failed to download " + fileUrl, e);
+
+                // Offline or the server failed, the last downloaded build is better than no app
+                logger.warn("Failed to revalidate {}, using cached copy {}: {}", fileUrl, cachedFile, e.getMessage());
+                return cachedFile;
+            }
+        }
+    }
+
+    /**
+     * Sends a conditional, possibly ranged, GET and stores the new version if the server returns one.
+     *
+     * @param fileUrl      The URL of the file.
+     * @param extension    The extension of the local copy.
+     * @param key          The cache key of the URL.
+     * @param metadataFile The metadata file of the cache entry.
+     * @param metadata     The metadata of the cache entry, updated in place.
+     * @param cachedFile   The verified cached copy, or {@code null} if there is none.
+     * @return The path of the up-to-date local copy.
+     * @throws IOException          If the download fails or does not match the announced length.
+     * @throws InterruptedException If the thread is interrupted while waiting for the server.
+     */
+    private static Path download(String fileUrl, String extension, String key, Path metadataFile,
+                                 Properties metadata, Path cachedFile) throws IOException, InterruptedException {
+        long startTime = System.nanoTime();
+        Path partFile = CACHE_DIRECTORY.resolve(key + ".part");
+        long partSize = Files.isRegularFile(partFile) ? Files.size(partFile) : 0;
+        String partValidator = metadata.getProperty("partValidator");
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(fileUrl)).GET();
+        if (cachedFile != null) {
+            setHeaderIfPresent(request, "If-None-Match", metadata.getProperty("etag"));
+            setHeaderIfPresent(request, "If-Modified-Since", metadata.getProperty("lastModified"));
+        }
+        boolean resuming = partSize > 0 && partValidator != null;
+        if (resuming) {
+            request.header("Range", "bytes=%d-".formatted(partSize));
+            request.header("If-Range", partValidator);
+        }
+
+        HttpResponse<InputStream> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            if (response.statusCode() == 304 && cachedFile != null) {
+                logger.info("App artifact is up to date: {}", cachedFile);
+                return cachedFile;
+            }
+
+            long position;
+            long expectedSize;
+            if (response.statusCode() == 206 && resuming) {
+                // Content-Range: bytes <start>-<end>/<total>
+                String contentRange = response.headers().firstValue("Content-Range").orElse("");
+                if (!contentRange.startsWith("bytes %d-".formatted(partSize))) {
+                    Files.deleteIfExists(partFile);
+                    throw new IOException("Unexpected Content-Range '%s' when resuming at byte %d".formatted(contentRange, partSize));
+                }
+                position = partSize;
+                expectedSize = Long.parseLong(contentRange.substring(contentRange.lastIndexOf('/') + 1));
+            } else if (response.statusCode() == 200) {
+                position = 0;
+                expectedSize = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+            } else {
+                // A range the server cannot satisfy means the partial download is unusable
+                if (response.statusCode() == 416) Files.deleteIfExists(partFile);
+                throw new IOException("Unexpected HTTP status %d for %s".formatted(response.statusCode(), fileUrl));
+            }
+
+            // Remember the version being downloaded, so an interrupted download can be resumed
+            String etag = response.headers().firstValue("ETag").orElse(null);
+            String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+            String validator = etag != null ? etag : lastModified;
+            if (validator != null) {
+                metadata.setProperty("partValidator", validator);
+            } else {
+                metadata.remove("partValidator");
+            }
+            writeMetadata(metadataFile, metadata);
+
+            try (FileChannel file = FileChannel.open(partFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                file.truncate(position);
+                transfer(body, file, position);
+            }
+            long size = Files.size(partFile);
+            if (expectedSize >= 0 && size != expectedSize) {
+                throw new IOException("Downloaded %d bytes of %s, expected %d".formatted(size, fileUrl, expectedSize));
+            }
+
+            // Store the download under its content hash
+            String sha256 = sha256(partFile);
+            Path artifact = CACHE_DIRECTORY.resolve(sha256 + extension);
+            Files.move(partFile, artifact, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            metadata.remove("partValidator");
+            setPropertyIfPresent(metadata, "etag", etag);
+            setPropertyIfPresent(metadata, "lastModified", lastModified);
+            metadata.setProperty("sha256", sha256);
+            metadata.setProperty("url", fileUrl);
+            writeMetadata(metadataFile, metadata);
+
+            logger.info("Downloaded app artifact {} ({} MB{}) in {} ms: {}", fileUrl, size >> 20,
+                    position > 0 ? ", resumed at %d MB".formatted(position >> 20) : "",
+                    (System.nanoTime() - startTime) / 1_000_000, artifact);
+            return artifact;
+        }
+    }
+
+    /**
+     * Copies a stream into a file channel with large transfers.
+     *
+     * @param in       The source stream.
+     * @param file     The destination channel.
+     * @param position The position in the file to write from.
+     * @throws IOException If an I/O error occurs.
+     */
+    private static void transfer(InputStream in, FileChannel file, long position) throws IOException {
+        ReadableByteChannel source = Channels.newChannel(new BufferedInputStream(in, BUFFER_SIZE));
+        long transferred;
+        while ((transferred = file.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+            position += transferred;
+        }
+    }
+
+    /**
+     * Returns the cached copy of an entry if its content still matches its SHA-256.
+     *
+     * @param metadata  The metadata of the cache entry.
+     * @param extension The extension of the local copy.
+     * @return The path of the cached copy, or {@code null} if it is missing or corrupted.
+     * @throws IOException If the cached copy cannot be read.
+     */
+    private static Path getVerifiedFile(Properties metadata, String extension) throws IOException {
+        String sha256 = metadata.getProperty("sha256");
+        if (sha256 == null) return null;
+
+        Path cachedFile = CACHE_DIRECTORY.resolve(sha256 + extension);
+        if (!Files.isRegularFile(cachedFile)) return null;
+        if (!sha256.equals(sha256(cachedFile))) {
+            logger.warn("Cached app artifact {} is corrupted, downloading it again.", cachedFile);
+            Files.delete(cachedFile);
+            return null;
+        }
+        return cachedFile;
+    }
+
+    /**
+     * Computes the SHA-256 of a file.
+     *
+     * @param file The file.
+     * @return The hex-encoded hash.
+     * @throws IOException If the file cannot be read.
+     */
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest = newSha256Digest();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Computes the SHA-256 of bytes.
+     *
+     * @param bytes The bytes.
+     * @return The hex-encoded hash.
+     */
+    private static String sha256(byte[] bytes) {
+        return HexFormat.of().formatHex(newSha256Digest().digest(bytes));
+    }
+
+    /**
+     * @return A new SHA-256 {@link MessageDigest}.
+     */
+    private static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Reads the metadata of a cache entry.
+     *
+     * @param metadataFile The metadata file.
+     * @return The metadata, empty if the file does not exist or cannot be read.
+     */
+    private static Properties readMetadata(Path metadataFile) {
+        Properties metadata = new Properties();
+        if (Files.isRegularFile(metadataFile)) {
+            try (InputStream input = Files.newInputStream(metadataFile)) {
+                metadata.load(input);
+            } catch (IOException e) {
+                logger.warn("Failed to read app artifact metadata {}: {}", metadataFile, e.getMessage());
+            }
+        }
+        return metadata;
+    }
+
+    /**
+     * Persists the metadata of a cache entry, replacing the file atomically.
+     *
+     * @param metadataFile The metadata file.
+     * @param metadata     The metadata to persist.
+     * @throws IOException If the metadata cannot be written.
+     */
+    private static void writeMetadata(Path metadataFile, Properties metadata) throws IOException {
+        Path tempFile = Files.createTempFile(CACHE_DIRECTORY, metadataFile.getFileName().toString(), ".tmp");
+        try (OutputStream output = Files.newOutputStream(tempFile)) {
+            metadata.store(output, "App artifact cache entry");
+        }
+        Files.move(tempFile, metadataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Sets a request header if the value is known.
+     *
+     * @param request The request builder.
+     * @param name    The header name.
+     * @param value   The header value, or {@code null}.
+     */
+    private static void setHeaderIfPresent(HttpRequest.Builder request, String name, String value) {
+        if (value != null) request.header(name, value);
+    }
+
+    /**
+     * Sets a metadata property, or removes it if the value is unknown.
+     *
+     * @param properties The metadata.
+     * @param name       The property name.
+     * @param value      The property value, or {@code null}.
+     */
+    private static void setPropertyIfPresent(Properties properties, String name, String value) {
+        if (value != null) {
+            properties.setProperty(name, value);
+        } else {
+            properties.remove(name);
+        }
     }
 }
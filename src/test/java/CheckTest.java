@@ -13,6 +13,6 @@ public class CheckTest extends BaseTest {
     @Test
     void loc_txt() throws IOException, URISyntaxException {
       initDriver("BUYER", "ANDROID");
-      driver.quit();
+      quitDrivers();
     }
 }
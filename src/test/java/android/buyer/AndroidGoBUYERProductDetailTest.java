@@ -37,7 +37,7 @@ public class AndroidGoBUYERProductDetailTest extends BaseTest {
     @BeforeClass
     void setup() throws IOException, URISyntaxException {
         initDriver("BUYER", "ANDROID");
-        new AndroidBuyerLoginScreen(driver).performLogin(buyerCredentials);
+        new AndroidBuyerLoginScreen(getDriver()).performLogin(buyerCredentials);
         this.customerId = new APIBuyerLogin().getBuyerInformation(buyerCredentials).getId();
         this.apiCreateProduct = new APICreateProduct(sellerCredentials);
         this.apiCreateFlashSale = new APICreateFlashSale(sellerCredentials);
@@ -46,9 +46,9 @@ public class AndroidGoBUYERProductDetailTest extends BaseTest {
         this.apiUpdateBranch = new APIUpdateBranchInformation(sellerCredentials);
     }
 
-    @AfterClass
+    @AfterClass(alwaysRun = true)
     void tearDown() {
-        if (driver != null)   driver.quit();
+        quitDrivers();
     }
 
     /**
@@ -315,7 +315,7 @@ public class AndroidGoBUYERProductDetailTest extends BaseTest {
      * @param productId The ID of the product to verify.
      */
     private void verifyProductInformation(int productId) {
-        new AndroidBuyerProductDetailScreen(driver).navigateProductDetailPage(sellerCredentials, productId)
+        new AndroidBuyerProductDetailScreen(getDriver()).navigateProductDetailPage(sellerCredentials, productId)
                 .verifyProductInformation(customerId);
     }
 }
\ No newline at end of file
@@ -28,10 +28,19 @@ public class AndroidGoSELLERCreateProductTest extends BaseTest {
     @BeforeClass
     void setup() throws IOException, URISyntaxException {
         initDriver("SELLER", "ANDROID");
-        new AndroidSellerLoginScreen(driver).performLogin(sellerCredentials);
+        new AndroidSellerLoginScreen(getDriver()).performLogin(sellerCredentials);
         // Change application language
-        new AndroidSellerHomeScreen(driver).changeApplicationLanguage();
-        productScreen = new AndroidBaseProductScreen(driver).fetchInformation();
+        new AndroidSellerHomeScreen(getDriver()).changeApplicationLanguage();
+        productScreen = new AndroidBaseProductScreen(getDriver()).fetchInformation();
+    }
+
+    /**
+     * Cleans up after the test suite by quitting the WebDriver instance.
+     * This method runs after all tests in the suite are completed.
+     */
+    @AfterClass(alwaysRun = true)
+    void tearDown() {
+        quitDrivers();
     }
 
     /**
@@ -2,6 +2,7 @@ package android.seller;
 
 import baseTest.BaseTest;
 import org.apache.logging.log4j.LogManager;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -18,12 +19,21 @@ public class AndroidGoSELLERProductManagementTest extends BaseTest {
     @BeforeClass
     void setup() throws URISyntaxException, IOException {
         initDriver("SELLER", "ANDROID");
-        new AndroidSellerLoginScreen(driver).performLogin(sellerCredentials);
+        new AndroidSellerLoginScreen(getDriver()).performLogin(sellerCredentials);
         // Change application language
-        new AndroidSellerHomeScreen(driver).changeApplicationLanguage();
+        new AndroidSellerHomeScreen(getDriver()).changeApplicationLanguage();
 
         // init product page POM
-        productManagementScreen = new AndroidProductManagementScreen(driver);
+        productManagementScreen = new AndroidProductManagementScreen(getDriver());
+    }
+
+    /**
+     * Cleans up after the test suite by quitting the WebDriver instance.
+     * This method runs after all tests in the suite are completed.
+     */
+    @AfterClass(alwaysRun = true)
+    void tearDown() {
+        quitDrivers();
     }
 
     /**
@@ -33,22 +33,22 @@ public class AndroidGoSELLERSupplierTest extends BaseTest {
         initDriver("SELLER", "ANDROID");
 
         // Log into the goSELLER
-        new AndroidSellerLoginScreen(driver).performLogin(sellerCredentials);
+        new AndroidSellerLoginScreen(getDriver()).performLogin(sellerCredentials);
 
         // Change application language
-        new AndroidSellerHomeScreen(driver).changeApplicationLanguage();
+        new AndroidSellerHomeScreen(getDriver()).changeApplicationLanguage();
 
         // Initialize the BaseSupplierScreen instance
-        baseSupplierScreen = new AndroidBaseSupplierScreen(driver);
+        baseSupplierScreen = new AndroidBaseSupplierScreen(getDriver());
     }
 
     /**
      * Cleans up after the test suite by quitting the WebDriver instance.
      * This method runs after all tests in the suite are completed.
      */
-    @AfterClass
+    @AfterClass(alwaysRun = true)
     void tearDown() {
-        if (driver != null) driver.quit();
+        quitDrivers();
     }
 
     /**
@@ -3,23 +3,30 @@ package baseTest;
 import api.seller.login.APISellerLogin;
 import org.openqa.selenium.WebDriver;
 import org.testng.annotations.Listeners;
+import utility.BrowserSessionPool;
+import utility.DevicePool;
+import utility.DriverContext;
 import utility.ListenerUtils;
+import utility.MobileSessionPool;
 import utility.PropertiesUtils;
-import utility.WebDriverManager;
 import utility.helper.FileDownloadHelper;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Listeners(ListenerUtils.class)
 public class BaseTest {
-    public WebDriver driver;
+    // Drivers opened by the threads running this test class
+    private final Set<WebDriver> openedDrivers = ConcurrentHashMap.newKeySet();
     public APISellerLogin.Credentials sellerCredentials = PropertiesUtils.getSellerCredentials();
     public APISellerLogin.Credentials buyerCredentials = PropertiesUtils.getBuyerCredentials();
 
     /**
-     * Initializes the driver based on the given test type and platform.
+     * Initializes the driver based on the given test type and platform and binds it to the current thread.
      * It handles Android, iOS, and Web platforms and downloads the appropriate app based on the test type (SELLER/BUYER).
+     * Mobile drivers run on a device leased from {@link DevicePool} until {@link #quitDrivers()}.
      *
      * @param testType The type of the test (SELLER or BUYER).
      * @param platform The platform to run the test on (WEB, ANDROID, IOS).
@@ -28,28 +35,45 @@ public class BaseTest {
      * @throws IllegalArgumentException If an unsupported platform is provided.
      */
     public void initDriver(String testType, String platform) throws IOException, URISyntaxException {
+        WebDriver driver;
         switch (platform) {
             case "WEB":
-                driver = WebDriverManager.getWebDriver();
+                driver = BrowserSessionPool.acquire();
                 break;
 
             case "ANDROID":
-                String androidAppPath = System.getProperty("user.dir") + "/app/app.apk";
-                String androidAppURL = getAndroidAppURL(testType);
-                downloadAppFile(androidAppURL, androidAppPath);
-                driver = WebDriverManager.getAndroidDriver(PropertiesUtils.getAndroidEmulatorUdid(), androidAppPath);
+                String androidAppPath = downloadAppFile(getAndroidAppURL(testType), ".apk");
+                driver = MobileSessionPool.acquire(DevicePool.lease(platform), androidAppPath);
                 break;
 
             case "IOS":
-                String iosAppPath = System.getProperty("user.dir") + "/app/app.zip";
-                String iosAppURL = getIosAppURL(testType);
-                downloadAppFile(iosAppURL, iosAppPath);
-                driver = WebDriverManager.getIOSDriver(PropertiesUtils.getIOSSimulatorUdid(), iosAppPath);
+                String iosAppPath = downloadAppFile(getIosAppURL(testType), ".zip");
+                driver = MobileSessionPool.acquire(DevicePool.lease(platform), iosAppPath);
                 break;
 
             default:
                 throw new IllegalArgumentException("Unsupported platform: " + platform);
         }
+
+        DriverContext.setDriver(driver, MobileSessionPool.getAppBundleId(driver));
+        openedDrivers.add(driver);
+    }
+
+    /**
+     * Returns the driver bound to the current test thread.
+     *
+     * @return The {@link WebDriver} opened by {@link #initDriver(String, String)} on this thread.
+     */
+    protected WebDriver getDriver() {
+        return DriverContext.getDriver();
+    }
+
+    /**
+     * Quits every driver opened by the threads running this test class.
+     */
+    protected void quitDrivers() {
+        openedDrivers.forEach(DriverContext::quitDriver);
+        openedDrivers.clear();
     }
 
     /**
@@ -73,13 +97,14 @@ public class BaseTest {
     }
 
     /**
-     * Helper method to download the app file.
+     * Helper method to download the app file, once per build and machine.
      *
-     * @param appURL The URL to download the app from.
-     * @param appPath The local path to save the app.
+     * @param appURL    The URL to download the app from.
+     * @param extension The extension of the app file, e.g. {@code .apk}.
+     * @return The local path of the app in the artifact cache.
      * @throws IOException If there's an issue with downloading the app file.
      */
-    private void downloadAppFile(String appURL, String appPath) throws IOException {
-        FileDownloadHelper.downloadFile(appURL, appPath);
+    private String downloadAppFile(String appURL, String extension) throws IOException {
+        return FileDownloadHelper.getCachedFile(appURL, extension).toString();
     }
 }
@@ -40,7 +40,7 @@ public class IOSGoBUYERProductDetailTest extends BaseTest {
     @BeforeClass
     void setup() throws IOException, URISyntaxException {
         initDriver("BUYER", "IOS");
-        new IOSBuyerLoginScreen(driver).performLogin(buyerCredentials);
+        new IOSBuyerLoginScreen(getDriver()).performLogin(buyerCredentials);
         this.customerId = new APIBuyerLogin().getBuyerInformation(buyerCredentials).getId();
         this.apiCreateProduct = new APICreateProduct(sellerCredentials);
         this.apiCreateFlashSale = new APICreateFlashSale(sellerCredentials);
@@ -49,9 +49,9 @@ public class IOSGoBUYERProductDetailTest extends BaseTest {
         this.apiUpdateBranch = new APIUpdateBranchInformation(sellerCredentials);
     }
 
-    @AfterClass
+    @AfterClass(alwaysRun = true)
     void tearDown() {
-        if (driver != null)   driver.quit();
+        quitDrivers();
     }
 
     /**
@@ -318,7 +318,7 @@ public class IOSGoBUYERProductDetailTest extends BaseTest {
      * @param productId The ID of the product to verify.
      */
     private void verifyProductInformation(int productId) {
-        new IOSBuyerProductDetailScreen(driver).navigateProductDetailPage(sellerCredentials, productId)
+        new IOSBuyerProductDetailScreen(getDriver()).navigateProductDetailPage(sellerCredentials, productId)
                 .verifyProductInformation(customerId);
     }
 }
\ No newline at end of file
@@ -23,10 +23,19 @@ public class IOSGoSELLERCreateProductTest extends BaseTest {
     @BeforeClass
     void setup() throws IOException, URISyntaxException {
         initDriver("SELLER", "IOS");
-        new LoginScreen(driver).performLogin(sellerCredentials);
+        new LoginScreen(getDriver()).performLogin(sellerCredentials);
         // Change application language
-        new HomeScreen(driver).changeApplicationLanguage();
-        productScreen = new IOSBaseProductScreen(driver).fetchInformation();
+        new HomeScreen(getDriver()).changeApplicationLanguage();
+        productScreen = new IOSBaseProductScreen(getDriver()).fetchInformation();
+    }
+
+    /**
+     * Cleans up after the test suite by quitting the WebDriver instance.
+     * This method runs after all tests in the suite are completed.
+     */
+    @AfterClass(alwaysRun = true)
+    void tearDown() {
+        quitDrivers();
     }
 
     /**
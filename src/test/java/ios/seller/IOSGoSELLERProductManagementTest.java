@@ -2,6 +2,7 @@ package ios.seller;
 
 import baseTest.BaseTest;
 import org.apache.logging.log4j.LogManager;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -18,12 +19,21 @@ public class IOSGoSELLERProductManagementTest extends BaseTest {
     @BeforeClass
     void setup() throws URISyntaxException, IOException {
         initDriver("SELLER", "IOS");
-        new LoginScreen(driver).performLogin(sellerCredentials);
+        new LoginScreen(getDriver()).performLogin(sellerCredentials);
         // Change application language
-        new HomeScreen(driver).changeApplicationLanguage();
+        new HomeScreen(getDriver()).changeApplicationLanguage();
 
         // init product page POM
-        productManagementScreen = new IOSProductManagementScreen(driver);
+        productManagementScreen = new IOSProductManagementScreen(getDriver());
+    }
+
+    /**
+     * Cleans up after the test suite by quitting the WebDriver instance.
+     * This method runs after all tests in the suite are completed.
+     */
+    @AfterClass(alwaysRun = true)
+    void tearDown() {
+        quitDrivers();
     }
 
     /**
@@ -33,22 +33,22 @@ public class IOSGoSELLERSupplierTest extends BaseTest {
         initDriver("SELLER", "IOS");
 
         // Log into the goSELLER
-        new LoginScreen(driver).performLogin(sellerCredentials);
+        new LoginScreen(getDriver()).performLogin(sellerCredentials);
 
         // Change application language
-        new HomeScreen(driver).changeApplicationLanguage();
+        new HomeScreen(getDriver()).changeApplicationLanguage();
 
         // Initialize the BaseSupplierScreen instance
-        baseSupplierScreen = new IOSBaseSupplierScreen(driver);
+        baseSupplierScreen = new IOSBaseSupplierScreen(getDriver());
     }
 
     /**
      * Cleans up after the test suite by quitting the WebDriver instance.
      * This method runs after all tests in the suite are completed.
      */
-    @AfterClass
+    @AfterClass(alwaysRun = true)
     void tearDown() {
-        if (driver != null) driver.quit();
+        quitDrivers();
     }
 
     /**
@@ -40,7 +40,7 @@ public class StorefrontProductDetailTest extends BaseTest {
     @BeforeClass
     void setup() throws IOException, URISyntaxException {
         initDriver("BUYER", "WEB");
-        new StorefrontLoginPage(driver).loginStorefrontByJS(buyerCredentials);
+        new StorefrontLoginPage(getDriver()).loginStorefrontByJS(buyerCredentials);
         this.customerId = new APIBuyerLogin().getBuyerInformation(buyerCredentials).getId();
         this.apiCreateProduct = new APICreateProduct(sellerCredentials);
         this.apiCreateFlashSale = new APICreateFlashSale(sellerCredentials);
@@ -51,7 +51,7 @@ public class StorefrontProductDetailTest extends BaseTest {
 
     @AfterClass
     void tearDown() {
-        if (driver != null)  driver.quit();
+        quitDrivers();
     }
 
     /**
@@ -315,7 +315,7 @@ public class StorefrontProductDetailTest extends BaseTest {
      * @param productId The ID of the product to verify.
      */
     private void verifyProductInformation(int productId) {
-        new ProductDetailPage(driver).navigateProductDetailPage(sellerCredentials, productId)
+        new ProductDetailPage(getDriver()).navigateProductDetailPage(sellerCredentials, productId)
                 .verifyProductInformation(customerId);
     }
 }
\ No newline at end of file
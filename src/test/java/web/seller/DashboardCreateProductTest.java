@@ -3,47 +3,59 @@ package web.seller;
 import baseTest.BaseTest;
 import org.apache.commons.lang.math.RandomUtils;
 import org.apache.logging.log4j.LogManager;
+import org.openqa.selenium.WebDriver;
 import org.testng.annotations.AfterClass;
-import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import pages.web.seller.login.DashboardLoginPage;
 import pages.web.seller.product.all_products.BaseProductPage;
+import utility.DriverContext;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Test class for creating products on the seller dashboard.
  * This class tests various scenarios for product creation
  * using different configurations of product attributes.
+ * <p>
+ * Data-provider rows run in parallel, each worker thread uses its own browser and product page.
  */
 public class DashboardCreateProductTest extends BaseTest {
-    private BaseProductPage productPage;
+    private static final Function<WebDriver, BaseProductPage> PRODUCT_PAGE = BaseProductPage::new;
 
     /**
-     * Sets up the test environment before any tests are run.
-     * Initializes the WebDriver and logs into the dashboard.
+     * Returns the product page of the current thread.
+     * On the first call from a thread, opens a browser, fetches the store information and logs into the dashboard.
      *
-     * @throws IOException       if an error occurs while initializing the WebDriver or loading credentials.
-     * @throws URISyntaxException if there is an error in parsing the URI for the resources.
+     * @return The {@link BaseProductPage} bound to the current thread's driver.
      */
-    @BeforeClass
-    void setup() throws IOException, URISyntaxException {
-        initDriver("SELLER", "WEB");
-        productPage = new BaseProductPage(driver).fetchInformation(sellerCredentials);
-        new DashboardLoginPage(driver).loginDashboardByJs(sellerCredentials);
+    private BaseProductPage productPage() {
+        if (!DriverContext.hasDriver()) {
+            try {
+                initDriver("SELLER", "WEB");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException(e);
+            }
+            DriverContext.page(PRODUCT_PAGE).fetchInformation(sellerCredentials);
+            new DashboardLoginPage(getDriver()).loginDashboardByJs(sellerCredentials);
+        }
+        return DriverContext.page(PRODUCT_PAGE);
     }
 
     /**
-     * Cleans up after the test suite by quitting the WebDriver instance.
+     * Cleans up after the test suite by quitting the WebDriver instances of all threads.
      * This method runs after all tests in the suite are completed.
      */
     @AfterClass
     void tearDown() {
-        if (driver != null) driver.quit();
+        quitDrivers();
     }
 
     /**
@@ -82,7 +94,7 @@ public class DashboardCreateProductTest extends BaseTest {
      *
      * @return A 2D array of test data objects representing different product configurations.
      */
-    @DataProvider(name = "regressionTestData")
+    @DataProvider(name = "regressionTestData", parallel = true)
     public Object[][] regressionTestData() {
         return new Object[][]{
                 // G1: Without variation, manage inventory by Product
@@ -131,7 +143,7 @@ public class DashboardCreateProductTest extends BaseTest {
      *
      * @return A 2D array of test data objects for smoke tests.
      */
-    @DataProvider(name = "smokeTestData")
+    @DataProvider(name = "smokeTestData", parallel = true)
     Object[][] smokeTestData() {
         List<String> testNames = List.of("G1_01: Create product without variation, managed by Product and no discount",
                 "G1_05: Create product without variation, managed by Product and managed by lot",
@@ -223,6 +235,7 @@ public class DashboardCreateProductTest extends BaseTest {
         LogManager.getLogger().info("Running test: {}", testName);
 
         // Set product attributes based on test data
+        BaseProductPage productPage = productPage();
         productPage.setNoDiscount(noDiscount);
         productPage.setNoCost(noCostPrice);
         productPage.setHasDimension(hasDimension);
@@ -254,7 +267,7 @@ public class DashboardCreateProductTest extends BaseTest {
      *                    Branches without provided stock will default to 0.
      */
     private void createProduct(boolean hasModel, boolean isIMEI, int... branchStock) {
-        productPage.navigateToCreateProductPage()
+        productPage().navigateToCreateProductPage()
                 .createProduct(hasModel, isIMEI, branchStock)
                 .verifyProductInformation();
     }
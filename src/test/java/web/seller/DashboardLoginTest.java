@@ -23,7 +23,7 @@ public class DashboardLoginTest extends BaseTest {
     @BeforeClass
     void setup() throws IOException, URISyntaxException {
         initDriver("SELLER", "WEB");
-        loginPage = new DashboardLoginPage(driver);
+        loginPage = new DashboardLoginPage(getDriver());
     }
 
     /**
@@ -31,7 +31,7 @@ public class DashboardLoginTest extends BaseTest {
      */
     @AfterClass
     void tearDown() {
-        if (driver != null) driver.quit();
+        quitDrivers();
     }
 
     /**
@@ -16,8 +16,8 @@ public class DashboardProductManagementTest extends BaseTest {
     @BeforeClass
     void setup() throws IOException, URISyntaxException {
         initDriver("SELLER", "WEB");
-        new DashboardLoginPage(driver).loginDashboardByJs(sellerCredentials);
-        productManagementPage = new ProductManagementPage(driver).fetchInformation(sellerCredentials);
+        new DashboardLoginPage(getDriver()).loginDashboardByJs(sellerCredentials);
+        productManagementPage = new ProductManagementPage(getDriver()).fetchInformation(sellerCredentials);
     }
 
     /**
@@ -26,7 +26,7 @@ public class DashboardProductManagementTest extends BaseTest {
      */
     @AfterClass
     void tearDown() {
-        if (driver != null) driver.quit();
+        quitDrivers();
     }
 
     @DataProvider(name = "bulkUpdateActions")
@@ -32,10 +32,10 @@ public class DashboardSupplierTest extends BaseTest {
         initDriver("SELLER", "WEB");
 
         // Log into the dashboard
-        new DashboardLoginPage(driver).loginDashboardByJs(sellerCredentials);
+        new DashboardLoginPage(getDriver()).loginDashboardByJs(sellerCredentials);
 
         // Initialize the BaseSupplierPage instance
-        baseSupplierPage = new BaseSupplierPage(driver);
+        baseSupplierPage = new BaseSupplierPage(getDriver());
     }
 
     /**
@@ -44,7 +44,7 @@ public class DashboardSupplierTest extends BaseTest {
      */
     @AfterClass
     void tearDown() {
-        if (driver != null) driver.quit();
+        quitDrivers();
     }
 
     /**
@@ -32,8 +32,8 @@ public class DashboardUpdateProductTest extends BaseTest {
     @BeforeClass
     void setup() throws IOException, URISyntaxException {
         initDriver("SELLER", "WEB");
-        productPage = new BaseProductPage(driver).fetchInformation(sellerCredentials);
-        new DashboardLoginPage(driver).loginDashboardByJs(sellerCredentials);
+        productPage = new BaseProductPage(getDriver()).fetchInformation(sellerCredentials);
+        new DashboardLoginPage(getDriver()).loginDashboardByJs(sellerCredentials);
         apiCreateProduct = new APICreateProduct(sellerCredentials);
     }
 
@@ -43,7 +43,7 @@ public class DashboardUpdateProductTest extends BaseTest {
      */
     @AfterClass
     void tearDown() {
-        if (driver != null) driver.quit();
+        quitDrivers();
     }
 
     /**